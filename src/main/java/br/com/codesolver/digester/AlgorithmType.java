@@ -10,6 +10,26 @@ public enum AlgorithmType {
 	
 	/** Algorítimo para cálculo de CRC 16. */
 	CRC16("CRC16"),
+	/** Algorítimo para cálculo de CRC-16/CCITT-FALSE (verificação 0x29B1). */
+	CRC16_CCITT_FALSE("CRC-16/CCITT-FALSE"),
+	/** Algorítimo para cálculo de CRC-16/MODBUS (verificação 0x4B37). */
+	CRC16_MODBUS("CRC-16/MODBUS"),
+	/** Algorítimo para cálculo de CRC-16/XMODEM (verificação 0x31C3). */
+	CRC16_XMODEM("CRC-16/XMODEM"),
+	/** Algorítimo para cálculo de CRC-16/KERMIT (verificação 0x2189). */
+	CRC16_KERMIT("CRC-16/KERMIT"),
+	/** Algorítimo para cálculo de CRC 32, intrínseco da JVM. */
+	CRC32("CRC32"),
+	/** Algorítimo para cálculo de CRC 32C (Castagnoli), intrínseco da JVM. */
+	CRC32C("CRC32C"),
+	/** Algorítimo para cálculo de Adler-32, intrínseco da JVM. */
+	ADLER32("Adler32"),
+	/** HASH não criptográfico xxHash64. */
+	XXHASH64("XXH64"),
+	/** HASH não criptográfico MurmurHash3 x64 de 128 bits. */
+	MURMUR3_128("MURMUR3_128"),
+	/** Hash BLAKE3, implementado em Java puro. */
+	BLAKE3("BLAKE3"),
 	/** Hash MD2. */
 	MD2("MD2"),
 	/** Hash MD5. */
@@ -35,7 +55,17 @@ public enum AlgorithmType {
 	/** Hash SHAKE128-256. */
 	SHAKE128_256("SHAKE128-256"),
 	/** Hash SHAKE256-512. */
-	SHAKE256_512("SHAKE256-512");
+	SHAKE256_512("SHAKE256-512"),
+	/** HMAC com SHA-1, que exige chave. */
+	HMAC_SHA1("HmacSHA1"),
+	/** HMAC com SHA-224, que exige chave. */
+	HMAC_SHA224("HmacSHA224"),
+	/** HMAC com SHA-256, que exige chave. */
+	HMAC_SHA256("HmacSHA256"),
+	/** HMAC com SHA-384, que exige chave. */
+	HMAC_SHA384("HmacSHA384"),
+	/** HMAC com SHA-512, que exige chave. */
+	HMAC_SHA512("HmacSHA512");
 	
 	/** Nome do algorítimo. */
 	private String value;
@@ -0,0 +1,186 @@
+package br.com.codesolver.digester;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+/**
+ * Parâmetros de um algorítimo de CRC, no modelo de Rocksoft: largura,
+ * polinômio, valor inicial, reflexão da entrada e da saída e valor de
+ * finalização (XOR).
+ *
+ * <p>
+ * Instâncias são imutáveis e comparáveis, e são usadas como chave do cache de
+ * tabelas de {@link DigesterCRCEngine}. O nome é apenas descritivo e não
+ * participa da comparação.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFactory#getCRCInstance(CRCParameters)
+ */
+public final class CRCParameters {
+
+	/** CRC-16/CCITT-FALSE (verificação 0x29B1). */
+	public static final CRCParameters CRC16_CCITT_FALSE =
+			new CRCParameters("CRC-16/CCITT-FALSE", 16, 0x1021, 0xFFFF, false, false, 0);
+
+	/** CRC-16/MODBUS (verificação 0x4B37). */
+	public static final CRCParameters CRC16_MODBUS =
+			new CRCParameters("CRC-16/MODBUS", 16, 0x8005, 0xFFFF, true, true, 0);
+
+	/** CRC-16/XMODEM, o mesmo de {@link DigesterCRC16} (verificação 0x31C3). */
+	public static final CRCParameters CRC16_XMODEM =
+			new CRCParameters("CRC-16/XMODEM", 16, 0x1021, 0, false, false, 0);
+
+	/** CRC-16/KERMIT (verificação 0x2189). */
+	public static final CRCParameters CRC16_KERMIT =
+			new CRCParameters("CRC-16/KERMIT", 16, 0x1021, 0, true, true, 0);
+
+	/** Nome do algorítimo. */
+	private final String name;
+
+	/** Largura do CRC em bits. */
+	private final int width;
+
+	/** Polinômio gerador, sem o termo de maior grau. */
+	private final long polynomial;
+
+	/** Valor inicial do registrador. */
+	private final long initial;
+
+	/** Se cada byte de entrada é refletido. */
+	private final boolean reflectIn;
+
+	/** Se o resultado é refletido antes da finalização. */
+	private final boolean reflectOut;
+
+	/** Valor aplicado com XOR ao resultado. */
+	private final long xorOut;
+
+	/**
+	 * Define os parâmetros de um algorítimo de CRC.
+	 *
+	 * @param name Nome do algorítimo.
+	 * @param width Largura do CRC em bits, de 1 a 64.
+	 * @param polynomial Polinômio gerador, sem o termo de maior grau.
+	 * @param initial Valor inicial do registrador.
+	 * @param reflectIn Se cada byte de entrada é refletido.
+	 * @param reflectOut Se o resultado é refletido antes da finalização.
+	 * @param xorOut Valor aplicado com XOR ao resultado.
+	 * @throws IllegalArgumentException Largura inválida ou valores maiores que a largura.
+	 */
+	public CRCParameters(String name, int width, long polynomial, long initial, boolean reflectIn,
+			boolean reflectOut, long xorOut) {
+		if (width < 1 || width > Long.SIZE) {
+			throw new IllegalArgumentException("Largura do CRC deve estar entre 1 e 64 bits.");
+		}
+		long mask = mask(width);
+		if ((polynomial & ~mask) != 0 || (initial & ~mask) != 0 || (xorOut & ~mask) != 0) {
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Polinômio, valor inicial e finalização devem caber em {0} bits.", width));
+		}
+		this.name = name;
+		this.width = width;
+		this.polynomial = polynomial;
+		this.initial = initial;
+		this.reflectIn = reflectIn;
+		this.reflectOut = reflectOut;
+		this.xorOut = xorOut;
+	}
+
+	/**
+	 * Calcula a máscara com os bits de uma largura.
+	 *
+	 * @param width Largura em bits.
+	 * @return Máscara.
+	 */
+	private static long mask(int width) {
+		return width == Long.SIZE ? -1L : (1L << width) - 1;
+	}
+
+	/**
+	 * Recupera o nome do algorítimo.
+	 *
+	 * @return Nome do algorítimo.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Recupera a largura do CRC.
+	 *
+	 * @return Largura em bits.
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Recupera o polinômio gerador.
+	 *
+	 * @return Polinômio, sem o termo de maior grau.
+	 */
+	public long getPolynomial() {
+		return polynomial;
+	}
+
+	/**
+	 * Recupera o valor inicial do registrador.
+	 *
+	 * @return Valor inicial.
+	 */
+	public long getInitial() {
+		return initial;
+	}
+
+	/**
+	 * Indica se cada byte de entrada é refletido.
+	 *
+	 * @return Verdadeiro para entrada refletida.
+	 */
+	public boolean isReflectIn() {
+		return reflectIn;
+	}
+
+	/**
+	 * Indica se o resultado é refletido antes da finalização.
+	 *
+	 * @return Verdadeiro para saída refletida.
+	 */
+	public boolean isReflectOut() {
+		return reflectOut;
+	}
+
+	/**
+	 * Recupera o valor aplicado com XOR ao resultado.
+	 *
+	 * @return Valor de finalização.
+	 */
+	public long getXorOut() {
+		return xorOut;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CRCParameters other)) {
+			return false;
+		}
+		return width == other.width && polynomial == other.polynomial && initial == other.initial
+				&& reflectIn == other.reflectIn && reflectOut == other.reflectOut && xorOut == other.xorOut;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(width, polynomial, initial, reflectIn, reflectOut, xorOut);
+	}
+
+	@Override
+	public String toString() {
+		return MessageFormat.format("{0}[width={1}, poly=0x{2}, init=0x{3}, refin={4}, refout={5}, xorout=0x{6}]",
+				name, width, Long.toHexString(polynomial), Long.toHexString(initial), reflectIn, reflectOut,
+				Long.toHexString(xorOut));
+	}
+}
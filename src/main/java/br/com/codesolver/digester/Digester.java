@@ -1,5 +1,10 @@
 package br.com.codesolver.digester;
 
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * Métodos para cálculos de HASH.
  *
@@ -19,12 +24,127 @@ public interface Digester {
 	 * @param buffer Parte de um todo que deverá ser calculado.
 	 */
 	void update(byte[] buffer);
+
+	/**
+	 * Atualiza o cálculo do HASH com parte de uma matriz de bytes.
+	 *
+	 * <p>
+	 * A implementação padrão copia o intervalo para uma nova matriz e a repassa
+	 * para {@link #update(byte[])}; as implementações deste pacote processam o
+	 * intervalo diretamente, sem a cópia.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 * @throws IndexOutOfBoundsException Intervalo fora dos limites da matriz.
+	 */
+	default void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		update(Arrays.copyOfRange(buffer, offset, offset + length));
+	}
+
+	/**
+	 * Atualiza o cálculo do HASH com os bytes restantes de um {@link ByteBuffer}
+	 * (entre {@code position} e {@code limit}). Ao final, {@code position} é
+	 * igual a {@code limit}.
+	 *
+	 * <p>
+	 * A implementação padrão repassa a matriz de um buffer em memória para
+	 * {@link #update(byte[], int, int)} e consome buffers diretos em partes de
+	 * até 8 KB; as implementações deste pacote
+	 * leem os buffers diretos sem cópias intermediárias.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	default void update(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.position(buffer.limit());
+			return;
+		}
+		byte[] chunk = new byte[Math.min(buffer.remaining(), 8 * 1024)];
+		while (buffer.hasRemaining()) {
+			int length = Math.min(buffer.remaining(), chunk.length);
+			buffer.get(chunk, 0, length);
+			update(chunk, 0, length);
+		}
+	}
+
+	/**
+	 * Atualiza o cálculo do HASH com uma sequência de {@link ByteBuffer}, na
+	 * ordem em que aparecem (<i>gather</i>).
+	 *
+	 * @param buffers Sequência de {@link ByteBuffer} que serão consumidos.
+	 * @see #update(ByteBuffer)
+	 */
+	default void update(ByteBuffer[] buffers) {
+		for (ByteBuffer buffer : buffers) {
+			update(buffer);
+		}
+	}
+
+	/**
+	 * Atualiza o cálculo do HASH com todo o conteúdo de um {@link MemorySegment},
+	 * inclusive fora do <i>heap</i>, sem copiá-lo para uma matriz de bytes. O
+	 * segmento é percorrido em fatias de até {@link Integer#MAX_VALUE} bytes,
+	 * cada uma vista como um {@link ByteBuffer} por
+	 * {@link MemorySegment#asByteBuffer()} e repassada para
+	 * {@link #update(ByteBuffer)}.
+	 *
+	 * @param segment {@link MemorySegment} com os dados.
+	 * @throws IllegalStateException A arena do segmento já foi fechada.
+	 * @throws WrongThreadException O segmento pertence a outra <i>thread</i>.
+	 * @throws UnsupportedOperationException Segmento no <i>heap</i> que não é
+	 *         de uma matriz de bytes.
+	 */
+	default void update(MemorySegment segment) {
+		long size = segment.byteSize();
+		for (long offset = 0; offset < size; offset += Integer.MAX_VALUE) {
+			long length = Math.min(size - offset, Integer.MAX_VALUE);
+			update(segment.asSlice(offset, length).asByteBuffer());
+		}
+	}
 	
 	/**
 	 * Aplica o algorítimo de HASH e extrai o resultado em uma representação 
 	 * de texto HEXADECIMAL.
 	 *
+	 * <p>
+	 * O texto representa o HASH como um número sem sinal: letras minúsculas e
+	 * sem os zeros à esquerda, como em {@link br.com.codesolver.util.StringUtil#toHex(byte[])}.
+	 * Para a representação com todos os bytes, use {@link #digestBytes()}.
+	 *
 	 * @return Texto com o valor em HEXADECIMAL.
 	 */
 	String digest();
+
+	/**
+	 * Recupera o tamanho, em bytes, do HASH produzido pelo algorítimo.
+	 *
+	 * @return Quantidade de bytes do HASH.
+	 */
+	int getDigestLength();
+
+	/**
+	 * Aplica o algorítimo de HASH e grava o resultado em uma matriz de bytes
+	 * informada, sem alocar memória.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return Quantidade de bytes gravados, igual a {@link #getDigestLength()}.
+	 * @throws IndexOutOfBoundsException Espaço insuficiente na matriz de destino.
+	 */
+	int digestInto(byte[] dst, int offset);
+
+	/**
+	 * Aplica o algorítimo de HASH e extrai o resultado em uma nova matriz de
+	 * bytes. A conversão para texto com {@link #digest()} passa a ser opcional.
+	 *
+	 * @return HASH em bytes.
+	 */
+	default byte[] digestBytes() {
+		byte[] result = new byte[getDigestLength()];
+		digestInto(result, 0);
+		return result;
+	}
 }
@@ -0,0 +1,875 @@
+package br.com.codesolver.digester;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Calcula um HASH criptográfico do tipo BLAKE3, implementado em Java puro.
+ *
+ * <p>
+ * A entrada é dividida em partes de 1 KB que formam as folhas de uma árvore
+ * binária; cada nó interno combina os valores de seus dois filhos. Quando uma
+ * atualização recebe várias partes completas, elas são agrupadas em subárvores
+ * alinhadas, que podem ser calculadas em paralelo no
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()} (veja
+ * {@link #setParallelThreshold(int)}). O resultado é sempre o mesmo,
+ * independente da forma como a entrada foi dividida ou da quantidade de
+ * <i>threads</i>.
+ *
+ * <p>
+ * Além do HASH padrão de 32 bytes, oferece saída extensível através de
+ * {@link #squeeze(byte[], int, int)}, e os modos com chave e de derivação de
+ * chave, criados por {@link DigesterFactory#getInstance(AlgorithmType, byte[])}
+ * e {@link DigesterFactory#getDeriveKeyInstance(String)}. A finalização não
+ * altera o estado do cálculo.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class DigesterBLAKE3 implements DigesterXOF {
+
+	/** Tamanho da chave em bytes. */
+	private static final int KEY_LENGTH = 32;
+
+	/** Tamanho padrão do HASH em bytes. */
+	private static final int DIGEST_LENGTH = 32;
+
+	/** Tamanho de um bloco da função de compressão. */
+	private static final int BLOCK_LENGTH = 64;
+
+	/** Tamanho de uma parte (folha da árvore). */
+	private static final int CHUNK_LENGTH = 1024;
+
+	/** Quantidade de palavras de um valor encadeado. */
+	private static final int CV_WORDS = 8;
+
+	/** Quantidade de palavras de um bloco. */
+	private static final int BLOCK_WORDS = 16;
+
+	/** Profundidade máxima da árvore (2^64 bytes). */
+	private static final int MAX_DEPTH = 54;
+
+	/** Tamanho da matriz intermediária para buffers diretos. */
+	private static final int BUFFER_LENGTH = 64 * 1024;
+
+	/** Tamanho da matriz intermediária para buffers diretos no modo paralelo. */
+	private static final int PARALLEL_BUFFER_LENGTH = 16 * 1024 * 1024;
+
+	/** Indicador do primeiro bloco de uma parte. */
+	private static final int CHUNK_START = 1;
+
+	/** Indicador do último bloco de uma parte. */
+	private static final int CHUNK_END = 1 << 1;
+
+	/** Indicador de nó interno da árvore. */
+	private static final int PARENT = 1 << 2;
+
+	/** Indicador do nó raiz. */
+	private static final int ROOT = 1 << 3;
+
+	/** Indicador do modo com chave. */
+	private static final int KEYED_HASH = 1 << 4;
+
+	/** Indicador do cálculo do contexto na derivação de chave. */
+	private static final int DERIVE_KEY_CONTEXT = 1 << 5;
+
+	/** Indicador do cálculo do material na derivação de chave. */
+	private static final int DERIVE_KEY_MATERIAL = 1 << 6;
+
+	/** Vetor inicial, o mesmo do SHA-256. */
+	private static final int[] IV = {0x6A09E667, 0xBB67AE85, 0x3C6EF372, 0xA54FF53A, 0x510E527F, 0x9B05688C,
+		0x1F83D9AB, 0x5BE0CD19};
+
+	/** Permutação das palavras da mensagem entre as rodadas. */
+	private static final int[] PERMUTATION = {2, 6, 3, 10, 7, 0, 4, 13, 1, 11, 12, 5, 9, 14, 15, 8};
+
+	/** Ordem das palavras da mensagem em cada uma das 7 rodadas. */
+	private static final int[][] SCHEDULE = createSchedule(7);
+
+	/** Visão da matriz de bytes como inteiros <i>little-endian</i>. */
+	private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	/** Chave, ou vetor inicial no modo padrão. */
+	private final int[] key;
+
+	/** Indicadores do modo de operação. */
+	private final int flags;
+
+	/** Valor encadeado da parte atual. */
+	private final int[] chunkCv = new int[CV_WORDS];
+
+	/** Posição da parte atual na árvore. */
+	private long chunkCounter;
+
+	/** Último bloco recebido da parte atual, ainda não comprimido. */
+	private final byte[] block = new byte[BLOCK_LENGTH];
+
+	/** Quantidade de bytes em {@link #block}. */
+	private int blockLength;
+
+	/** Quantidade de blocos já comprimidos na parte atual. */
+	private int blocksCompressed;
+
+	/** Pilha de valores encadeados das subárvores completas. */
+	private final int[] stack = new int[MAX_DEPTH * CV_WORDS];
+
+	/** Quantidade de valores na pilha. */
+	private int stackLength;
+
+	/** Palavras da mensagem, reutilizadas a cada compressão. */
+	private final int[] words = new int[BLOCK_WORDS];
+
+	/** Estado da função de compressão, reutilizado a cada compressão. */
+	private final int[] state = new int[BLOCK_WORDS];
+
+	/** Valor encadeado intermediário. */
+	private final int[] cv = new int[BLOCK_WORDS];
+
+	/** Valor encadeado de entrada do nó raiz. */
+	private final int[] outputCv = new int[CV_WORDS];
+
+	/** Palavras da mensagem do nó raiz. */
+	private final int[] outputWords = new int[BLOCK_WORDS];
+
+	/** Tamanho do bloco do nó raiz. */
+	private int outputBlockLength;
+
+	/** Indicadores do nó raiz. */
+	private int outputFlags;
+
+	/** Bloco de saída do nó raiz. */
+	private final byte[] outputBlock = new byte[BLOCK_LENGTH];
+
+	/** Se o nó raiz já foi calculado para a entrada atual. */
+	private boolean finished;
+
+	/** Posição de leitura da saída extensível. */
+	private long squeezed;
+
+	/** Se a leitura da saída extensível já começou. */
+	private boolean squeezing;
+
+	/** Tamanho mínimo de cada metade de uma subárvore para cálculo em paralelo. */
+	private int parallelThreshold = Integer.MAX_VALUE;
+
+	/** Matriz intermediária para buffers diretos. */
+	private byte[] buffer;
+
+	/**
+	 * Prepara o componente de cálculo no modo padrão.
+	 */
+	DigesterBLAKE3() {
+		this(IV, 0);
+	}
+
+	/**
+	 * Prepara o componente de cálculo no modo com chave.
+	 *
+	 * @param key Chave com 32 bytes.
+	 * @throws IllegalArgumentException Tamanho de chave inválido.
+	 */
+	DigesterBLAKE3(byte[] key) {
+		this(toWords(key), KEYED_HASH);
+	}
+
+	/**
+	 * Prepara o componente de cálculo no modo de derivação de chave.
+	 *
+	 * @param context Contexto da aplicação, fixo e único.
+	 */
+	DigesterBLAKE3(String context) {
+		this(contextKey(context), DERIVE_KEY_MATERIAL);
+	}
+
+	/**
+	 * Prepara o componente de cálculo.
+	 *
+	 * @param key Chave em palavras.
+	 * @param flags Indicadores do modo de operação.
+	 */
+	private DigesterBLAKE3(int[] key, int flags) {
+		this.key = key.clone();
+		this.flags = flags;
+		reset();
+	}
+
+	/**
+	 * Define o tamanho mínimo de cada metade de uma subárvore para que as
+	 * metades sejam calculadas em paralelo. Por padrão o cálculo é sempre
+	 * sequencial.
+	 *
+	 * @param parallelThreshold Tamanho mínimo em bytes, ou
+	 *        {@link Integer#MAX_VALUE} para desativar.
+	 * @throws IllegalArgumentException Tamanho inválido.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		if (parallelThreshold <= 0) {
+			throw new IllegalArgumentException("Tamanho mínimo deve ser positivo.");
+		}
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Recupera o tamanho mínimo de cada metade de uma subárvore para cálculo em
+	 * paralelo.
+	 *
+	 * @return Tamanho mínimo em bytes.
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/** Reinicia o cálculo. */
+	@Override
+	public void reset() {
+		System.arraycopy(key, 0, chunkCv, 0, CV_WORDS);
+		chunkCounter = 0;
+		blockLength = 0;
+		blocksCompressed = 0;
+		stackLength = 0;
+		finished = false;
+		squeezed = 0;
+		squeezing = false;
+	}
+
+	/**
+	 * Acumula uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 * @throws IllegalStateException Leitura da saída extensível já iniciada.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		if (length == 0) {
+			return;
+		}
+		if (squeezing) {
+			throw new IllegalStateException("Saída extensível já iniciada; reinicie o cálculo.");
+		}
+		finished = false;
+		if (chunkLength() > 0) {
+			int count = Math.min(CHUNK_LENGTH - chunkLength(), length);
+			updateChunk(buffer, offset, count);
+			offset += count;
+			length -= count;
+			if (length == 0) {
+				return;
+			}
+			finishChunk();
+			push(cv, 0, chunkCounter);
+			startChunk(chunkCounter + 1);
+		}
+		while (length > CHUNK_LENGTH) {
+			int subtreeLength = Integer.highestOneBit(length);
+			long countSoFar = chunkCounter * CHUNK_LENGTH;
+			while ((subtreeLength - 1 & countSoFar) != 0) {
+				subtreeLength >>>= 1;
+			}
+			long subtreeChunks = subtreeLength / CHUNK_LENGTH;
+			if (subtreeChunks == 1) {
+				chunkValue(key, flags, buffer, offset, chunkCounter, cv, words, state);
+				push(cv, 0, chunkCounter);
+			} else {
+				subtreePair(buffer, offset, subtreeLength, chunkCounter);
+				push(cv, 0, chunkCounter);
+				push(cv, CV_WORDS, chunkCounter + subtreeChunks / 2);
+			}
+			startChunk(chunkCounter + subtreeChunks);
+			offset += subtreeLength;
+			length -= subtreeLength;
+		}
+		if (length > 0) {
+			updateChunk(buffer, offset, length);
+			merge(chunkCounter);
+		}
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} no cálculo. Buffers
+	 * sem matriz acessível são copiados em partes para uma matriz
+	 * intermediária, maior no modo paralelo.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.position(buffer.limit());
+			return;
+		}
+		int capacity = parallelThreshold == Integer.MAX_VALUE ? BUFFER_LENGTH : PARALLEL_BUFFER_LENGTH;
+		int size = Math.min(buffer.remaining(), capacity);
+		if (this.buffer == null || this.buffer.length < size) {
+			this.buffer = new byte[size];
+		}
+		while (buffer.hasRemaining()) {
+			int count = Math.min(buffer.remaining(), this.buffer.length);
+			buffer.get(this.buffer, 0, count);
+			update(this.buffer, 0, count);
+		}
+	}
+
+	/**
+	 * Recupera a quantidade de bytes recebidos pela parte atual.
+	 *
+	 * @return Tamanho da parte atual.
+	 */
+	private int chunkLength() {
+		return blocksCompressed * BLOCK_LENGTH + blockLength;
+	}
+
+	/**
+	 * Recupera o indicador de início de parte para o próximo bloco.
+	 *
+	 * @return {@link #CHUNK_START} ou zero.
+	 */
+	private int startFlag() {
+		return blocksCompressed == 0 ? CHUNK_START : 0;
+	}
+
+	/**
+	 * Inicia uma nova parte vazia.
+	 *
+	 * @param counter Posição da parte na árvore.
+	 */
+	private void startChunk(long counter) {
+		System.arraycopy(key, 0, chunkCv, 0, CV_WORDS);
+		chunkCounter = counter;
+		blockLength = 0;
+		blocksCompressed = 0;
+	}
+
+	/**
+	 * Acumula bytes na parte atual. O último bloco é sempre mantido em
+	 * {@link #block}, pois só é comprimido quando se sabe se é o final da parte.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes, que cabe na parte atual.
+	 */
+	private void updateChunk(byte[] buffer, int offset, int length) {
+		while (length > 0) {
+			if (blockLength == BLOCK_LENGTH) {
+				compressChunkBlock(block, 0);
+				blockLength = 0;
+			}
+			if (blockLength == 0) {
+				for (; length > BLOCK_LENGTH; offset += BLOCK_LENGTH, length -= BLOCK_LENGTH) {
+					compressChunkBlock(buffer, offset);
+				}
+			}
+			int count = Math.min(BLOCK_LENGTH - blockLength, length);
+			System.arraycopy(buffer, offset, block, blockLength, count);
+			blockLength += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Comprime um bloco completo que não é o último da parte atual.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição do bloco.
+	 */
+	private void compressChunkBlock(byte[] buffer, int offset) {
+		loadWords(buffer, offset, words);
+		compress(chunkCv, words, chunkCounter, BLOCK_LENGTH, flags | startFlag(), state);
+		System.arraycopy(state, 0, chunkCv, 0, CV_WORDS);
+		blocksCompressed++;
+	}
+
+	/**
+	 * Calcula o valor encadeado da parte atual em {@link #cv}, sem alterá-la.
+	 */
+	private void finishChunk() {
+		Arrays.fill(block, blockLength, BLOCK_LENGTH, (byte) 0);
+		loadWords(block, 0, words);
+		compress(chunkCv, words, chunkCounter, blockLength, flags | startFlag() | CHUNK_END, state);
+		System.arraycopy(state, 0, cv, 0, CV_WORDS);
+	}
+
+	/**
+	 * Empilha o valor encadeado de uma subárvore, combinando antes as
+	 * subárvores que já estão completas.
+	 *
+	 * @param value Matriz com o valor encadeado.
+	 * @param offset Posição do valor na matriz.
+	 * @param counter Quantidade de partes anteriores à subárvore.
+	 */
+	private void push(int[] value, int offset, long counter) {
+		merge(counter);
+		System.arraycopy(value, offset, stack, stackLength * CV_WORDS, CV_WORDS);
+		stackLength++;
+	}
+
+	/**
+	 * Combina os valores da pilha até restar um valor por bit de
+	 * {@code totalChunks}. A combinação é adiada até que se saiba que mais
+	 * dados virão, pois o último nó deve ser finalizado como raiz.
+	 *
+	 * @param totalChunks Quantidade de partes já processadas.
+	 */
+	private void merge(long totalChunks) {
+		int target = Long.bitCount(totalChunks);
+		while (stackLength > target) {
+			int left = (stackLength - 2) * CV_WORDS;
+			parentValue(key, flags, stack, left, stack, left + CV_WORDS, stack, left, words, state);
+			stackLength--;
+		}
+	}
+
+	/**
+	 * Calcula os valores encadeados das duas metades de uma subárvore em
+	 * {@link #cv}, em paralelo quando as metades são grandes o suficiente.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial da subárvore.
+	 * @param length Tamanho da subárvore, potência de 2 de partes.
+	 * @param counter Posição da primeira parte da subárvore.
+	 */
+	private void subtreePair(byte[] buffer, int offset, int length, long counter) {
+		int half = length >>> 1;
+		long halfChunks = half / CHUNK_LENGTH;
+		if (half >= parallelThreshold) {
+			ForkJoinTask.invokeAll(
+					new SubtreeTask(key, flags, buffer, offset, half, counter, cv, 0, parallelThreshold),
+					new SubtreeTask(key, flags, buffer, offset + half, half, counter + halfChunks, cv, CV_WORDS,
+							parallelThreshold));
+		} else {
+			subtreeValue(key, flags, buffer, offset, half, counter, cv, 0);
+			subtreeValue(key, flags, buffer, offset + half, half, counter + halfChunks, cv, CV_WORDS);
+		}
+	}
+
+	/**
+	 * Calcula o nó raiz sobre uma cópia do estado, se ainda não calculado.
+	 */
+	private void finish() {
+		if (finished) {
+			return;
+		}
+		int remaining;
+		if (stackLength == 0 || chunkLength() > 0) {
+			Arrays.fill(block, blockLength, BLOCK_LENGTH, (byte) 0);
+			System.arraycopy(chunkCv, 0, outputCv, 0, CV_WORDS);
+			loadWords(block, 0, outputWords);
+			outputBlockLength = blockLength;
+			outputFlags = flags | startFlag() | CHUNK_END;
+			remaining = stackLength;
+			if (remaining > 0) {
+				compress(outputCv, outputWords, chunkCounter, outputBlockLength, outputFlags, state);
+				setParent(remaining - 1);
+				remaining--;
+			}
+		} else {
+			System.arraycopy(stack, (stackLength - 2) * CV_WORDS, outputWords, 0, CV_WORDS);
+			System.arraycopy(stack, (stackLength - 1) * CV_WORDS, outputWords, CV_WORDS, CV_WORDS);
+			setParentOutput();
+			remaining = stackLength - 2;
+		}
+		while (remaining > 0) {
+			remaining--;
+			compress(outputCv, outputWords, 0, outputBlockLength, outputFlags, state);
+			setParent(remaining);
+		}
+		finished = true;
+	}
+
+	/**
+	 * Prepara como nó raiz o pai entre um valor da pilha e o valor encadeado
+	 * recém calculado em {@link #state}.
+	 *
+	 * @param index Posição do valor da esquerda na pilha.
+	 */
+	private void setParent(int index) {
+		System.arraycopy(state, 0, outputWords, CV_WORDS, CV_WORDS);
+		System.arraycopy(stack, index * CV_WORDS, outputWords, 0, CV_WORDS);
+		setParentOutput();
+	}
+
+	/**
+	 * Prepara os parâmetros de um nó interno como nó raiz.
+	 */
+	private void setParentOutput() {
+		System.arraycopy(key, 0, outputCv, 0, CV_WORDS);
+		outputBlockLength = BLOCK_LENGTH;
+		outputFlags = flags | PARENT;
+	}
+
+	/**
+	 * Grava bytes da saída do nó raiz a partir de uma posição.
+	 *
+	 * @param position Posição na saída.
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @param length Quantidade de bytes.
+	 */
+	private void output(long position, byte[] dst, int offset, int length) {
+		finish();
+		while (length > 0) {
+			int skip = (int) (position % BLOCK_LENGTH);
+			compress(outputCv, outputWords, position / BLOCK_LENGTH, outputBlockLength, outputFlags | ROOT, state);
+			for (int i = 0; i < BLOCK_WORDS; i++) {
+				INT_VIEW.set(outputBlock, i * Integer.BYTES, state[i]);
+			}
+			int count = Math.min(BLOCK_LENGTH - skip, length);
+			System.arraycopy(outputBlock, skip, dst, offset, count);
+			position += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Lê os próximos bytes da saída extensível. A partir desta chamada, a
+	 * entrada não aceita novos dados até {@link #reset()}.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @param length Quantidade de bytes que serão lidos.
+	 */
+	@Override
+	public void squeeze(byte[] dst, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, dst.length);
+		squeezing = true;
+		output(squeezed, dst, offset, length);
+		squeezed += length;
+	}
+
+	/**
+	 * Recupera os primeiros 32 bytes da saída em sua forma hexadecimal, no
+	 * formato de {@link Digester#digest()}.
+	 *
+	 * @return HASH hexadecimal.
+	 */
+	@Override
+	public String digest() {
+		return StringUtil.toHex(digestBytes());
+	}
+
+	/**
+	 * Recupera o tamanho padrão do HASH em bytes.
+	 *
+	 * @return {@value #DIGEST_LENGTH}
+	 */
+	@Override
+	public int getDigestLength() {
+		return DIGEST_LENGTH;
+	}
+
+	/**
+	 * Grava os primeiros 32 bytes da saída na matriz de destino.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return {@value #DIGEST_LENGTH}
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, DIGEST_LENGTH, dst.length);
+		output(0, dst, offset, DIGEST_LENGTH);
+		return DIGEST_LENGTH;
+	}
+
+	/**
+	 * Calcula a ordem das palavras da mensagem em cada rodada.
+	 *
+	 * @param rounds Quantidade de rodadas.
+	 * @return Índices das palavras por rodada.
+	 */
+	private static int[][] createSchedule(int rounds) {
+		int[][] schedule = new int[rounds][BLOCK_WORDS];
+		for (int i = 0; i < BLOCK_WORDS; i++) {
+			schedule[0][i] = i;
+		}
+		for (int r = 1; r < rounds; r++) {
+			for (int i = 0; i < BLOCK_WORDS; i++) {
+				schedule[r][i] = schedule[r - 1][PERMUTATION[i]];
+			}
+		}
+		return schedule;
+	}
+
+	/**
+	 * Converte uma chave de 32 bytes em palavras.
+	 *
+	 * @param key Chave com 32 bytes.
+	 * @return Chave em palavras.
+	 * @throws IllegalArgumentException Tamanho de chave inválido.
+	 */
+	private static int[] toWords(byte[] key) {
+		if (key == null || key.length != KEY_LENGTH) {
+			throw new IllegalArgumentException("Chave deve ter 32 bytes.");
+		}
+		int[] result = new int[CV_WORDS];
+		for (int i = 0; i < CV_WORDS; i++) {
+			result[i] = (int) INT_VIEW.get(key, i * Integer.BYTES);
+		}
+		return result;
+	}
+
+	/**
+	 * Calcula a chave de contexto da derivação de chave.
+	 *
+	 * @param context Contexto da aplicação.
+	 * @return Chave de contexto em palavras.
+	 */
+	private static int[] contextKey(String context) {
+		DigesterBLAKE3 digester = new DigesterBLAKE3(IV, DERIVE_KEY_CONTEXT);
+		digester.update(context.getBytes(StandardCharsets.UTF_8));
+		return toWords(digester.digestBytes());
+	}
+
+	/**
+	 * Lê as 16 palavras <i>little-endian</i> de um bloco.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição do bloco.
+	 * @param m Palavras da mensagem.
+	 */
+	private static void loadWords(byte[] buffer, int offset, int[] m) {
+		for (int i = 0; i < BLOCK_WORDS; i++) {
+			m[i] = (int) INT_VIEW.get(buffer, offset + i * Integer.BYTES);
+		}
+	}
+
+	/**
+	 * Função de compressão. O novo valor encadeado fica nas primeiras 8
+	 * palavras do estado, e as 16 palavras formam um bloco de saída.
+	 *
+	 * @param cv Valor encadeado de entrada.
+	 * @param m Palavras da mensagem.
+	 * @param counter Contador do bloco.
+	 * @param blockLength Tamanho do bloco.
+	 * @param flags Indicadores do bloco.
+	 * @param v Estado que receberá o resultado.
+	 */
+	private static void compress(int[] cv, int[] m, long counter, int blockLength, int flags, int[] v) {
+		System.arraycopy(cv, 0, v, 0, CV_WORDS);
+		System.arraycopy(IV, 0, v, CV_WORDS, 4);
+		v[12] = (int) counter;
+		v[13] = (int) (counter >>> Integer.SIZE);
+		v[14] = blockLength;
+		v[15] = flags;
+		for (int[] s : SCHEDULE) {
+			g(v, 0, 4, 8, 12, m[s[0]], m[s[1]]);
+			g(v, 1, 5, 9, 13, m[s[2]], m[s[3]]);
+			g(v, 2, 6, 10, 14, m[s[4]], m[s[5]]);
+			g(v, 3, 7, 11, 15, m[s[6]], m[s[7]]);
+			g(v, 0, 5, 10, 15, m[s[8]], m[s[9]]);
+			g(v, 1, 6, 11, 12, m[s[10]], m[s[11]]);
+			g(v, 2, 7, 8, 13, m[s[12]], m[s[13]]);
+			g(v, 3, 4, 9, 14, m[s[14]], m[s[15]]);
+		}
+		for (int i = 0; i < CV_WORDS; i++) {
+			v[i] ^= v[i + CV_WORDS];
+			v[i + CV_WORDS] ^= cv[i];
+		}
+	}
+
+	/**
+	 * Função de mistura de uma coluna ou diagonal do estado.
+	 *
+	 * @param v Estado.
+	 * @param a Primeira posição.
+	 * @param b Segunda posição.
+	 * @param c Terceira posição.
+	 * @param d Quarta posição.
+	 * @param x Primeira palavra da mensagem.
+	 * @param y Segunda palavra da mensagem.
+	 */
+	private static void g(int[] v, int a, int b, int c, int d, int x, int y) {
+		v[a] += v[b] + x;
+		v[d] = Integer.rotateRight(v[d] ^ v[a], 16);
+		v[c] += v[d];
+		v[b] = Integer.rotateRight(v[b] ^ v[c], 12);
+		v[a] += v[b] + y;
+		v[d] = Integer.rotateRight(v[d] ^ v[a], 8);
+		v[c] += v[d];
+		v[b] = Integer.rotateRight(v[b] ^ v[c], 7);
+	}
+
+	/**
+	 * Calcula o valor encadeado de uma parte completa.
+	 *
+	 * @param key Chave em palavras.
+	 * @param flags Indicadores do modo de operação.
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição da parte.
+	 * @param counter Posição da parte na árvore.
+	 * @param cv Valor encadeado que receberá o resultado.
+	 * @param m Palavras da mensagem.
+	 * @param v Estado da função de compressão.
+	 */
+	private static void chunkValue(int[] key, int flags, byte[] buffer, int offset, long counter, int[] cv,
+			int[] m, int[] v) {
+		System.arraycopy(key, 0, cv, 0, CV_WORDS);
+		int last = CHUNK_LENGTH / BLOCK_LENGTH - 1;
+		for (int i = 0; i <= last; i++) {
+			int blockFlags = flags | (i == 0 ? CHUNK_START : 0) | (i == last ? CHUNK_END : 0);
+			loadWords(buffer, offset + i * BLOCK_LENGTH, m);
+			compress(cv, m, counter, BLOCK_LENGTH, blockFlags, v);
+			System.arraycopy(v, 0, cv, 0, CV_WORDS);
+		}
+	}
+
+	/**
+	 * Calcula o valor encadeado de um nó interno.
+	 *
+	 * @param key Chave em palavras.
+	 * @param flags Indicadores do modo de operação.
+	 * @param left Matriz com o valor do filho da esquerda.
+	 * @param leftOffset Posição do filho da esquerda.
+	 * @param right Matriz com o valor do filho da direita.
+	 * @param rightOffset Posição do filho da direita.
+	 * @param out Matriz que receberá o resultado.
+	 * @param outOffset Posição do resultado.
+	 * @param m Palavras da mensagem.
+	 * @param v Estado da função de compressão.
+	 */
+	private static void parentValue(int[] key, int flags, int[] left, int leftOffset, int[] right,
+			int rightOffset, int[] out, int outOffset, int[] m, int[] v) {
+		System.arraycopy(left, leftOffset, m, 0, CV_WORDS);
+		System.arraycopy(right, rightOffset, m, CV_WORDS, CV_WORDS);
+		compress(key, m, 0, BLOCK_LENGTH, flags | PARENT, v);
+		System.arraycopy(v, 0, out, outOffset, CV_WORDS);
+	}
+
+	/**
+	 * Calcula sequencialmente o valor encadeado de uma subárvore completa, que
+	 * nunca é a raiz.
+	 *
+	 * @param key Chave em palavras.
+	 * @param flags Indicadores do modo de operação.
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial da subárvore.
+	 * @param length Tamanho da subárvore, potência de 2 de partes.
+	 * @param counter Posição da primeira parte da subárvore.
+	 * @param out Matriz que receberá o resultado.
+	 * @param outOffset Posição do resultado.
+	 */
+	private static void subtreeValue(int[] key, int flags, byte[] buffer, int offset, int length, long counter,
+			int[] out, int outOffset) {
+		int chunks = length / CHUNK_LENGTH;
+		int[] m = new int[BLOCK_WORDS];
+		int[] v = new int[BLOCK_WORDS];
+		int[] cv = new int[CV_WORDS];
+		int[] stack = new int[(Integer.numberOfTrailingZeros(chunks) + 1) * CV_WORDS];
+		int depth = 0;
+		for (int i = 0; i < chunks; i++) {
+			chunkValue(key, flags, buffer, offset + i * CHUNK_LENGTH, counter + i, cv, m, v);
+			System.arraycopy(cv, 0, stack, depth * CV_WORDS, CV_WORDS);
+			depth++;
+			for (int total = i + 1; (total & 1) == 0; total >>>= 1) {
+				int left = (depth - 2) * CV_WORDS;
+				parentValue(key, flags, stack, left, stack, left + CV_WORDS, stack, left, m, v);
+				depth--;
+			}
+		}
+		System.arraycopy(stack, 0, out, outOffset, CV_WORDS);
+	}
+
+	/**
+	 * Tarefa que calcula o valor encadeado de uma subárvore completa, dividindo-a
+	 * ao meio enquanto as metades atingirem o tamanho mínimo para paralelismo.
+	 */
+	private static final class SubtreeTask extends RecursiveAction {
+
+		/** Identificador de serialização. */
+		private static final long serialVersionUID = 1L;
+
+		/** Chave em palavras. */
+		private final int[] key;
+
+		/** Indicadores do modo de operação. */
+		private final int flags;
+
+		/** Matriz de bytes. */
+		private final byte[] buffer;
+
+		/** Posição inicial da subárvore. */
+		private final int offset;
+
+		/** Tamanho da subárvore. */
+		private final int length;
+
+		/** Posição da primeira parte da subárvore. */
+		private final long counter;
+
+		/** Matriz que receberá o resultado. */
+		private final int[] out;
+
+		/** Posição do resultado. */
+		private final int outOffset;
+
+		/** Tamanho mínimo de cada metade para cálculo em paralelo. */
+		private final int threshold;
+
+		/**
+		 * Prepara a tarefa para uma subárvore.
+		 *
+		 * @param key Chave em palavras.
+		 * @param flags Indicadores do modo de operação.
+		 * @param buffer Matriz de bytes.
+		 * @param offset Posição inicial da subárvore.
+		 * @param length Tamanho da subárvore, potência de 2 de partes.
+		 * @param counter Posição da primeira parte da subárvore.
+		 * @param out Matriz que receberá o resultado.
+		 * @param outOffset Posição do resultado.
+		 * @param threshold Tamanho mínimo de cada metade para cálculo em paralelo.
+		 */
+		SubtreeTask(int[] key, int flags, byte[] buffer, int offset, int length, long counter, int[] out,
+				int outOffset, int threshold) {
+			this.key = key;
+			this.flags = flags;
+			this.buffer = buffer;
+			this.offset = offset;
+			this.length = length;
+			this.counter = counter;
+			this.out = out;
+			this.outOffset = outOffset;
+			this.threshold = threshold;
+		}
+
+		/** Calcula o valor encadeado da subárvore. */
+		@Override
+		protected void compute() {
+			int half = length >>> 1;
+			if (length == CHUNK_LENGTH || half < threshold) {
+				subtreeValue(key, flags, buffer, offset, length, counter, out, outOffset);
+				return;
+			}
+			int[] pair = new int[BLOCK_WORDS];
+			invokeAll(new SubtreeTask(key, flags, buffer, offset, half, counter, pair, 0, threshold),
+					new SubtreeTask(key, flags, buffer, offset + half, half, counter + half / CHUNK_LENGTH, pair,
+							CV_WORDS, threshold));
+			parentValue(key, flags, pair, 0, pair, CV_WORDS, out, outOffset, new int[BLOCK_WORDS],
+					new int[BLOCK_WORDS]);
+		}
+	}
+}
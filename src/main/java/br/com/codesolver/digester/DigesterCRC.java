@@ -14,4 +14,12 @@ public interface DigesterCRC extends Digester {
 	 * @return short
 	 */
 	short getValue();
+
+	/**
+	 * Recupera o valor de um CRC como inteiro sem sinal, evitando a conversão
+	 * para texto ou matriz de bytes.
+	 *
+	 * @return CRC entre {@code 0} e {@code 0xFFFF}.
+	 */
+	int getIntValue();
 }
@@ -1,12 +1,34 @@
 package br.com.codesolver.digester;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.concurrent.RecursiveTask;
+
 /**
  * Calcula um HASH do tipo CRC-16.
  *
+ * <p>
+ * Blocos de 8 bytes são processados de uma única vez através da técnica
+ * <i>slicing-by-8</i>, com tabelas pré-calculadas para cada posição do bloco.
+ * O restante da matriz (menos de 8 bytes) é processado byte a byte com a
+ * tabela tradicional, produzindo exatamente o mesmo CRC.
+ *
+ * <p>
+ * O CRC de duas sequências consecutivas pode ser obtido a partir do CRC de
+ * cada uma com {@link #combine(int, int, long)}. Isso permite o modo paralelo
+ * (veja {@link #setParallelThreshold(int)}), no qual partes grandes são
+ * divididas em segmentos calculados no
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()} e combinados na ordem.
+ *
  * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
  * @since 2025-08-26
  */
-public class DigesterCRC16 implements DigesterCRC {
+public class DigesterCRC16 implements DigesterCRC, DigesterResumable {
 
 	/** Máscara para formatar um número inteiro curto. */
 	private static final int SHORT_MASK = 0xFFFF;
@@ -14,6 +36,29 @@ public class DigesterCRC16 implements DigesterCRC {
 	/** Máscara para formatar um Byte. */
 	private static final int BYTE_MASK = 0xFF;
 
+	/** Quantidade de bytes processados por iteração no <i>slicing-by-8</i>. */
+	private static final int SLICE_LENGTH = Long.BYTES;
+
+	/** Deslocamento do CRC para alinhá-lo aos dois primeiros bytes do bloco. */
+	private static final int BLOCK_SHIFT = Long.SIZE - Short.SIZE;
+
+	/** Polinômio gerador, sem o termo de grau 16. */
+	private static final int POLYNOMIAL = 0x1021;
+
+	/** Termo de grau 16 do polinômio gerador. */
+	private static final int DEGREE_BIT = 0x10000;
+
+	/** Quantidade de entradas em cada tabela de consulta. */
+	private static final int TABLE_LENGTH = 256;
+
+	/** Visão da matriz de bytes como inteiros longos <i>big-endian</i>. */
+	private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.BIG_ENDIAN);
+
+	/** Leitura de 8 bytes em <i>big-endian</i> de um {@link MemorySegment}, sem alinhamento. */
+	private static final ValueLayout.OfLong SEGMENT_LONG = ValueLayout.JAVA_LONG_UNALIGNED
+			.withOrder(ByteOrder.BIG_ENDIAN);
+
 	/** Tabela de valores para o cálculo do CRC. */
 	private static final int[] CRC16_LOOKUP = {0, 4129, 8258, 12387, 16516,
 		20645, 24774, 28903, 33032, 37161, 41290, 45419, 49548, 53677,
@@ -44,18 +89,161 @@ public class DigesterCRC16 implements DigesterCRC {
 		44955, 49082, 36825, 40952, 28183, 32310, 20053, 24180, 11923,
 		16050, 3793, 7920};
 
+	/**
+	 * Tabelas para o <i>slicing-by-8</i>, armazenadas em sequência. A tabela
+	 * {@code k} contém o CRC de cada byte seguido por {@code k} bytes zerados.
+	 */
+	private static final int[] CRC16_SLICES = createSlices();
+
 	/** CRC calculado. */
 	private int crc;
 
+	/** Quantidade de bytes acumulados. */
+	private long length;
+
+	/** Tamanho mínimo de um segmento para cálculo em paralelo. */
+	private int parallelThreshold = Integer.MAX_VALUE;
+
 	/** Construtor padrão. */
 	DigesterCRC16() {
 		crc = 0;
 	}
 
+	/**
+	 * Gera as tabelas do <i>slicing-by-8</i> a partir de {@link #CRC16_LOOKUP}.
+	 *
+	 * @return Tabelas em sequência.
+	 */
+	private static int[] createSlices() {
+		int[] slices = new int[SLICE_LENGTH * TABLE_LENGTH];
+		System.arraycopy(CRC16_LOOKUP, 0, slices, 0, TABLE_LENGTH);
+		for (int k = 1; k < SLICE_LENGTH; k++) {
+			for (int b = 0; b < TABLE_LENGTH; b++) {
+				int previous = slices[(k - 1) * TABLE_LENGTH + b];
+				slices[k * TABLE_LENGTH + b] = previous << Byte.SIZE & SHORT_MASK
+						^ CRC16_LOOKUP[previous >> Byte.SIZE & BYTE_MASK];
+			}
+		}
+		return slices;
+	}
+
+	/**
+	 * Define o tamanho mínimo de um segmento para cálculo em paralelo. Partes
+	 * maiores são divididas ao meio até que os segmentos fiquem abaixo desse
+	 * tamanho. Por padrão o cálculo é sempre sequencial.
+	 *
+	 * @param parallelThreshold Tamanho mínimo em bytes, ou
+	 *        {@link Integer#MAX_VALUE} para desativar.
+	 * @throws IllegalArgumentException Tamanho inválido.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		if (parallelThreshold <= 0) {
+			throw new IllegalArgumentException("Tamanho mínimo deve ser positivo.");
+		}
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Recupera o tamanho mínimo de um segmento para cálculo em paralelo.
+	 *
+	 * @return Tamanho mínimo em bytes.
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Combina o CRC de duas sequências consecutivas, A e B, no CRC da
+	 * concatenação A+B, sem acessar os dados. Equivale a avançar o CRC de A
+	 * sobre {@code lengthB} bytes zerados, através da multiplicação por
+	 * x<sup>8 * lengthB</sup> módulo o polinômio gerador, e somar o CRC de B.
+	 *
+	 * @param crcA CRC da primeira sequência.
+	 * @param crcB CRC da segunda sequência.
+	 * @param lengthB Tamanho da segunda sequência em bytes.
+	 * @return CRC da concatenação, sem sinal.
+	 * @throws IllegalArgumentException Tamanho negativo.
+	 */
+	public static int combine(int crcA, int crcB, long lengthB) {
+		if (lengthB < 0) {
+			throw new IllegalArgumentException("Tamanho não pode ser negativo.");
+		}
+		int power = 1;
+		int square = 1 << Byte.SIZE;
+		for (long n = lengthB; n != 0; n >>>= 1) {
+			if ((n & 1) != 0) {
+				power = multiply(power, square);
+			}
+			square = multiply(square, square);
+		}
+		return (multiply(crcA & SHORT_MASK, power) ^ crcB) & SHORT_MASK;
+	}
+
+	/**
+	 * Multiplica dois polinômios de grau menor que 16 módulo o polinômio
+	 * gerador.
+	 *
+	 * @param a Primeiro polinômio.
+	 * @param b Segundo polinômio.
+	 * @return Produto módulo o polinômio gerador.
+	 */
+	private static int multiply(int a, int b) {
+		int result = 0;
+		for (int bit = Short.SIZE - 1; bit >= 0; bit--) {
+			result <<= 1;
+			if ((result & DEGREE_BIT) != 0) {
+				result ^= DEGREE_BIT | POLYNOMIAL;
+			}
+			if ((b >>> bit & 1) != 0) {
+				result ^= a;
+			}
+		}
+		return result;
+	}
+
 	/** Reinicia o cálculo do CRC. */
 	@Override
 	public void reset() {
 		crc = 0;
+		length = 0;
+	}
+
+	/**
+	 * Recupera a quantidade de bytes acumulados desde o último
+	 * {@link #reset()}.
+	 *
+	 * @return Quantidade de bytes.
+	 */
+	@Override
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Exporta o CRC e a quantidade de bytes acumulados.
+	 *
+	 * @return Ponto de retomada.
+	 */
+	@Override
+	public byte[] checkpoint() {
+		return DigesterCheckpoint.create(AlgorithmType.CRC16, length, Short.BYTES).putShort((short) crc).array();
+	}
+
+	/**
+	 * Restaura o CRC e a quantidade de bytes acumulados.
+	 *
+	 * @param checkpoint Ponto de retomada gerado por {@link #checkpoint()}.
+	 * @throws DigesterException Ponto de retomada inválido.
+	 */
+	@Override
+	public void restore(byte[] checkpoint) {
+		ByteBuffer buffer = DigesterCheckpoint.open(AlgorithmType.CRC16, checkpoint, Short.BYTES);
+		long restored = buffer.getLong();
+		if (restored < 0) {
+			throw DigesterCheckpoint.invalid(AlgorithmType.CRC16, null);
+		}
+		length = restored;
+		crc = buffer.getShort() & SHORT_MASK;
 	}
 
 	/**
@@ -68,6 +256,16 @@ public class DigesterCRC16 implements DigesterCRC {
 		return (short) crc;
 	}
 
+	/**
+	 * Recupera o valor do CRC calculado como inteiro sem sinal.
+	 *
+	 * @return CRC
+	 */
+	@Override
+	public int getIntValue() {
+		return crc & SHORT_MASK;
+	}
+
 	/**
 	 * Recupera o CRC em sua forma hexadecimal.
 	 *
@@ -78,6 +276,31 @@ public class DigesterCRC16 implements DigesterCRC {
 		return Integer.toHexString(crc & SHORT_MASK);
 	}
 
+	/**
+	 * Recupera o tamanho do CRC em bytes.
+	 *
+	 * @return {@value Short#BYTES}
+	 */
+	@Override
+	public int getDigestLength() {
+		return Short.BYTES;
+	}
+
+	/**
+	 * Grava o CRC em <i>big-endian</i> na matriz de destino.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return {@value Short#BYTES}
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, Short.BYTES, dst.length);
+		dst[offset] = (byte) (crc >> Byte.SIZE);
+		dst[offset + 1] = (byte) crc;
+		return Short.BYTES;
+	}
+
 	/**
 	 * Calcula o CRC com base na matriz de bytes recebida.
 	 *
@@ -85,10 +308,205 @@ public class DigesterCRC16 implements DigesterCRC {
 	 */
 	@Override
 	public void update(byte[] buffer) {
-		for (int i = 0; i < buffer.length; i++) {
-			byte b = buffer[i];
-			int indice = crc >> Byte.SIZE ^ b;
-			crc = crc << Byte.SIZE & SHORT_MASK ^ CRC16_LOOKUP[indice & BYTE_MASK];
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Calcula o CRC com base em parte da matriz de bytes recebida.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		if (length > parallelThreshold) {
+			int segment = new SegmentTask(buffer, null, offset, offset + length, parallelThreshold).invoke();
+			crc = combine(crc, segment, length);
+		} else {
+			crc = update(crc, buffer, offset, offset + length);
+		}
+		this.length += length;
+	}
+
+	/**
+	 * Calcula o CRC com base nos bytes restantes de um {@link ByteBuffer}.
+	 * Buffers com matriz acessível são processados diretamente sobre ela; os
+	 * demais (diretos ou somente leitura) são lidos em blocos de 8 bytes.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		int position = buffer.position();
+		int end = buffer.limit();
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + position, end - position);
+		} else {
+			if (end - position > parallelThreshold) {
+				int segment = new SegmentTask(null, buffer, position, end, parallelThreshold).invoke();
+				crc = combine(crc, segment, end - position);
+			} else {
+				crc = update(crc, buffer, position, end);
+			}
+			length += end - position;
+		}
+		buffer.position(end);
+	}
+
+	/**
+	 * Calcula o CRC com base em todo o conteúdo de um {@link MemorySegment},
+	 * lendo blocos de 8 bytes diretamente do segmento, sem fatias intermediárias.
+	 * O cálculo é sempre feito na <i>thread</i> atual, pois segmentos de arenas
+	 * confinadas não podem ser lidos por outras <i>threads</i>.
+	 *
+	 * @param segment {@link MemorySegment} com os dados.
+	 */
+	@Override
+	public void update(MemorySegment segment) {
+		long size = segment.byteSize();
+		long i = 0;
+		for (long limit = size - SLICE_LENGTH; i <= limit; i += SLICE_LENGTH) {
+			crc = updateBlock(crc, segment.get(SEGMENT_LONG, i));
+		}
+		for (; i < size; i++) {
+			crc = updateByte(crc, segment.get(ValueLayout.JAVA_BYTE, i));
+		}
+		length += size;
+	}
+
+	/**
+	 * Acumula um intervalo de uma matriz de bytes em um CRC.
+	 *
+	 * @param crc CRC inicial.
+	 * @param buffer Matriz de bytes.
+	 * @param from Posição inicial.
+	 * @param to Posição seguinte à última.
+	 * @return CRC acumulado.
+	 */
+	private static int update(int crc, byte[] buffer, int from, int to) {
+		int i = from;
+		for (int limit = to - SLICE_LENGTH; i <= limit; i += SLICE_LENGTH) {
+			crc = updateBlock(crc, (long) LONG_VIEW.get(buffer, i));
+		}
+		// Bytes restantes, menos que um bloco:
+		for (; i < to; i++) {
+			crc = updateByte(crc, buffer[i]);
+		}
+		return crc;
+	}
+
+	/**
+	 * Acumula um intervalo de um {@link ByteBuffer} em um CRC, através de
+	 * leituras absolutas que não alteram as posições do buffer.
+	 *
+	 * @param crc CRC inicial.
+	 * @param buffer {@link ByteBuffer}.
+	 * @param from Posição inicial.
+	 * @param to Posição seguinte à última.
+	 * @return CRC acumulado.
+	 */
+	private static int update(int crc, ByteBuffer buffer, int from, int to) {
+		boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+		int i = from;
+		for (int limit = to - SLICE_LENGTH; i <= limit; i += SLICE_LENGTH) {
+			long block = buffer.getLong(i);
+			crc = updateBlock(crc, bigEndian ? block : Long.reverseBytes(block));
+		}
+		for (; i < to; i++) {
+			crc = updateByte(crc, buffer.get(i));
+		}
+		return crc;
+	}
+
+	/**
+	 * Acumula um bloco de 8 bytes no CRC através do <i>slicing-by-8</i>.
+	 *
+	 * @param crc CRC inicial.
+	 * @param value Bloco lido em <i>big-endian</i>.
+	 * @return CRC acumulado.
+	 */
+	private static int updateBlock(int crc, long value) {
+		long block = value ^ (long) crc << BLOCK_SHIFT;
+		return CRC16_SLICES[7 * TABLE_LENGTH + (int) (block >>> 56)]
+			^ CRC16_SLICES[6 * TABLE_LENGTH + ((int) (block >>> 48) & BYTE_MASK)]
+			^ CRC16_SLICES[5 * TABLE_LENGTH + ((int) (block >>> 40) & BYTE_MASK)]
+			^ CRC16_SLICES[4 * TABLE_LENGTH + ((int) (block >>> 32) & BYTE_MASK)]
+			^ CRC16_SLICES[3 * TABLE_LENGTH + ((int) (block >>> 24) & BYTE_MASK)]
+			^ CRC16_SLICES[2 * TABLE_LENGTH + ((int) (block >>> 16) & BYTE_MASK)]
+			^ CRC16_SLICES[TABLE_LENGTH + ((int) (block >>> 8) & BYTE_MASK)]
+			^ CRC16_SLICES[(int) block & BYTE_MASK];
+	}
+
+	/**
+	 * Acumula um único byte no CRC através da tabela tradicional.
+	 *
+	 * @param crc CRC inicial.
+	 * @param b Byte.
+	 * @return CRC acumulado.
+	 */
+	private static int updateByte(int crc, byte b) {
+		int indice = crc >> Byte.SIZE ^ b;
+		return crc << Byte.SIZE & SHORT_MASK ^ CRC16_LOOKUP[indice & BYTE_MASK];
+	}
+
+	/**
+	 * Tarefa que calcula o CRC de um segmento a partir de zero, dividindo-o ao
+	 * meio enquanto for maior que o tamanho mínimo e combinando os resultados.
+	 */
+	private static final class SegmentTask extends RecursiveTask<Integer> {
+
+		/** Identificador de serialização. */
+		private static final long serialVersionUID = 1L;
+
+		/** Matriz de bytes, ou nulo quando os dados estão no buffer. */
+		private final byte[] array;
+
+		/** {@link ByteBuffer} sem matriz acessível, ou nulo. */
+		private final transient ByteBuffer buffer;
+
+		/** Posição inicial do segmento. */
+		private final int from;
+
+		/** Posição seguinte à última do segmento. */
+		private final int to;
+
+		/** Tamanho mínimo de um segmento para divisão. */
+		private final int threshold;
+
+		/**
+		 * Prepara a tarefa para um segmento.
+		 *
+		 * @param array Matriz de bytes, ou nulo.
+		 * @param buffer {@link ByteBuffer}, ou nulo.
+		 * @param from Posição inicial do segmento.
+		 * @param to Posição seguinte à última do segmento.
+		 * @param threshold Tamanho mínimo de um segmento para divisão.
+		 */
+		SegmentTask(byte[] array, ByteBuffer buffer, int from, int to, int threshold) {
+			this.array = array;
+			this.buffer = buffer;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		/**
+		 * Calcula o CRC do segmento.
+		 *
+		 * @return CRC do segmento, iniciado em zero.
+		 */
+		@Override
+		protected Integer compute() {
+			if (to - from <= threshold) {
+				return array != null ? update(0, array, from, to) : update(0, buffer, from, to);
+			}
+			int middle = (from + to) >>> 1;
+			SegmentTask right = new SegmentTask(array, buffer, middle, to, threshold);
+			right.fork();
+			int left = new SegmentTask(array, buffer, from, middle, threshold).compute();
+			return combine(left, right.join(), to - middle);
 		}
 	}
 }
@@ -0,0 +1,315 @@
+package br.com.codesolver.digester;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calcula um CRC genérico, definido por {@link CRCParameters}, com largura de
+ * até 64 bits.
+ *
+ * <p>
+ * O cálculo usa a técnica <i>slicing-by-8</i>, como {@link DigesterCRC16}. As
+ * tabelas são geradas uma única vez para cada conjunto de parâmetros e
+ * compartilhadas entre todas as instâncias. Algorítimos com entrada refletida
+ * usam o registrador refletido, lido em <i>little-endian</i>; os demais usam o
+ * registrador alinhado aos bits mais significativos de um inteiro longo, lido
+ * em <i>big-endian</i>.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see CRCParameters
+ */
+public class DigesterCRCEngine implements DigesterChecksum {
+
+	/** Máscara para formatar um Byte. */
+	private static final int BYTE_MASK = 0xFF;
+
+	/** Quantidade de bytes processados por iteração no <i>slicing-by-8</i>. */
+	private static final int SLICE_LENGTH = Long.BYTES;
+
+	/** Quantidade de entradas em cada tabela de consulta. */
+	private static final int TABLE_LENGTH = 256;
+
+	/** Deslocamento do byte mais significativo de um inteiro longo. */
+	private static final int TOP_SHIFT = Long.SIZE - Byte.SIZE;
+
+	/** Visão da matriz de bytes como inteiros longos <i>big-endian</i>. */
+	private static final VarHandle BIG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.BIG_ENDIAN);
+
+	/** Visão da matriz de bytes como inteiros longos <i>little-endian</i>. */
+	private static final VarHandle LITTLE_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	/** Tabelas do <i>slicing-by-8</i> de cada conjunto de parâmetros. */
+	private static final Map<CRCParameters, long[]> TABLES = new ConcurrentHashMap<>();
+
+	/** Parâmetros do algorítimo. */
+	private final CRCParameters parameters;
+
+	/** Tabelas do <i>slicing-by-8</i>, compartilhadas. */
+	private final long[] table;
+
+	/** Se o registrador é refletido. */
+	private final boolean reflected;
+
+	/** Deslocamento entre a largura do CRC e um inteiro longo. */
+	private final int shift;
+
+	/** Valor inicial do registrador. */
+	private final long initial;
+
+	/** Registrador do CRC. */
+	private long register;
+
+	/**
+	 * Prepara o componente de cálculo para os parâmetros informados.
+	 *
+	 * @param parameters {@link CRCParameters}.
+	 */
+	DigesterCRCEngine(CRCParameters parameters) {
+		this.parameters = parameters;
+		this.reflected = parameters.isReflectIn();
+		this.shift = Long.SIZE - parameters.getWidth();
+		this.table = TABLES.computeIfAbsent(parameters, DigesterCRCEngine::createTable);
+		this.initial = reflected ? Long.reverse(parameters.getInitial()) >>> shift
+				: parameters.getInitial() << shift;
+		reset();
+	}
+
+	/**
+	 * Gera as tabelas do <i>slicing-by-8</i>, armazenadas em sequência. A tabela
+	 * {@code k} contém o registrador de cada byte seguido por {@code k} bytes
+	 * zerados.
+	 *
+	 * @param parameters {@link CRCParameters}.
+	 * @return Tabelas em sequência.
+	 */
+	private static long[] createTable(CRCParameters parameters) {
+		int shift = Long.SIZE - parameters.getWidth();
+		long[] table = new long[SLICE_LENGTH * TABLE_LENGTH];
+		if (parameters.isReflectIn()) {
+			long polynomial = Long.reverse(parameters.getPolynomial()) >>> shift;
+			for (int b = 0; b < TABLE_LENGTH; b++) {
+				long value = b;
+				for (int bit = 0; bit < Byte.SIZE; bit++) {
+					value = (value & 1) != 0 ? value >>> 1 ^ polynomial : value >>> 1;
+				}
+				table[b] = value;
+			}
+			for (int k = 1; k < SLICE_LENGTH; k++) {
+				for (int b = 0; b < TABLE_LENGTH; b++) {
+					long previous = table[(k - 1) * TABLE_LENGTH + b];
+					table[k * TABLE_LENGTH + b] = previous >>> Byte.SIZE ^ table[(int) previous & BYTE_MASK];
+				}
+			}
+		} else {
+			long polynomial = parameters.getPolynomial() << shift;
+			for (int b = 0; b < TABLE_LENGTH; b++) {
+				long value = (long) b << TOP_SHIFT;
+				for (int bit = 0; bit < Byte.SIZE; bit++) {
+					value = value < 0 ? value << 1 ^ polynomial : value << 1;
+				}
+				table[b] = value;
+			}
+			for (int k = 1; k < SLICE_LENGTH; k++) {
+				for (int b = 0; b < TABLE_LENGTH; b++) {
+					long previous = table[(k - 1) * TABLE_LENGTH + b];
+					table[k * TABLE_LENGTH + b] = previous << Byte.SIZE ^ table[(int) (previous >>> TOP_SHIFT)];
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Recupera os parâmetros do algorítimo.
+	 *
+	 * @return {@link CRCParameters}.
+	 */
+	public CRCParameters getParameters() {
+		return parameters;
+	}
+
+	/** Reinicia o cálculo do CRC. */
+	@Override
+	public void reset() {
+		register = initial;
+	}
+
+	/**
+	 * Recupera o valor do CRC calculado, sem alterar o estado do cálculo.
+	 *
+	 * @return CRC sem sinal, limitado à largura do algorítimo.
+	 */
+	@Override
+	public long getValue() {
+		long value;
+		if (reflected) {
+			value = parameters.isReflectOut() ? register : Long.reverse(register) >>> shift;
+		} else {
+			value = register >>> shift;
+			if (parameters.isReflectOut()) {
+				value = Long.reverse(value) >>> shift;
+			}
+		}
+		return value ^ parameters.getXorOut();
+	}
+
+	/**
+	 * Recupera o CRC em sua forma hexadecimal.
+	 *
+	 * @return HASH do CRC.
+	 */
+	@Override
+	public String digest() {
+		return Long.toHexString(getValue());
+	}
+
+	/**
+	 * Recupera o tamanho do CRC em bytes.
+	 *
+	 * @return Largura arredondada para bytes completos.
+	 */
+	@Override
+	public int getDigestLength() {
+		return (parameters.getWidth() + Byte.SIZE - 1) / Byte.SIZE;
+	}
+
+	/**
+	 * Grava o CRC em <i>big-endian</i> na matriz de destino.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return Quantidade de bytes gravados.
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		int length = getDigestLength();
+		Objects.checkFromIndexSize(offset, length, dst.length);
+		long value = getValue();
+		for (int i = length - 1; i >= 0; i--) {
+			dst[offset + i] = (byte) value;
+			value >>>= Byte.SIZE;
+		}
+		return length;
+	}
+
+	/**
+	 * Calcula o CRC com base na matriz de bytes recebida.
+	 *
+	 * @param buffer Matriz de bytes.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Calcula o CRC com base em parte da matriz de bytes recebida.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		int end = offset + length;
+		int i = offset;
+		long crc = register;
+		if (reflected) {
+			for (int limit = end - SLICE_LENGTH; i <= limit; i += SLICE_LENGTH) {
+				crc = updateReflected(crc, (long) LITTLE_VIEW.get(buffer, i));
+			}
+			for (; i < end; i++) {
+				crc = table[(int) (crc ^ buffer[i]) & BYTE_MASK] ^ crc >>> Byte.SIZE;
+			}
+		} else {
+			for (int limit = end - SLICE_LENGTH; i <= limit; i += SLICE_LENGTH) {
+				crc = updateAligned(crc, (long) BIG_VIEW.get(buffer, i));
+			}
+			for (; i < end; i++) {
+				crc = table[(int) (crc >>> TOP_SHIFT ^ buffer[i] & BYTE_MASK)] ^ crc << Byte.SIZE;
+			}
+		}
+		register = crc;
+	}
+
+	/**
+	 * Calcula o CRC com base nos bytes restantes de um {@link ByteBuffer}.
+	 * Buffers com matriz acessível são processados diretamente sobre ela; os
+	 * demais (diretos ou somente leitura) são lidos em blocos de 8 bytes.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		int position = buffer.position();
+		int end = buffer.limit();
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + position, end - position);
+		} else {
+			boolean swap = (buffer.order() == ByteOrder.LITTLE_ENDIAN) != reflected;
+			int i = position;
+			long crc = register;
+			for (int limit = end - SLICE_LENGTH; i <= limit; i += SLICE_LENGTH) {
+				long block = buffer.getLong(i);
+				if (swap) {
+					block = Long.reverseBytes(block);
+				}
+				crc = reflected ? updateReflected(crc, block) : updateAligned(crc, block);
+			}
+			for (; i < end; i++) {
+				byte b = buffer.get(i);
+				crc = reflected ? table[(int) (crc ^ b) & BYTE_MASK] ^ crc >>> Byte.SIZE
+						: table[(int) (crc >>> TOP_SHIFT ^ b & BYTE_MASK)] ^ crc << Byte.SIZE;
+			}
+			register = crc;
+		}
+		buffer.position(end);
+	}
+
+	/**
+	 * Acumula um bloco de 8 bytes no registrador refletido.
+	 *
+	 * @param crc Registrador.
+	 * @param value Bloco lido em <i>little-endian</i>.
+	 * @return Novo registrador.
+	 */
+	private long updateReflected(long crc, long value) {
+		long block = value ^ crc;
+		return table[7 * TABLE_LENGTH + ((int) block & BYTE_MASK)]
+			^ table[6 * TABLE_LENGTH + ((int) (block >>> 8) & BYTE_MASK)]
+			^ table[5 * TABLE_LENGTH + ((int) (block >>> 16) & BYTE_MASK)]
+			^ table[4 * TABLE_LENGTH + ((int) (block >>> 24) & BYTE_MASK)]
+			^ table[3 * TABLE_LENGTH + ((int) (block >>> 32) & BYTE_MASK)]
+			^ table[2 * TABLE_LENGTH + ((int) (block >>> 40) & BYTE_MASK)]
+			^ table[TABLE_LENGTH + ((int) (block >>> 48) & BYTE_MASK)]
+			^ table[(int) (block >>> 56)];
+	}
+
+	/**
+	 * Acumula um bloco de 8 bytes no registrador alinhado.
+	 *
+	 * @param crc Registrador.
+	 * @param value Bloco lido em <i>big-endian</i>.
+	 * @return Novo registrador.
+	 */
+	private long updateAligned(long crc, long value) {
+		long block = value ^ crc;
+		return table[7 * TABLE_LENGTH + (int) (block >>> 56)]
+			^ table[6 * TABLE_LENGTH + ((int) (block >>> 48) & BYTE_MASK)]
+			^ table[5 * TABLE_LENGTH + ((int) (block >>> 40) & BYTE_MASK)]
+			^ table[4 * TABLE_LENGTH + ((int) (block >>> 32) & BYTE_MASK)]
+			^ table[3 * TABLE_LENGTH + ((int) (block >>> 24) & BYTE_MASK)]
+			^ table[2 * TABLE_LENGTH + ((int) (block >>> 16) & BYTE_MASK)]
+			^ table[TABLE_LENGTH + ((int) (block >>> 8) & BYTE_MASK)]
+			^ table[(int) block & BYTE_MASK];
+	}
+}
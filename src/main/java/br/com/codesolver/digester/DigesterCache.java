@@ -0,0 +1,341 @@
+package br.com.codesolver.digester;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.MessageFormat;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Memoriza o HASH de arquivos, evitando recalcular arquivos que não foram
+ * alterados.
+ *
+ * <p>
+ * Cada registro é identificado pelo algorítimo e pela identidade do arquivo:
+ * a chave do sistema de arquivos ({@link BasicFileAttributes#fileKey()}, com o
+ * dispositivo e o <i>inode</i>) ou, quando ela não existe, o caminho absoluto.
+ * O registro só é usado se o tamanho e a data de modificação continuarem os
+ * mesmos, o que custa uma única consulta aos atributos do arquivo.
+ *
+ * <p>
+ * Arquivos modificados há menos de {@link #RACY_WINDOW} milissegundos não são
+ * memorizados, pois uma nova alteração dentro da mesma unidade de tempo do
+ * sistema de arquivos não mudaria a data de modificação. Pelo mesmo motivo, o
+ * registro é descartado se os atributos mudarem durante o cálculo.
+ *
+ * <p>
+ * A quantidade de registros é limitada, descartando os usados há mais tempo.
+ * Opcionalmente os registros são gravados em um índice em disco com
+ * {@link #save()}, e carregados na criação da instância. O índice é um arquivo
+ * texto com uma linha por registro, campos separados por tabulação: algorítimo,
+ * tamanho, data de modificação em nanossegundos, HASH hexadecimal e identidade.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFile
+ */
+public class DigesterCache {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterCache.class.getName());
+
+	/** Intervalo, em milissegundos, em que uma modificação recente impede a memorização. */
+	public static final long RACY_WINDOW = 2000;
+
+	/** Separador dos campos do índice. */
+	private static final String SEPARATOR = "\t";
+
+	/** Quantidade de campos de cada linha do índice. */
+	private static final int FIELDS = 5;
+
+	/** Registros em ordem de uso, do mais antigo para o mais recente. */
+	private final Map<String, Entry> entries;
+
+	/** Caminho do índice em disco, se houver. */
+	private final Path index;
+
+	/** Quantidade máxima de registros. */
+	private final int capacity;
+
+	/** Quantidade de consultas atendidas pelo cache. */
+	private final AtomicLong hits = new AtomicLong();
+
+	/** Quantidade de consultas que exigiram o cálculo. */
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Prepara o cache apenas em memória.
+	 *
+	 * @param capacity Quantidade máxima de registros.
+	 * @throws IllegalArgumentException Capacidade inválida.
+	 */
+	public DigesterCache(int capacity) {
+		this(capacity, null);
+	}
+
+	/**
+	 * Prepara o cache com um índice em disco, carregando os registros do
+	 * índice se ele existir. Linhas inválidas do índice são ignoradas.
+	 *
+	 * @param capacity Quantidade máxima de registros.
+	 * @param index Caminho do índice em disco, ou {@code null} para usar apenas a memória.
+	 * @throws IllegalArgumentException Capacidade inválida.
+	 * @throws DigesterException Erro ao ler o índice.
+	 */
+	public DigesterCache(int capacity, Path index) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacidade deve ser positiva.");
+		}
+		this.capacity = capacity;
+		this.index = index;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			/** Versão da classe. */
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > DigesterCache.this.capacity;
+			}
+		};
+		if (index != null && Files.exists(index)) {
+			load();
+		}
+	}
+
+	/**
+	 * Recupera o HASH de um arquivo, calculando-o apenas se o arquivo não
+	 * estiver no cache ou tiver sido alterado.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param file Caminho do arquivo.
+	 * @return HASH em bytes. A matriz é uma cópia e pode ser alterada.
+	 * @throws DigesterException Erro ao ler o arquivo ou algorítimo inválido.
+	 */
+	public byte[] digestBytes(AlgorithmType algorithm, Path file) {
+		Objects.requireNonNull(algorithm, "algorithm");
+		BasicFileAttributes before = attributes(file);
+		String key = key(algorithm, file, before);
+		long size = before.size();
+		long modified = before.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry != null && entry.size == size && entry.modified == modified) {
+			hits.incrementAndGet();
+			return entry.digest.clone();
+		}
+		misses.incrementAndGet();
+		long start = System.currentTimeMillis();
+		byte[] digest = DigesterFile.digestBytes(algorithm, file);
+		BasicFileAttributes after = attributes(file);
+		boolean stable = after.size() == size && after.lastModifiedTime().to(TimeUnit.NANOSECONDS) == modified;
+		synchronized (entries) {
+			if (stable && before.lastModifiedTime().toMillis() < start - RACY_WINDOW) {
+				entries.put(key, new Entry(size, modified, digest.clone()));
+			} else {
+				entries.remove(key);
+			}
+		}
+		return digest;
+	}
+
+	/**
+	 * Remove os registros de um arquivo, em todos os algorítimos.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @throws DigesterException Erro ao consultar os atributos do arquivo.
+	 */
+	public void invalidate(Path file) {
+		String identity = SEPARATOR + identity(file, attributes(file));
+		synchronized (entries) {
+			entries.keySet().removeIf(key -> key.endsWith(identity));
+		}
+	}
+
+	/** Remove todos os registros. */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Recupera a quantidade de registros.
+	 *
+	 * @return Quantidade de registros.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Recupera a quantidade máxima de registros.
+	 *
+	 * @return Capacidade.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Recupera a quantidade de consultas atendidas pelo cache.
+	 *
+	 * @return Quantidade de acertos.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Recupera a quantidade de consultas que exigiram o cálculo.
+	 *
+	 * @return Quantidade de falhas.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Grava os registros no índice em disco, substituindo-o de forma atômica.
+	 * Não faz nada se o cache não tiver índice.
+	 *
+	 * @throws DigesterException Erro ao gravar o índice.
+	 */
+	public void save() {
+		if (index == null) {
+			return;
+		}
+		Path temporary = index.resolveSibling(index.getFileName() + ".tmp");
+		HexFormat hex = HexFormat.of();
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+				synchronized (entries) {
+					for (Map.Entry<String, Entry> item : entries.entrySet()) {
+						String key = item.getKey();
+						int split = key.indexOf(SEPARATOR);
+						Entry entry = item.getValue();
+						writer.write(String.join(SEPARATOR, key.substring(0, split), Long.toString(entry.size),
+								Long.toString(entry.modified), hex.formatHex(entry.digest), key.substring(split + 1)));
+						writer.newLine();
+					}
+				}
+			}
+			Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			String message = MessageFormat.format("Erro ao gravar o índice {0}.", index);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Carrega os registros do índice em disco.
+	 *
+	 * @throws DigesterException Erro ao ler o índice.
+	 */
+	private void load() {
+		HexFormat hex = HexFormat.of();
+		try (BufferedReader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split(SEPARATOR, FIELDS);
+				try {
+					AlgorithmType.valueOf(fields[0]);
+					Entry entry = new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+							hex.parseHex(fields[3]));
+					entries.put(fields[0] + SEPARATOR + fields[4], entry);
+				} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+					LOGGER.warning(MessageFormat.format("Linha inválida no índice {0}.", index));
+				}
+			}
+		} catch (IOException e) {
+			String message = MessageFormat.format("Erro ao ler o índice {0}.", index);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Consulta os atributos de um arquivo.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @return {@link BasicFileAttributes}.
+	 * @throws DigesterException Erro ao consultar os atributos.
+	 */
+	private static BasicFileAttributes attributes(Path file) {
+		try {
+			return Files.readAttributes(file, BasicFileAttributes.class);
+		} catch (IOException e) {
+			String message = MessageFormat.format("Erro ao ler os atributos do arquivo {0}.", file);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Monta a chave de um registro.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param file Caminho do arquivo.
+	 * @param attributes Atributos do arquivo.
+	 * @return Chave do registro.
+	 */
+	private static String key(AlgorithmType algorithm, Path file, BasicFileAttributes attributes) {
+		return algorithm.name() + SEPARATOR + identity(file, attributes);
+	}
+
+	/**
+	 * Recupera a identidade de um arquivo.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @param attributes Atributos do arquivo.
+	 * @return Chave do sistema de arquivos, ou o caminho absoluto.
+	 */
+	private static String identity(Path file, BasicFileAttributes attributes) {
+		Object fileKey = attributes.fileKey();
+		return fileKey != null ? fileKey.toString() : file.toAbsolutePath().normalize().toString();
+	}
+
+	/**
+	 * Registro do cache.
+	 */
+	private static final class Entry {
+
+		/** Tamanho do arquivo no cálculo. */
+		private final long size;
+
+		/** Data de modificação do arquivo no cálculo, em nanossegundos. */
+		private final long modified;
+
+		/** HASH calculado. */
+		private final byte[] digest;
+
+		/**
+		 * Cria o registro.
+		 *
+		 * @param size Tamanho do arquivo.
+		 * @param modified Data de modificação do arquivo, em nanossegundos.
+		 * @param digest HASH calculado.
+		 */
+		private Entry(long size, long modified, byte[] digest) {
+			this.size = size;
+			this.modified = modified;
+			this.digest = digest;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package br.com.codesolver.digester;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Formato comum dos pontos de retomada de {@link DigesterResumable}.
+ *
+ * <p>
+ * O ponto de retomada começa com a versão do formato, o nome do algorítimo
+ * ({@link AlgorithmType#getValue()}, precedido do seu tamanho) e a quantidade
+ * de bytes acumulados. O restante é o estado específico de cada algorítimo,
+ * sempre em <i>big-endian</i>.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+final class DigesterCheckpoint {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterCheckpoint.class.getName());
+
+	/** Versão atual do formato. */
+	private static final byte VERSION = 1;
+
+	/**
+	 * Construtor oculto.
+	 */
+	private DigesterCheckpoint() {
+	}
+
+	/**
+	 * Prepara um ponto de retomada, já com o cabeçalho gravado.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param length Quantidade de bytes acumulados.
+	 * @param stateLength Tamanho, em bytes, do estado específico do algorítimo.
+	 * @return {@link ByteBuffer} posicionado no início do estado.
+	 */
+	static ByteBuffer create(AlgorithmType algorithm, long length, int stateLength) {
+		byte[] name = algorithm.getValue().getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer buffer = ByteBuffer.allocate(2 + name.length + Long.BYTES + stateLength);
+		return buffer.put(VERSION).put((byte) name.length).put(name).putLong(length);
+	}
+
+	/**
+	 * Abre um ponto de retomada, validando a versão e o algorítimo.
+	 *
+	 * @param algorithm {@link AlgorithmType} esperado.
+	 * @param checkpoint Ponto de retomada.
+	 * @param stateLength Tamanho mínimo, em bytes, do estado específico do algorítimo.
+	 * @return {@link ByteBuffer} posicionado na quantidade de bytes acumulados.
+	 * @throws DigesterException Ponto de retomada inválido ou de outro algorítimo.
+	 */
+	static ByteBuffer open(AlgorithmType algorithm, byte[] checkpoint, int stateLength) {
+		byte[] name = algorithm.getValue().getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer buffer = ByteBuffer.wrap(checkpoint == null ? new byte[0] : checkpoint);
+		try {
+			byte[] found = new byte[Byte.toUnsignedInt(buffer.get(1))];
+			buffer.position(2).get(found);
+			if (buffer.get(0) == VERSION && Arrays.equals(name, found)
+					&& buffer.remaining() >= Long.BYTES + stateLength) {
+				return buffer;
+			}
+		} catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+			throw invalid(algorithm, e);
+		}
+		throw invalid(algorithm, null);
+	}
+
+	/**
+	 * Prepara o erro para um ponto de retomada inválido.
+	 *
+	 * @param algorithm {@link AlgorithmType} esperado.
+	 * @param cause Causa do erro, se houver.
+	 * @return {@link DigesterException}.
+	 */
+	static DigesterException invalid(AlgorithmType algorithm, Throwable cause) {
+		String message = MessageFormat.format("Ponto de retomada inválido para o algoritimo {0}.", algorithm);
+		LOGGER.severe(message);
+		return new DigesterException(message, cause);
+	}
+}
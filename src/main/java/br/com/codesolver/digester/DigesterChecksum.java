@@ -0,0 +1,19 @@
+package br.com.codesolver.digester;
+
+/**
+ * Adiciona a funcionalidade de recuperar o resultado do cálculo como um valor
+ * numérico, sem conversão para texto ou matriz de bytes.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterCRC
+ */
+public interface DigesterChecksum extends Digester {
+
+	/**
+	 * Recupera o valor calculado.
+	 *
+	 * @return Valor sem sinal, limitado ao tamanho do algorítimo.
+	 */
+	long getValue();
+}
@@ -0,0 +1,69 @@
+package br.com.codesolver.digester;
+
+import java.text.MessageFormat;
+import java.util.HexFormat;
+
+/**
+ * Parte de um conteúdo delimitada por {@link DigesterChunker}, com o seu HASH.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterChunker
+ */
+public final class DigesterChunk {
+
+	/** Posição inicial da parte no conteúdo. */
+	private final long offset;
+
+	/** Tamanho da parte em bytes. */
+	private final int length;
+
+	/** HASH da parte. */
+	private final byte[] digest;
+
+	/**
+	 * Cria a parte.
+	 *
+	 * @param offset Posição inicial da parte no conteúdo.
+	 * @param length Tamanho da parte em bytes.
+	 * @param digest HASH da parte, que passa a pertencer à instância.
+	 */
+	DigesterChunk(long offset, int length, byte[] digest) {
+		this.offset = offset;
+		this.length = length;
+		this.digest = digest;
+	}
+
+	/**
+	 * Recupera a posição inicial da parte no conteúdo.
+	 *
+	 * @return Posição em bytes.
+	 */
+	public long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Recupera o tamanho da parte.
+	 *
+	 * @return Tamanho em bytes.
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Recupera o HASH da parte.
+	 *
+	 * @return Cópia do HASH em bytes.
+	 */
+	public byte[] getDigest() {
+		return digest.clone();
+	}
+
+	@Override
+	public String toString() {
+		return MessageFormat.format("[{0}, {1}] {2}", Long.toString(offset), Integer.toString(length),
+				HexFormat.of().formatHex(digest));
+	}
+}
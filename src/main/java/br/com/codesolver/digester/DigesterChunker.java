@@ -0,0 +1,327 @@
+package br.com.codesolver.digester;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Divide um conteúdo em partes definidas pelo próprio conteúdo (<i>content
+ * defined chunking</i>), para deduplicação.
+ *
+ * <p>
+ * Os limites são encontrados com o algorítimo FastCDC: um HASH rotativo
+ * <i>Gear</i> percorre o conteúdo e um limite é marcado quando os bits
+ * superiores do HASH ficam zerados. Uma inserção no conteúdo altera apenas as
+ * partes próximas, pois os limites seguintes voltam a coincidir. Os primeiros
+ * {@code minSize} bytes de cada parte não são examinados; até o tamanho médio
+ * é usada uma máscara mais restritiva, e depois uma mais permissiva, o que
+ * concentra os tamanhos ao redor da média (<i>normalized chunking</i>). Nenhuma
+ * parte ultrapassa {@code maxSize}.
+ *
+ * <p>
+ * A tabela do <i>Gear</i> é gerada com o SplitMix64 a partir de uma semente
+ * fixa, e não deve mudar: os limites de um mesmo conteúdo são os mesmos em
+ * qualquer execução. O HASH de cada parte é calculado no {@link ForkJoinPool}
+ * comum enquanto a busca dos limites continua, e as partes são entregues na
+ * ordem do conteúdo.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterChunk
+ */
+public class DigesterChunker {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterChunker.class.getName());
+
+	/** Tamanho mínimo padrão de uma parte (2 KB). */
+	public static final int DEFAULT_MIN_SIZE = 2 * 1024;
+
+	/** Tamanho médio padrão de uma parte (8 KB). */
+	public static final int DEFAULT_AVG_SIZE = 8 * 1024;
+
+	/** Tamanho máximo padrão de uma parte (64 KB). */
+	public static final int DEFAULT_MAX_SIZE = 64 * 1024;
+
+	/** Máscara para formatar um Byte. */
+	private static final int BYTE_MASK = 0xFF;
+
+	/** Semente fixa da tabela do <i>Gear</i>. */
+	private static final long GEAR_SEED = 0x436F6465536F6C76L;
+
+	/** Tamanho mínimo da área de leitura (1 MB). */
+	private static final int MIN_BUFFER_SIZE = 1024 * 1024;
+
+	/** Tabela do <i>Gear</i>, com um valor aleatório por byte. */
+	private static final long[] GEAR = createGear();
+
+	/** Algorítimo do HASH de cada parte. */
+	private final AlgorithmType algorithm;
+
+	/** Tamanho mínimo de uma parte. */
+	private final int minSize;
+
+	/** Tamanho médio de uma parte. */
+	private final int avgSize;
+
+	/** Tamanho máximo de uma parte. */
+	private final int maxSize;
+
+	/** Máscara usada antes do tamanho médio, com mais bits. */
+	private final long maskSmall;
+
+	/** Máscara usada depois do tamanho médio, com menos bits. */
+	private final long maskLarge;
+
+	/** Quantidade máxima de partes aguardando o HASH. */
+	private final int window;
+
+	/**
+	 * Prepara a divisão com os tamanhos padrão.
+	 *
+	 * @param algorithm {@link AlgorithmType} do HASH de cada parte.
+	 * @throws DigesterException Algorítimo inválido.
+	 */
+	public DigesterChunker(AlgorithmType algorithm) {
+		this(algorithm, DEFAULT_MIN_SIZE, DEFAULT_AVG_SIZE, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Prepara a divisão.
+	 *
+	 * @param algorithm {@link AlgorithmType} do HASH de cada parte.
+	 * @param minSize Tamanho mínimo de uma parte, a partir de 64 bytes.
+	 * @param avgSize Tamanho médio desejado, entre o mínimo e o máximo.
+	 * @param maxSize Tamanho máximo de uma parte.
+	 * @throws DigesterException Algorítimo inválido.
+	 * @throws IllegalArgumentException Tamanhos inválidos.
+	 */
+	public DigesterChunker(AlgorithmType algorithm, int minSize, int avgSize, int maxSize) {
+		if (minSize < Long.SIZE || avgSize < minSize || maxSize < avgSize) {
+			throw new IllegalArgumentException("Tamanhos devem respeitar 64 <= mínimo <= médio <= máximo.");
+		}
+		DigesterFactory.getInstance(algorithm);
+		this.algorithm = algorithm;
+		this.minSize = minSize;
+		this.avgSize = avgSize;
+		this.maxSize = maxSize;
+		int bits = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(avgSize);
+		this.maskSmall = mask(bits + 1);
+		this.maskLarge = mask(bits - 1);
+		this.window = 4 * ForkJoinPool.getCommonPoolParallelism();
+	}
+
+	/**
+	 * Gera a tabela do <i>Gear</i> com o SplitMix64.
+	 *
+	 * @return Tabela com 256 valores.
+	 */
+	private static long[] createGear() {
+		long[] gear = new long[BYTE_MASK + 1];
+		long state = GEAR_SEED;
+		for (int i = 0; i < gear.length; i++) {
+			state += 0x9E3779B97F4A7C15L;
+			long z = state;
+			z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+			z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+			gear[i] = z ^ z >>> 31;
+		}
+		return gear;
+	}
+
+	/**
+	 * Gera uma máscara com os bits superiores de um inteiro longo.
+	 *
+	 * @param bits Quantidade de bits.
+	 * @return Máscara.
+	 */
+	private static long mask(int bits) {
+		return bits <= 0 ? 0 : -1L << Long.SIZE - bits;
+	}
+
+	/**
+	 * Recupera o tamanho mínimo de uma parte.
+	 *
+	 * @return Tamanho em bytes.
+	 */
+	public int getMinSize() {
+		return minSize;
+	}
+
+	/**
+	 * Recupera o tamanho médio desejado de uma parte.
+	 *
+	 * @return Tamanho em bytes.
+	 */
+	public int getAvgSize() {
+		return avgSize;
+	}
+
+	/**
+	 * Recupera o tamanho máximo de uma parte.
+	 *
+	 * @return Tamanho em bytes.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Encontra o tamanho da próxima parte de uma matriz de bytes.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Início da parte na matriz.
+	 * @param length Quantidade de bytes disponíveis a partir do início. Se for
+	 *        menor que o máximo, deve ser o fim do conteúdo.
+	 * @return Tamanho da parte, entre 1 e {@code min(length, maxSize)}.
+	 */
+	public int boundary(byte[] buffer, int offset, int length) {
+		if (length <= minSize) {
+			return length;
+		}
+		int end = Math.min(length, maxSize);
+		int normal = Math.min(avgSize, end);
+		long hash = 0;
+		int i = minSize;
+		for (; i < normal; i++) {
+			hash = (hash << 1) + GEAR[buffer[offset + i] & BYTE_MASK];
+			if ((hash & maskSmall) == 0) {
+				return i + 1;
+			}
+		}
+		for (; i < end; i++) {
+			hash = (hash << 1) + GEAR[buffer[offset + i] & BYTE_MASK];
+			if ((hash & maskLarge) == 0) {
+				return i + 1;
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * Divide um arquivo em partes.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @return Partes, na ordem do arquivo.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 */
+	public List<DigesterChunk> chunk(Path file) {
+		List<DigesterChunk> chunks = new ArrayList<>();
+		chunk(file, chunks::add);
+		return chunks;
+	}
+
+	/**
+	 * Divide um arquivo em partes, entregando cada parte assim que o seu HASH
+	 * fica pronto.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @param consumer Tratamento de cada parte, na ordem do arquivo.
+	 * @return Tamanho total do arquivo em bytes.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 */
+	public long chunk(Path file, Consumer<DigesterChunk> consumer) {
+		try (InputStream in = Files.newInputStream(file)) {
+			return chunk(in, consumer);
+		} catch (IOException e) {
+			String message = MessageFormat.format("Erro ao ler o arquivo {0}.", file);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Divide todo o conteúdo de um {@link InputStream} em partes, entregando
+	 * cada parte assim que o seu HASH fica pronto. O {@link InputStream} não é
+	 * fechado.
+	 *
+	 * @param in {@link InputStream} de origem.
+	 * @param consumer Tratamento de cada parte, na ordem do conteúdo.
+	 * @return Tamanho total do conteúdo em bytes.
+	 * @throws IOException Erro de leitura.
+	 * @throws DigesterException Erro no cálculo do HASH.
+	 */
+	public long chunk(InputStream in, Consumer<DigesterChunk> consumer) throws IOException {
+		byte[] buffer = new byte[Math.max(MIN_BUFFER_SIZE, 4 * maxSize)];
+		Deque<CompletableFuture<DigesterChunk>> pending = new ArrayDeque<>(window);
+		long offset = 0;
+		int start = 0;
+		int end = 0;
+		boolean eof = false;
+		try {
+			while (true) {
+				if (!eof && end - start < maxSize) {
+					System.arraycopy(buffer, start, buffer, 0, end - start);
+					end -= start;
+					start = 0;
+					int count = in.readNBytes(buffer, end, buffer.length - end);
+					end += count;
+					eof = end < buffer.length;
+				}
+				if (start == end) {
+					break;
+				}
+				int length = boundary(buffer, start, end - start);
+				if (pending.size() == window) {
+					consumer.accept(join(pending.poll()));
+				}
+				pending.add(submit(offset, Arrays.copyOfRange(buffer, start, start + length)));
+				offset += length;
+				start += length;
+			}
+			while (!pending.isEmpty()) {
+				consumer.accept(join(pending.poll()));
+			}
+		} finally {
+			pending.forEach(future -> future.cancel(false));
+		}
+		return offset;
+	}
+
+	/**
+	 * Calcula o HASH de uma parte no {@link ForkJoinPool} comum.
+	 *
+	 * @param offset Posição inicial da parte no conteúdo.
+	 * @param data Bytes da parte.
+	 * @return Parte com o HASH, quando concluído.
+	 */
+	private CompletableFuture<DigesterChunk> submit(long offset, byte[] data) {
+		return CompletableFuture.supplyAsync(() -> {
+			Digester digester = DigesterPool.local(algorithm);
+			digester.update(data);
+			return new DigesterChunk(offset, data.length, digester.digestBytes());
+		}, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Aguarda o HASH de uma parte, repassando o erro original da tarefa.
+	 *
+	 * @param future Parte com o HASH.
+	 * @return {@link DigesterChunk}.
+	 * @throws DigesterException Erro no cálculo do HASH.
+	 */
+	private static DigesterChunk join(CompletableFuture<DigesterChunk> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof DigesterException cause) {
+				throw cause;
+			}
+			String message = "Erro ao calcular o HASH da parte.";
+			LOGGER.severe(message);
+			throw new DigesterException(message, e.getCause());
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package br.com.codesolver.digester;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Calcula vários HASH em uma única passagem sobre os dados.
+ *
+ * <p>
+ * Cada parte recebida é repassada para todos os processadores, na ordem dos
+ * algorítimos, enquanto ainda está no cache do processador. Opcionalmente,
+ * partes grandes podem ser processadas em paralelo, um processador por tarefa
+ * no {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+ *
+ * <p>
+ * Toda finalização ({@link #digests()}, {@link #digest()},
+ * {@link #digestInto(byte[], int)} e {@link #digestBytes()}) reinicia todos os
+ * processadores, inclusive os <i>checksums</i>, cuja finalização isolada não
+ * altera o estado. Assim, o conjunto se comporta como um único processador.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFactory#getCompositeInstance(AlgorithmType...)
+ */
+public class DigesterComposite implements Digester {
+
+	/** Separador dos HASH na representação em texto. */
+	private static final String SEPARATOR = " ";
+
+	/**
+	 * <i>Thread</i> que nunca é iniciada, usada para verificar se um segmento
+	 * pode ser lido por outras <i>threads</i>.
+	 */
+	private static final Thread PROBE = Thread.ofVirtual().unstarted(() -> { });
+
+	/** Algorítimos de cada processador. */
+	private final AlgorithmType[] algorithms;
+
+	/** Processadores de HASH, na ordem dos algorítimos. */
+	private final Digester[] digesters;
+
+	/** Tamanho mínimo de uma parte para atualização em paralelo. */
+	private int parallelThreshold;
+
+	/**
+	 * Prepara o cálculo para os algorítimos informados.
+	 *
+	 * @param algorithms Algorítimos, na ordem dos resultados.
+	 * @param digesters Processadores de cada algorítimo.
+	 */
+	DigesterComposite(AlgorithmType[] algorithms, Digester[] digesters) {
+		this.algorithms = algorithms;
+		this.digesters = digesters;
+		this.parallelThreshold = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Define o tamanho mínimo de uma parte para que os processadores sejam
+	 * atualizados em paralelo. Por padrão a atualização é sempre sequencial.
+	 *
+	 * @param parallelThreshold Tamanho mínimo em bytes, ou
+	 *        {@link Integer#MAX_VALUE} para desativar.
+	 * @throws IllegalArgumentException Tamanho inválido.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		if (parallelThreshold <= 0) {
+			throw new IllegalArgumentException("Tamanho mínimo deve ser positivo.");
+		}
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Recupera o tamanho mínimo de uma parte para atualização em paralelo.
+	 *
+	 * @return Tamanho mínimo em bytes.
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Recupera a quantidade de processadores.
+	 *
+	 * @return Quantidade de algorítimos.
+	 */
+	public int size() {
+		return digesters.length;
+	}
+
+	/**
+	 * Recupera o processador de uma posição.
+	 *
+	 * @param <T> Um descendente de {@link Digester}.
+	 * @param index Posição do algorítimo.
+	 * @return {@link Digester}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Digester> T getDigester(int index) {
+		return (T) digesters[index];
+	}
+
+	/**
+	 * Recupera o processador do primeiro algorítimo igual ao informado.
+	 *
+	 * @param <T> Um descendente de {@link Digester}.
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link Digester}, ou nulo se o algorítimo não fizer parte do cálculo.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Digester> T getDigester(AlgorithmType algorithm) {
+		for (int i = 0; i < algorithms.length; i++) {
+			if (algorithms[i] == algorithm) {
+				return (T) digesters[i];
+			}
+		}
+		return null;
+	}
+
+	/** Reinicia o cálculo de todos os processadores. */
+	@Override
+	public void reset() {
+		for (Digester digester : digesters) {
+			digester.reset();
+		}
+	}
+
+	/**
+	 * Acumula uma matriz de bytes em todos os processadores.
+	 *
+	 * @param buffer Matriz de bytes.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes em todos os processadores.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		if (isParallel(length)) {
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(digesters.length);
+			for (Digester digester : digesters) {
+				tasks.add(ForkJoinTask.adapt(() -> digester.update(buffer, offset, length)));
+			}
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			for (Digester digester : digesters) {
+				digester.update(buffer, offset, length);
+			}
+		}
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} em todos os
+	 * processadores. Cada processador consome uma cópia independente das
+	 * posições do buffer, sem copiar os dados.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		if (isParallel(buffer.remaining())) {
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(digesters.length);
+			for (Digester digester : digesters) {
+				ByteBuffer view = buffer.duplicate();
+				tasks.add(ForkJoinTask.adapt(() -> digester.update(view)));
+			}
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			for (Digester digester : digesters) {
+				digester.update(buffer.duplicate());
+			}
+		}
+		buffer.position(buffer.limit());
+	}
+
+	/**
+	 * Acumula todo o conteúdo de um {@link MemorySegment} em todos os
+	 * processadores. Segmentos restritos à <i>thread</i> atual, como os de uma
+	 * {@link java.lang.foreign.Arena#ofConfined()}, são processados em
+	 * sequência, pois não podem ser lidos pelas <i>threads</i> do processamento
+	 * paralelo.
+	 *
+	 * @param segment {@link MemorySegment} com os dados.
+	 */
+	@Override
+	public void update(MemorySegment segment) {
+		if (isParallel((int) Math.min(segment.byteSize(), Integer.MAX_VALUE)) && !segment.isAccessibleBy(PROBE)) {
+			for (Digester digester : digesters) {
+				digester.update(segment);
+			}
+		} else {
+			Digester.super.update(segment);
+		}
+	}
+
+	/**
+	 * Verifica se uma parte deve ser processada em paralelo.
+	 *
+	 * @param length Tamanho da parte.
+	 * @return Verdadeiro para atualização em paralelo.
+	 */
+	private boolean isParallel(int length) {
+		return digesters.length > 1 && length >= parallelThreshold;
+	}
+
+	/**
+	 * Calcula todos os HASH e retorna suas representações em texto, na ordem
+	 * dos algorítimos. Ao final, todos os processadores são reiniciados.
+	 *
+	 * @return HASH hexadecimal de cada algorítimo.
+	 */
+	public String[] digests() {
+		String[] result = new String[digesters.length];
+		for (int i = 0; i < digesters.length; i++) {
+			result[i] = digesters[i].digest();
+		}
+		reset();
+		return result;
+	}
+
+	/**
+	 * Calcula todos os HASH e retorna suas representações em texto, na ordem
+	 * dos algorítimos e separadas por espaço.
+	 *
+	 * @return HASH hexadecimal de cada algorítimo, separados por espaço.
+	 */
+	@Override
+	public String digest() {
+		return String.join(SEPARATOR, digests());
+	}
+
+	/**
+	 * Recupera o tamanho total dos HASH em bytes.
+	 *
+	 * @return Soma dos tamanhos de cada algorítimo.
+	 */
+	@Override
+	public int getDigestLength() {
+		int length = 0;
+		for (Digester digester : digesters) {
+			length += digester.getDigestLength();
+		}
+		return length;
+	}
+
+	/**
+	 * Grava todos os HASH em sequência, na ordem dos algorítimos. Ao final,
+	 * todos os processadores são reiniciados.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return Quantidade de bytes gravados.
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, getDigestLength(), dst.length);
+		int position = offset;
+		for (Digester digester : digesters) {
+			position += digester.digestInto(dst, position);
+		}
+		reset();
+		return position - offset;
+	}
+}
@@ -1,12 +1,36 @@
 package br.com.codesolver.digester;
 
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
 import java.text.MessageFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
 
 /**
  * Cria o processador de HASH adequado para o algorítimo informado.
  *
+ * <p>
+ * Para os algorítimos do provedor de segurança, é mantido um protótipo de
+ * {@link MessageDigest} já inicializado para cada {@link AlgorithmType}, e cada
+ * nova instância recebe um clone dele, evitando a busca do provedor a cada
+ * chamada. Quando o provedor não suporta clonagem, a instância é criada com
+ * {@link MessageDigest#getInstance(String)}.
+ *
+ * <p>
+ * Por padrão é usado o provedor preferencial da plataforma. Com
+ * {@link #setProviderSelection(boolean)}, na primeira utilização de cada
+ * algorítimo os provedores instalados são comparados por uma medição rápida e
+ * o mais veloz é mantido para as próximas instâncias. Um provedor também pode
+ * ser fixado para um algorítimo com {@link #setProvider(AlgorithmType, Provider)}.
+ *
  * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
  * @since 2025-08-26
  * @see AlgorithmType
@@ -16,6 +40,39 @@ public final class DigesterFactory {
 	/** Log da classe. */
 	private static final Logger LOGGER = Logger.getLogger(DigesterFactory.class.getName());
 
+	/** Protótipos inicializados para cada algorítimo, que nunca são atualizados. */
+	private static final Map<AlgorithmType, Prototype> PROTOTYPES = new ConcurrentHashMap<>();
+
+	/**
+	 * Geração da configuração de provedores, incrementada a cada alteração para
+	 * invalidar os protótipos criados com a configuração anterior.
+	 */
+	private static final AtomicLong GENERATION = new AtomicLong();
+
+	/** Algorítimos cujo provedor não suporta clonagem. */
+	private static final Set<AlgorithmType> UNCLONEABLE = ConcurrentHashMap.newKeySet();
+
+	/** Provedores fixados para cada algorítimo. */
+	private static final Map<AlgorithmType, Provider> PINNED = new ConcurrentHashMap<>();
+
+	/** Provedores escolhidos pela medição para cada algorítimo. */
+	private static final Map<AlgorithmType, Provider> SELECTED = new ConcurrentHashMap<>();
+
+	/** Tamanho dos dados usados na medição dos provedores (64 KB). */
+	private static final int BENCHMARK_LENGTH = 64 * 1024;
+
+	/** Quantidade de cálculos de aquecimento antes da medição. */
+	private static final int BENCHMARK_WARMUP = 32;
+
+	/** Quantidade de rodadas medidas; vale a mais rápida. */
+	private static final int BENCHMARK_ROUNDS = 5;
+
+	/** Quantidade de cálculos em cada rodada medida. */
+	private static final int BENCHMARK_ITERATIONS = 8;
+
+	/** Se os provedores devem ser escolhidos pela medição. */
+	private static volatile boolean providerSelection;
+
 	/** 
 	 * Construtor oculto.
 	 */
@@ -43,8 +100,44 @@ public final class DigesterFactory {
 				case CRC16: 
 					result = (T) new DigesterCRC16();
 					break;
+				case CRC16_CCITT_FALSE:
+					result = (T) new DigesterCRCEngine(CRCParameters.CRC16_CCITT_FALSE);
+					break;
+				case CRC16_MODBUS:
+					result = (T) new DigesterCRCEngine(CRCParameters.CRC16_MODBUS);
+					break;
+				case CRC16_XMODEM:
+					result = (T) new DigesterCRCEngine(CRCParameters.CRC16_XMODEM);
+					break;
+				case CRC16_KERMIT:
+					result = (T) new DigesterCRCEngine(CRCParameters.CRC16_KERMIT);
+					break;
+				case CRC32:
+					result = (T) new DigesterZip(new CRC32());
+					break;
+				case CRC32C:
+					result = (T) new DigesterZip(new CRC32C());
+					break;
+				case ADLER32:
+					result = (T) new DigesterZip(new Adler32());
+					break;
+				case XXHASH64:
+				case MURMUR3_128:
+					result = getInstance(algorithm, 0);
+					break;
+				case BLAKE3:
+					result = (T) new DigesterBLAKE3();
+					break;
+				case HMAC_SHA1:
+				case HMAC_SHA224:
+				case HMAC_SHA256:
+				case HMAC_SHA384:
+				case HMAC_SHA512:
+					String message = MessageFormat.format("Algoritimo {0} exige chave.", algorithm.name());
+					LOGGER.severe(message);
+					throw new DigesterException(message);
 				default:
-					result = (T) new DigesterSUN(algorithm);
+					result = (T) newDigesterSUN(algorithm);
 			}
 		} catch (NoSuchAlgorithmException e) {
 			String message = MessageFormat.format("Algoritimo {0} inválido.", algorithm.name());
@@ -53,4 +146,448 @@ public final class DigesterFactory {
 		} 
 		return result;
 	}
+
+	/**
+	 * Recupera o processador de HASH não criptográfico adequado para o
+	 * algorítimo, com a semente informada.
+	 *
+	 * @param <T> Um descendente de {@link Digester}.
+	 * @param algorithm {@link AlgorithmType#XXHASH64} ou {@link AlgorithmType#MURMUR3_128}.
+	 * @param seed Semente do cálculo. O MurmurHash3 utiliza apenas os 32 bits inferiores.
+	 * @return {@link DigesterChecksum}.
+	 * @throws DigesterException Algorítimo nulo ou que não aceita semente.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Digester> T getInstance(AlgorithmType algorithm, long seed) {
+		if (algorithm == null) {
+			String message = "Algoritimo não pode ser nulo.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		if (algorithm == AlgorithmType.XXHASH64) {
+			return (T) new DigesterXXHash64(seed);
+		}
+		if (algorithm == AlgorithmType.MURMUR3_128) {
+			return (T) new DigesterMurmur3(seed);
+		}
+		String message = MessageFormat.format("Algoritimo {0} não aceita semente.", algorithm);
+		LOGGER.severe(message);
+		throw new DigesterException(message);
+	}
+
+	/**
+	 * Recupera um processador de CRC para parâmetros personalizados. As tabelas
+	 * de cálculo são geradas uma única vez para cada conjunto de parâmetros.
+	 *
+	 * @param parameters {@link CRCParameters}.
+	 * @return {@link DigesterCRCEngine}.
+	 * @throws DigesterException Parâmetros nulos.
+	 */
+	public static DigesterCRCEngine getCRCInstance(CRCParameters parameters) {
+		if (parameters == null) {
+			String message = "Parâmetros do CRC não podem ser nulos.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		return new DigesterCRCEngine(parameters);
+	}
+
+	/**
+	 * Recupera um processador de HASH cujo estado pode ser exportado e
+	 * restaurado, para retomar cálculos interrompidos.
+	 *
+	 * <p>
+	 * O estado de um {@link MessageDigest} não pode ser gravado fora da memória,
+	 * por isso a família SHA-2 usa uma implementação em Java puro, mais lenta
+	 * que a do provedor de segurança.
+	 *
+	 * @param algorithm {@link AlgorithmType#CRC16}, {@link AlgorithmType#SHA_224},
+	 *        {@link AlgorithmType#SHA_256}, {@link AlgorithmType#SHA_384} ou
+	 *        {@link AlgorithmType#SHA_512}.
+	 * @return {@link DigesterResumable}.
+	 * @throws DigesterException Algorítimo nulo ou que não permite retomada.
+	 */
+	public static DigesterResumable getResumableInstance(AlgorithmType algorithm) {
+		if (algorithm != null) {
+			switch (algorithm) {
+				case CRC16:
+					return new DigesterCRC16();
+				case SHA_224:
+				case SHA_256:
+					return new DigesterSHA256(algorithm);
+				case SHA_384:
+				case SHA_512:
+					return new DigesterSHA512(algorithm);
+				default:
+					break;
+			}
+		}
+		String message = MessageFormat.format("Algoritimo {0} não permite retomada.", algorithm);
+		LOGGER.severe(message);
+		throw new DigesterException(message);
+	}
+
+	/**
+	 * Recupera o processador de HASH adequado para o algorítimo, no modo com
+	 * chave.
+	 *
+	 * <p>
+	 * Para os algorítimos HMAC a chave é preparada a cada chamada, com
+	 * {@link javax.crypto.Mac#getInstance(String)} e
+	 * {@link javax.crypto.Mac#init(java.security.Key)}: a fábrica não guarda
+	 * chaves nem protótipos por chave. Para reaproveitar instâncias com a mesma
+	 * chave, sem repetir a preparação, mantenha um
+	 * {@link DigesterPool#DigesterPool(AlgorithmType, byte[], int)} ou um
+	 * {@link DigesterHMAC} e use {@link DigesterHMAC#copy()}.
+	 *
+	 * @param <T> Um descendente de {@link Digester}.
+	 * @param algorithm {@link AlgorithmType#BLAKE3} ou um dos algorítimos HMAC.
+	 * @param key Chave com 32 bytes para o BLAKE3, ou com qualquer tamanho
+	 *        positivo para o HMAC.
+	 * @return {@link DigesterBLAKE3} ou {@link DigesterHMAC}.
+	 * @throws DigesterException Algorítimo nulo, inválido, que não aceita chave
+	 *         ou chave HMAC inválida.
+	 * @throws IllegalArgumentException Chave do BLAKE3 inválida.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Digester> T getInstance(AlgorithmType algorithm, byte[] key) {
+		if (algorithm != null) {
+			switch (algorithm) {
+				case BLAKE3:
+					return (T) new DigesterBLAKE3(key);
+				case HMAC_SHA1:
+				case HMAC_SHA224:
+				case HMAC_SHA256:
+				case HMAC_SHA384:
+				case HMAC_SHA512:
+					try {
+						return (T) new DigesterHMAC(algorithm, key);
+					} catch (NoSuchAlgorithmException e) {
+						String message = MessageFormat.format("Algoritimo {0} inválido.", algorithm.name());
+						LOGGER.severe(message);
+						throw new DigesterException(message, e);
+					}
+				default:
+					break;
+			}
+		}
+		String message = MessageFormat.format("Algoritimo {0} não aceita chave.", algorithm);
+		LOGGER.severe(message);
+		throw new DigesterException(message);
+	}
+
+	/**
+	 * Recupera um processador BLAKE3 no modo de derivação de chave. O resultado
+	 * do cálculo sobre o material da chave é a chave derivada.
+	 *
+	 * @param context Contexto da aplicação, fixo e único, por exemplo
+	 *        {@code "empresa.com.br 2025-08-26 chaves de sessão"}.
+	 * @return {@link DigesterBLAKE3}.
+	 * @throws DigesterException Contexto nulo.
+	 */
+	public static DigesterBLAKE3 getDeriveKeyInstance(String context) {
+		if (context == null) {
+			String message = "Contexto não pode ser nulo.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		return new DigesterBLAKE3(context);
+	}
+
+	/**
+	 * Recupera um processador de HASH com saída extensível, que pode ser lida
+	 * em partes de qualquer tamanho.
+	 *
+	 * <p>
+	 * Para a família SHAKE é usada uma implementação em Java puro, pois o
+	 * provedor de segurança, quando a oferece, só produz saídas de tamanho
+	 * fixo. O tamanho padrão
+	 * do HASH, usado por {@link Digester#digest()}, continua sendo o do
+	 * algorítimo.
+	 *
+	 * @param algorithm {@link AlgorithmType#BLAKE3},
+	 *        {@link AlgorithmType#SHAKE128_256} ou
+	 *        {@link AlgorithmType#SHAKE256_512}.
+	 * @return {@link DigesterXOF}.
+	 * @throws DigesterException Algorítimo nulo ou sem saída extensível.
+	 */
+	public static DigesterXOF getXOFInstance(AlgorithmType algorithm) {
+		if (algorithm != null) {
+			switch (algorithm) {
+				case BLAKE3:
+					return new DigesterBLAKE3();
+				case SHAKE128_256:
+				case SHAKE256_512:
+					return new DigesterSHAKE(algorithm);
+				default:
+					break;
+			}
+		}
+		String message = MessageFormat.format("Algoritimo {0} não possui saída extensível.", algorithm);
+		LOGGER.severe(message);
+		throw new DigesterException(message);
+	}
+
+	/**
+	 * Recupera um processador que calcula os HASH de vários algorítimos em uma
+	 * única passagem sobre os dados.
+	 *
+	 * @param algorithms Algorítimos, na ordem dos resultados.
+	 * @return {@link DigesterComposite}.
+	 * @throws DigesterException Nenhum algorítimo informado ou algorítimo inválido.
+	 */
+	public static DigesterComposite getCompositeInstance(AlgorithmType... algorithms) {
+		if (algorithms == null || algorithms.length == 0) {
+			String message = "Informe ao menos um algoritimo.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		AlgorithmType[] types = algorithms.clone();
+		Digester[] digesters = new Digester[types.length];
+		for (int i = 0; i < types.length; i++) {
+			digesters[i] = getInstance(types[i]);
+		}
+		return new DigesterComposite(types, digesters);
+	}
+
+	/**
+	 * Ativa ou desativa a escolha do provedor de segurança mais rápido para
+	 * cada algorítimo.
+	 *
+	 * <p>
+	 * Quando ativa, a primeira instância de cada algorítimo mede o tempo de
+	 * cálculo de todos os provedores instalados que o oferecem, e o mais rápido
+	 * é mantido até o fim da aplicação. A medição leva alguns milissegundos, por
+	 * isso a escolha deve ser feita na inicialização. Provedores fixados com
+	 * {@link #setProvider(AlgorithmType, Provider)} têm prioridade. Os
+	 * protótipos já criados são descartados.
+	 *
+	 * @param enabled Verdadeiro para escolher pelo desempenho, falso para usar
+	 *        o provedor preferencial da plataforma.
+	 */
+	public static void setProviderSelection(boolean enabled) {
+		providerSelection = enabled;
+		GENERATION.incrementAndGet();
+		PROTOTYPES.clear();
+		UNCLONEABLE.clear();
+	}
+
+	/**
+	 * Verifica se a escolha do provedor mais rápido está ativa.
+	 *
+	 * @return Verdadeiro se os provedores são escolhidos pela medição.
+	 */
+	public static boolean isProviderSelection() {
+		return providerSelection;
+	}
+
+	/**
+	 * Fixa o provedor de segurança usado por um algorítimo, independente da
+	 * escolha pela medição. O protótipo já criado para o algorítimo é
+	 * descartado.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param provider {@link Provider}, ou nulo para remover a fixação.
+	 * @throws DigesterException Algorítimo nulo ou não oferecido pelo provedor.
+	 */
+	public static void setProvider(AlgorithmType algorithm, Provider provider) {
+		if (algorithm == null) {
+			String message = "Algoritimo não pode ser nulo.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		if (provider == null) {
+			PINNED.remove(algorithm);
+		} else {
+			if (provider.getService("MessageDigest", algorithm.getValue()) == null) {
+				String message = MessageFormat.format("Provedor {0} não oferece o algoritimo {1}.",
+						provider.getName(), algorithm.name());
+				LOGGER.severe(message);
+				throw new DigesterException(message);
+			}
+			PINNED.put(algorithm, provider);
+		}
+		GENERATION.incrementAndGet();
+		PROTOTYPES.remove(algorithm);
+		UNCLONEABLE.remove(algorithm);
+	}
+
+	/**
+	 * Recupera o provedor de segurança usado pelas novas instâncias de um
+	 * algorítimo: o fixado, o escolhido pela medição (que é feita neste
+	 * momento, se ainda não foi) ou o preferencial da plataforma.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link Provider}.
+	 * @throws DigesterException Algorítimo nulo ou não oferecido por nenhum
+	 *         provedor instalado.
+	 */
+	public static Provider getProvider(AlgorithmType algorithm) {
+		if (algorithm == null) {
+			String message = "Algoritimo não pode ser nulo.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		try {
+			Provider provider = provider(algorithm);
+			return provider != null ? provider : MessageDigest.getInstance(algorithm.getValue()).getProvider();
+		} catch (NoSuchAlgorithmException e) {
+			String message = MessageFormat.format("Algoritimo {0} inválido.", algorithm.name());
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Recupera o provedor fixado ou escolhido pela medição para um algorítimo.
+	 *
+	 * <p>
+	 * A medição é feita fora do mapa, sem bloquear as consultas de outros
+	 * algorítimos. Se duas <i>threads</i> medirem o mesmo algorítimo ao mesmo
+	 * tempo, prevalece a primeira escolha registrada.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link Provider}, ou nulo para usar o preferencial da plataforma.
+	 */
+	private static Provider provider(AlgorithmType algorithm) {
+		Provider provider = PINNED.get(algorithm);
+		if (provider == null && providerSelection) {
+			provider = SELECTED.get(algorithm);
+			if (provider == null) {
+				Provider fastest = benchmark(algorithm);
+				if (fastest != null) {
+					provider = SELECTED.putIfAbsent(algorithm, fastest);
+					if (provider == null) {
+						provider = fastest;
+					}
+				}
+			}
+		}
+		return provider;
+	}
+
+	/**
+	 * Mede o tempo de cálculo de cada provedor instalado que oferece o
+	 * algorítimo, sempre sobre os mesmos dados, e escolhe o mais rápido. Cada
+	 * provedor é aquecido antes da medição, e vale a sua rodada mais rápida.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link Provider} mais rápido, ou nulo se nenhum oferecer o
+	 *         algorítimo.
+	 */
+	private static Provider benchmark(AlgorithmType algorithm) {
+		Provider[] providers = Security.getProviders("MessageDigest." + algorithm.getValue());
+		if (providers == null) {
+			return null;
+		}
+		if (providers.length == 1) {
+			return providers[0];
+		}
+		byte[] data = new byte[BENCHMARK_LENGTH];
+		Provider fastest = null;
+		long best = Long.MAX_VALUE;
+		for (Provider provider : providers) {
+			try {
+				MessageDigest digest = MessageDigest.getInstance(algorithm.getValue(), provider);
+				for (int i = 0; i < BENCHMARK_WARMUP; i++) {
+					data[0] ^= digest.digest(data)[0];
+				}
+				long elapsed = Long.MAX_VALUE;
+				for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+					long start = System.nanoTime();
+					for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+						data[0] ^= digest.digest(data)[0];
+					}
+					elapsed = Math.min(elapsed, System.nanoTime() - start);
+				}
+				LOGGER.fine(MessageFormat.format("Provedor {0} calculou {1} em {2} ns.", provider.getName(),
+						algorithm.name(), Long.toString(elapsed)));
+				if (elapsed < best) {
+					best = elapsed;
+					fastest = provider;
+				}
+			} catch (NoSuchAlgorithmException | RuntimeException e) {
+				LOGGER.warning(MessageFormat.format("Provedor {0} falhou na medição de {1}.", provider.getName(),
+						algorithm.name()));
+			}
+		}
+		if (fastest != null) {
+			LOGGER.config(MessageFormat.format("Provedor {0} escolhido para {1}.", fastest.getName(),
+					algorithm.name()));
+		}
+		return fastest;
+	}
+
+	/**
+	 * Cria um {@link MessageDigest} com o provedor fixado ou escolhido para o
+	 * algorítimo.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link MessageDigest}.
+	 * @throws NoSuchAlgorithmException Algorítimo inválido.
+	 */
+	private static MessageDigest newMessageDigest(AlgorithmType algorithm) throws NoSuchAlgorithmException {
+		Provider provider = provider(algorithm);
+		if (provider == null) {
+			return MessageDigest.getInstance(algorithm.getValue());
+		}
+		return MessageDigest.getInstance(algorithm.getValue(), provider);
+	}
+
+	/**
+	 * Cria um {@link DigesterSUN} a partir do clone do protótipo do algorítimo.
+	 *
+	 * <p>
+	 * A geração é lida antes da escolha do provedor, de modo que um protótipo
+	 * criado durante uma alteração de provedor fica marcado com a geração
+	 * anterior e é substituído na próxima consulta.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link DigesterSUN}.
+	 * @throws NoSuchAlgorithmException Algorítimo inválido.
+	 */
+	private static DigesterSUN newDigesterSUN(AlgorithmType algorithm) throws NoSuchAlgorithmException {
+		if (UNCLONEABLE.contains(algorithm)) {
+			return new DigesterSUN(newMessageDigest(algorithm));
+		}
+		long generation = GENERATION.get();
+		Prototype prototype = PROTOTYPES.get(algorithm);
+		if (prototype == null || prototype.generation != generation) {
+			Prototype created = new Prototype(newMessageDigest(algorithm), generation);
+			prototype = PROTOTYPES.merge(algorithm, created,
+					(current, value) -> current.generation >= value.generation ? current : value);
+		}
+		try {
+			return new DigesterSUN((MessageDigest) prototype.digest.clone());
+		} catch (CloneNotSupportedException e) {
+			LOGGER.fine(MessageFormat.format("Algoritimo {0} não suporta clonagem.", algorithm.name()));
+			UNCLONEABLE.add(algorithm);
+			PROTOTYPES.remove(algorithm);
+			return new DigesterSUN(newMessageDigest(algorithm));
+		}
+	}
+
+	/**
+	 * Protótipo de um algorítimo, com a geração da configuração de provedores
+	 * usada na sua criação.
+	 */
+	private static final class Prototype {
+
+		/** {@link MessageDigest} inicializado, que nunca é atualizado. */
+		private final MessageDigest digest;
+
+		/** Geração da configuração de provedores. */
+		private final long generation;
+
+		/**
+		 * Cria o protótipo.
+		 *
+		 * @param digest {@link MessageDigest} inicializado.
+		 * @param generation Geração da configuração de provedores.
+		 */
+		private Prototype(MessageDigest digest, long generation) {
+			this.digest = digest;
+			this.generation = generation;
+		}
+	}
 }
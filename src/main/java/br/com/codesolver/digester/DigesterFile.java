@@ -0,0 +1,160 @@
+package br.com.codesolver.digester;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.logging.Logger;
+
+/**
+ * Calcula o HASH de arquivos através de mapeamento em memória.
+ *
+ * <p>
+ * O arquivo é mapeado com {@link FileChannel#map(MapMode, long, long, Arena)}
+ * em janelas de tamanho configurável, e cada janela mapeada é enviada
+ * diretamente para {@link Digester#update(MemorySegment)}, sem cópias para
+ * matrizes intermediárias. Cada janela é desmapeada assim que processada, de
+ * modo que apenas uma janela fica mapeada por vez, sem depender do coletor de
+ * lixo. A janela só pode ser lida pela <i>thread</i> que a mapeou; por isso
+ * um {@link DigesterComposite} processa cada janela em sequência. Arquivos maiores que 2 GB são processados remapeando as janelas em
+ * sequência.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFactory
+ */
+public final class DigesterFile {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterFile.class.getName());
+
+	/** Tamanho padrão da janela de mapeamento (64 MB). */
+	public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Construtor oculto.
+	 */
+	private DigesterFile() {
+	}
+
+	/**
+	 * Calcula o HASH de um arquivo com a janela de mapeamento padrão.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param file Caminho do arquivo.
+	 * @return HASH hexadecimal, representado em forma de texto.
+	 * @throws DigesterException Erro ao ler o arquivo ou algorítimo inválido.
+	 */
+	public static String digest(AlgorithmType algorithm, Path file) {
+		return digest(algorithm, file, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Calcula o HASH de um arquivo.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param file Caminho do arquivo.
+	 * @param windowSize Tamanho, em bytes, de cada janela de mapeamento.
+	 * @return HASH hexadecimal, representado em forma de texto.
+	 * @throws DigesterException Erro ao ler o arquivo ou algorítimo inválido.
+	 * @throws IllegalArgumentException Tamanho de janela inválido.
+	 */
+	public static String digest(AlgorithmType algorithm, Path file, int windowSize) {
+		Digester digester = DigesterFactory.getInstance(algorithm);
+		update(digester, file, windowSize);
+		return digester.digest();
+	}
+
+	/**
+	 * Calcula o HASH de um arquivo com a janela de mapeamento padrão, sem
+	 * convertê-lo para texto.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param file Caminho do arquivo.
+	 * @return HASH em bytes.
+	 * @throws DigesterException Erro ao ler o arquivo ou algorítimo inválido.
+	 */
+	public static byte[] digestBytes(AlgorithmType algorithm, Path file) {
+		return digestBytes(algorithm, file, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Calcula o HASH de um arquivo, sem convertê-lo para texto.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param file Caminho do arquivo.
+	 * @param windowSize Tamanho, em bytes, de cada janela de mapeamento.
+	 * @return HASH em bytes.
+	 * @throws DigesterException Erro ao ler o arquivo ou algorítimo inválido.
+	 * @throws IllegalArgumentException Tamanho de janela inválido.
+	 */
+	public static byte[] digestBytes(AlgorithmType algorithm, Path file, int windowSize) {
+		Digester digester = DigesterFactory.getInstance(algorithm);
+		update(digester, file, windowSize);
+		return digester.digestBytes();
+	}
+
+	/**
+	 * Acumula todo o conteúdo de um arquivo em um {@link Digester}, com a janela
+	 * de mapeamento padrão.
+	 *
+	 * @param digester {@link Digester} que receberá o conteúdo.
+	 * @param file Caminho do arquivo.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 */
+	public static void update(Digester digester, Path file) {
+		update(digester, file, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Acumula todo o conteúdo de um arquivo em um {@link Digester}.
+	 *
+	 * @param digester {@link Digester} que receberá o conteúdo.
+	 * @param file Caminho do arquivo.
+	 * @param windowSize Tamanho, em bytes, de cada janela de mapeamento.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 * @throws IllegalArgumentException Tamanho de janela inválido.
+	 */
+	public static void update(Digester digester, Path file, int windowSize) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			update(digester, channel, 0, channel.size(), windowSize);
+		} catch (IOException e) {
+			String message = MessageFormat.format("Erro ao ler o arquivo {0}.", file);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Acumula uma região de um arquivo aberto em um {@link Digester}. A
+	 * posição do {@link FileChannel} não é alterada.
+	 *
+	 * @param digester {@link Digester} que receberá o conteúdo.
+	 * @param channel {@link FileChannel} aberto para leitura.
+	 * @param position Posição inicial da região no arquivo.
+	 * @param length Tamanho da região, em bytes.
+	 * @param windowSize Tamanho, em bytes, de cada janela de mapeamento.
+	 * @throws IOException Erro ao mapear o arquivo.
+	 * @throws IllegalArgumentException Tamanho de janela ou região inválidos.
+	 */
+	public static void update(Digester digester, FileChannel channel, long position, long length, int windowSize)
+			throws IOException {
+		if (windowSize <= 0) {
+			throw new IllegalArgumentException("Tamanho da janela deve ser positivo.");
+		}
+		if (position < 0 || length < 0) {
+			throw new IllegalArgumentException("Região do arquivo inválida.");
+		}
+		long end = position + length;
+		for (long offset = position; offset < end; offset += windowSize) {
+			long size = Math.min(windowSize, end - offset);
+			try (Arena arena = Arena.ofConfined()) {
+				digester.update(channel.map(MapMode.READ_ONLY, offset, size, arena));
+			}
+		}
+	}
+}
@@ -0,0 +1,256 @@
+package br.com.codesolver.digester;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Cálculo de HMAC através de um {@link Mac} já inicializado com a chave.
+ *
+ * <p>
+ * A inicialização da chave é feita uma única vez; as cópias obtidas com
+ * {@link #copy()} reaproveitam a chave já preparada quando o provedor suporta
+ * clonagem (caso contrário, a chave é inicializada novamente), e
+ * {@link #reset()} mantém a chave. Para reaproveitar instâncias entre requisições, use
+ * {@link DigesterPool#DigesterPool(AlgorithmType, byte[], int)}. Como em
+ * {@link DigesterSUN}, o cálculo é reiniciado após a finalização do HMAC.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFactory#getInstance(AlgorithmType, byte[])
+ */
+public class DigesterHMAC implements Digester {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterHMAC.class.getName());
+
+	/** Algorítimos cujo {@link Mac} não suporta clonagem. */
+	private static final Set<AlgorithmType> UNCLONEABLE = ConcurrentHashMap.newKeySet();
+
+	/** Algorítimo do HMAC. */
+	private final AlgorithmType algorithm;
+
+	/** Chave do HMAC, usada quando o {@link Mac} não suporta clonagem. */
+	private final byte[] key;
+
+	/** {@link Mac} inicializado, exclusivo desta instância. */
+	private final Mac mac;
+
+	/** Área reutilizável para o HMAC calculado nas verificações. */
+	private byte[] output;
+
+	/**
+	 * Prepara o cálculo de HMAC, inicializando a chave.
+	 *
+	 * @param algorithm Algorítimo HMAC.
+	 * @param key Chave, com qualquer tamanho positivo.
+	 * @throws NoSuchAlgorithmException Algorítimo inválido.
+	 * @throws DigesterException Chave nula, vazia ou inválida.
+	 */
+	DigesterHMAC(AlgorithmType algorithm, byte[] key) throws NoSuchAlgorithmException {
+		if (key == null || key.length == 0) {
+			String message = "Chave não pode ser nula ou vazia.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		LOGGER.fine(MessageFormat.format("Preparando o algoritimo {0}.", algorithm.name()));
+		this.algorithm = algorithm;
+		this.key = key.clone();
+		this.mac = Mac.getInstance(algorithm.getValue());
+		try {
+			mac.init(new SecretKeySpec(this.key, algorithm.getValue()));
+		} catch (InvalidKeyException e) {
+			String message = MessageFormat.format("Chave inválida para o algoritimo {0}.", algorithm.name());
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Prepara o cálculo de HMAC com um {@link Mac} já inicializado.
+	 *
+	 * @param algorithm Algorítimo HMAC.
+	 * @param key Chave do HMAC, compartilhada entre as cópias.
+	 * @param mac {@link Mac} exclusivo desta instância.
+	 */
+	private DigesterHMAC(AlgorithmType algorithm, byte[] key, Mac mac) {
+		this.algorithm = algorithm;
+		this.key = key;
+		this.mac = mac;
+	}
+
+	/**
+	 * Cria uma nova instância com a mesma chave, sem repetir a inicialização da
+	 * chave quando o provedor suporta clonagem. Nesse caso, o estado atual do
+	 * cálculo também é copiado; caso contrário, um novo {@link Mac} é
+	 * inicializado com a chave, sem os dados acumulados, e o algorítimo é
+	 * lembrado para que as próximas cópias não tentem clonar novamente.
+	 *
+	 * @return Nova instância de {@link DigesterHMAC}.
+	 * @throws DigesterException Erro ao criar o novo {@link Mac}.
+	 */
+	public DigesterHMAC copy() {
+		if (!UNCLONEABLE.contains(algorithm)) {
+			try {
+				return new DigesterHMAC(algorithm, key, (Mac) mac.clone());
+			} catch (CloneNotSupportedException e) {
+				LOGGER.fine(MessageFormat.format("Algoritimo {0} não suporta clonagem.", algorithm.name()));
+				UNCLONEABLE.add(algorithm);
+			}
+		}
+		try {
+			Mac created = Mac.getInstance(algorithm.getValue());
+			created.init(new SecretKeySpec(key, algorithm.getValue()));
+			return new DigesterHMAC(algorithm, key, created);
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			String message = MessageFormat.format("Erro ao copiar o HMAC {0}.", algorithm.name());
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Recupera o algorítimo do HMAC.
+	 *
+	 * @return {@link AlgorithmType}.
+	 */
+	public AlgorithmType getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * Verifica, em tempo constante, se o HMAC dos dados acumulados coincide com
+	 * o HMAC informado. O HMAC calculado é gravado em uma área reutilizável, sem
+	 * alocações a cada chamada, e o cálculo é reiniciado.
+	 *
+	 * @param expected HMAC esperado, em bytes.
+	 * @return Verdadeiro se o HMAC coincidir.
+	 */
+	public boolean verify(byte[] expected) {
+		if (output == null) {
+			output = new byte[getDigestLength()];
+		}
+		digestInto(output, 0);
+		return MessageDigest.isEqual(output, expected);
+	}
+
+	/**
+	 * Verifica, em tempo constante, se o HMAC de uma sequência coincide com o
+	 * HMAC informado, descartando os dados acumulados anteriormente.
+	 *
+	 * @param value Sequência para ser verificada.
+	 * @param expected HMAC esperado, em bytes.
+	 * @return Verdadeiro se o HMAC coincidir.
+	 */
+	public boolean verify(byte[] value, byte[] expected) {
+		mac.reset();
+		mac.update(value);
+		return verify(expected);
+	}
+
+	/**
+	 * Reinicia o cálculo do HMAC, mantendo a chave.
+	 */
+	@Override
+	public void reset() {
+		mac.reset();
+	}
+
+	/**
+	 * Acumula informações para o cálculo do HMAC.
+	 *
+	 * @param buffer Sequência para ser acumulada.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		mac.update(buffer);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes para o cálculo do HMAC.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		mac.update(buffer, offset, length);
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} para o cálculo do HMAC.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		mac.update(buffer);
+	}
+
+	/**
+	 * Calcula o HMAC e retorna sua representação em texto. O cálculo é
+	 * reiniciado.
+	 *
+	 * @return HMAC hexadecimal, no mesmo formato de {@link DigesterSUN#digest()}.
+	 */
+	@Override
+	public String digest() {
+		return StringUtil.toHex(digestBytes());
+	}
+
+	/**
+	 * Recupera o tamanho do HMAC em bytes.
+	 *
+	 * @return Quantidade de bytes do HMAC.
+	 */
+	@Override
+	public int getDigestLength() {
+		return mac.getMacLength();
+	}
+
+	/**
+	 * Calcula o HMAC e o grava na matriz de destino. O cálculo é reiniciado.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return Quantidade de bytes gravados.
+	 * @throws DigesterException Erro ao gravar o HMAC.
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		int length = mac.getMacLength();
+		Objects.checkFromIndexSize(offset, length, dst.length);
+		try {
+			mac.doFinal(dst, offset);
+		} catch (ShortBufferException e) {
+			String message = MessageFormat.format("Erro ao calcular o HMAC {0}.", algorithm.name());
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+		return length;
+	}
+
+	/**
+	 * Calcula o HMAC e retorna o resultado em uma nova matriz de bytes. O
+	 * cálculo é reiniciado.
+	 *
+	 * @return HMAC em bytes.
+	 */
+	@Override
+	public byte[] digestBytes() {
+		return mac.doFinal();
+	}
+}
@@ -0,0 +1,269 @@
+package br.com.codesolver.digester;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Calcula o HASH de arquivos grandes em paralelo, através de uma lista de HASH.
+ *
+ * <p>
+ * O arquivo é dividido em partes de tamanho fixo, cada parte tem seu HASH
+ * calculado de forma independente em um {@link ForkJoinPool}, e o HASH
+ * principal é calculado sobre a lista de HASH das partes. O formato é:
+ *
+ * <ul>
+ *   <li>a parte {@code i} cobre os bytes {@code [i * chunkSize, min((i + 1) * chunkSize, size))}
+ *   do arquivo; a última parte pode ser menor e um arquivo vazio não tem
+ *   partes;</li>
+ *   <li>a lista de HASH é a concatenação, na ordem das partes, do HASH em bytes
+ *   ({@link Digester#digestInto(byte[], int)}) de cada parte, todas com
+ *   {@link Digester#getDigestLength()} bytes;</li>
+ *   <li>o HASH principal é o HASH, com o mesmo algorítimo, da lista de
+ *   HASH.</li>
+ * </ul>
+ *
+ * <p>
+ * O resultado depende apenas do algorítimo, do tamanho das partes e do
+ * conteúdo do arquivo, nunca da quantidade de <i>threads</i>. O HASH principal
+ * não é igual ao HASH do arquivo inteiro, por isso o tamanho das partes deve
+ * ser guardado junto com o resultado.
+ *
+ * <p>
+ * Os processadores de HASH das partes são emprestados de um
+ * {@link DigesterPool} da instância, e reaproveitados entre as chamadas.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFile
+ */
+public class DigesterHashList {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterHashList.class.getName());
+
+	/** Tamanho padrão de cada parte (8 MB). */
+	public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	/** Algorítimo usado nas partes e no HASH principal. */
+	private final AlgorithmType algorithm;
+
+	/** Tamanho de cada parte em bytes. */
+	private final int chunkSize;
+
+	/** Quantidade máxima de <i>threads</i> usadas no cálculo. */
+	private final int parallelism;
+
+	/** Tamanho do HASH de cada parte em bytes. */
+	private final int digestLength;
+
+	/** Processadores de HASH reaproveitados entre as partes e as chamadas. */
+	private final DigesterPool<Digester> digesters;
+
+	/**
+	 * Prepara o cálculo com o tamanho de parte padrão e uma <i>thread</i> por
+	 * processador disponível.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @throws DigesterException Algorítimo inválido.
+	 */
+	public DigesterHashList(AlgorithmType algorithm) {
+		this(algorithm, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Prepara o cálculo.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param chunkSize Tamanho de cada parte em bytes.
+	 * @param parallelism Quantidade máxima de <i>threads</i> usadas no cálculo.
+	 * @throws DigesterException Algorítimo inválido.
+	 * @throws IllegalArgumentException Tamanho de parte ou paralelismo inválidos.
+	 */
+	public DigesterHashList(AlgorithmType algorithm, int chunkSize, int parallelism) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Tamanho da parte deve ser positivo.");
+		}
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("Paralelismo deve ser positivo.");
+		}
+		this.digesters = new DigesterPool<>(algorithm, parallelism);
+		Digester digester = digesters.borrow();
+		this.digestLength = digester.getDigestLength();
+		digesters.release(digester);
+		this.algorithm = algorithm;
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Recupera o algorítimo usado nas partes e no HASH principal.
+	 *
+	 * @return {@link AlgorithmType}.
+	 */
+	public AlgorithmType getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * Recupera o tamanho de cada parte.
+	 *
+	 * @return Tamanho em bytes.
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Recupera a quantidade máxima de <i>threads</i> usadas no cálculo.
+	 *
+	 * @return Paralelismo.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Calcula o HASH principal de um arquivo.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @return HASH principal hexadecimal, no formato de {@link Digester#digest()}.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 */
+	public String digest(Path file) {
+		return StringUtil.toHex(digestBytes(file));
+	}
+
+	/**
+	 * Calcula o HASH principal de um arquivo, sem convertê-lo para texto.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @return HASH principal em bytes.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 */
+	public byte[] digestBytes(Path file) {
+		return combine(hashList(file));
+	}
+
+	/**
+	 * Calcula o HASH principal a partir de uma lista de HASH já calculada.
+	 *
+	 * @param hashList Lista de HASH no formato de {@link #hashList(Path)}.
+	 * @return HASH principal em bytes.
+	 * @throws IllegalArgumentException Lista com tamanho inválido.
+	 */
+	public byte[] combine(byte[] hashList) {
+		if (hashList.length % digestLength != 0) {
+			throw new IllegalArgumentException("Tamanho da lista de HASH inválido.");
+		}
+		Digester digester = digesters.borrow();
+		try {
+			digester.update(hashList);
+			return digester.digestBytes();
+		} finally {
+			digesters.release(digester);
+		}
+	}
+
+	/**
+	 * Calcula a lista de HASH das partes de um arquivo, em paralelo.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @return Concatenação dos HASH de cada parte, na ordem do arquivo.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 */
+	public byte[] hashList(Path file) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long chunks = (size + chunkSize - 1) / chunkSize;
+			if (chunks * digestLength > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Tamanho da parte muito pequeno para o arquivo.");
+			}
+			byte[] hashList = new byte[(int) chunks * digestLength];
+			try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+				pool.invoke(new ChunkTask(channel, size, hashList, 0, (int) chunks));
+			}
+			return hashList;
+		} catch (IOException | UncheckedIOException e) {
+			String message = MessageFormat.format("Erro ao ler o arquivo {0}.", file);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+	}
+
+	/**
+	 * Tarefa que calcula o HASH de um intervalo de partes, dividindo o intervalo
+	 * ao meio até restar uma única parte.
+	 */
+	private final class ChunkTask extends RecursiveAction {
+
+		/** Identificador de serialização. */
+		private static final long serialVersionUID = 1L;
+
+		/** Arquivo aberto para leitura. */
+		private final transient FileChannel channel;
+
+		/** Tamanho do arquivo. */
+		private final long size;
+
+		/** Lista de HASH que receberá o resultado. */
+		private final byte[] hashList;
+
+		/** Primeira parte do intervalo. */
+		private final int from;
+
+		/** Parte seguinte à última do intervalo. */
+		private final int to;
+
+		/**
+		 * Prepara a tarefa para um intervalo de partes.
+		 *
+		 * @param channel Arquivo aberto para leitura.
+		 * @param size Tamanho do arquivo.
+		 * @param hashList Lista de HASH que receberá o resultado.
+		 * @param from Primeira parte do intervalo.
+		 * @param to Parte seguinte à última do intervalo.
+		 */
+		ChunkTask(FileChannel channel, long size, byte[] hashList, int from, int to) {
+			this.channel = channel;
+			this.size = size;
+			this.hashList = hashList;
+			this.from = from;
+			this.to = to;
+		}
+
+		/** Calcula o HASH das partes do intervalo. */
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new ChunkTask(channel, size, hashList, from, middle),
+						new ChunkTask(channel, size, hashList, middle, to));
+				return;
+			}
+			if (to == from) {
+				return;
+			}
+			long position = (long) from * chunkSize;
+			long length = Math.min(chunkSize, size - position);
+			Digester digester = digesters.borrow();
+			try {
+				DigesterFile.update(digester, channel, position, length,
+						Math.min(chunkSize, DigesterFile.DEFAULT_WINDOW_SIZE));
+				digester.digestInto(hashList, from * digestLength);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} finally {
+				digesters.release(digester);
+			}
+		}
+	}
+}
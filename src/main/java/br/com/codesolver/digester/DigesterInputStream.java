@@ -0,0 +1,136 @@
+package br.com.codesolver.digester;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * {@link InputStream} que atualiza um {@link Digester} com todos os bytes
+ * lidos, permitindo calcular o HASH enquanto os dados são consumidos, sem uma
+ * segunda leitura.
+ *
+ * <p>
+ * As leituras em bloco, {@link #skip(long)} e {@link #transferTo(OutputStream)}
+ * atualizam o cálculo com o bloco inteiro de uma única vez. Os bytes pulados
+ * também fazem parte do HASH. Marcação e retorno não são suportados, pois os
+ * bytes relidos seriam contados duas vezes.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterOutputStream
+ */
+public class DigesterInputStream extends FilterInputStream {
+
+	/** Tamanho da matriz intermediária de {@link #skip(long)} e {@link #transferTo(OutputStream)}. */
+	private static final int BUFFER_LENGTH = 16 * 1024;
+
+	/** Processador de HASH atualizado pela leitura. */
+	private final Digester digester;
+
+	/** Matriz para a leitura de um único byte. */
+	private final byte[] single = new byte[1];
+
+	/**
+	 * Prepara a leitura com cálculo do HASH.
+	 *
+	 * @param in {@link InputStream} de origem.
+	 * @param digester {@link Digester} atualizado com os bytes lidos.
+	 */
+	public DigesterInputStream(InputStream in, Digester digester) {
+		super(Objects.requireNonNull(in, "in"));
+		this.digester = Objects.requireNonNull(digester, "digester");
+	}
+
+	/**
+	 * Recupera o processador de HASH atualizado pela leitura.
+	 *
+	 * @return {@link Digester}.
+	 */
+	public Digester getDigester() {
+		return digester;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = in.read();
+		if (b >= 0) {
+			single[0] = (byte) b;
+			digester.update(single, 0, 1);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int count = in.read(b, off, len);
+		if (count > 0) {
+			digester.update(b, off, count);
+		}
+		return count;
+	}
+
+	/**
+	 * Pula bytes da origem, lendo-os para que façam parte do HASH.
+	 *
+	 * @param n Quantidade de bytes.
+	 * @return Quantidade de bytes efetivamente pulados.
+	 * @throws IOException Erro de leitura.
+	 */
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0) {
+			return 0;
+		}
+		byte[] buffer = new byte[(int) Math.min(n, BUFFER_LENGTH)];
+		long remaining = n;
+		while (remaining > 0) {
+			int count = read(buffer, 0, (int) Math.min(remaining, buffer.length));
+			if (count < 0) {
+				break;
+			}
+			remaining -= count;
+		}
+		return n - remaining;
+	}
+
+	/**
+	 * Transfere todos os bytes restantes para o destino, em blocos, atualizando
+	 * o HASH com cada bloco.
+	 *
+	 * @param out {@link OutputStream} de destino.
+	 * @return Quantidade de bytes transferidos.
+	 * @throws IOException Erro de leitura ou escrita.
+	 */
+	@Override
+	public long transferTo(OutputStream out) throws IOException {
+		Objects.requireNonNull(out, "out");
+		byte[] buffer = new byte[BUFFER_LENGTH];
+		long total = 0;
+		int count;
+		while ((count = in.read(buffer, 0, BUFFER_LENGTH)) >= 0) {
+			if (count > 0) {
+				digester.update(buffer, 0, count);
+				out.write(buffer, 0, count);
+				total += count;
+			}
+		}
+		return total;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		// Marcação não suportada.
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("Marcação não suportada.");
+	}
+}
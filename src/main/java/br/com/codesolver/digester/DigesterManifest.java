@@ -0,0 +1,482 @@
+package br.com.codesolver.digester;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+/**
+ * Gera e verifica manifestos de HASH de uma árvore de diretórios, no formato
+ * do {@code sha256sum}.
+ *
+ * <p>
+ * Cada linha do manifesto contém o HASH hexadecimal completo, dois espaços e
+ * o caminho do arquivo relativo à raiz, com {@code /} como separador. As linhas
+ * são ordenadas pelo caminho, o que torna o manifesto reproduzível. Na
+ * verificação também são aceitas as linhas no modo binário
+ * ({@code HASH *caminho}).
+ *
+ * <p>
+ * Os arquivos são calculados em paralelo por um {@link DigesterService}, que
+ * sobrepõe a leitura de uns com o cálculo de outros. Apenas uma janela de
+ * arquivos fica em andamento ao mesmo tempo, e os resultados são entregues na
+ * ordem do manifesto assim que ficam prontos, sem esperar a árvore inteira.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterService
+ */
+public class DigesterManifest {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterManifest.class.getName());
+
+	/** Separador entre o HASH e o caminho. */
+	private static final String TEXT_SEPARATOR = "  ";
+
+	/** Separador entre o HASH e o caminho no modo binário. */
+	private static final String BINARY_SEPARATOR = " *";
+
+	/** Algorítimo do manifesto. */
+	private final AlgorithmType algorithm;
+
+	/** Serviço informado na criação, ou {@code null} para criar um a cada operação. */
+	private final DigesterService service;
+
+	/** Acompanhamento do progresso, se houver. */
+	private ProgressListener listener;
+
+	/**
+	 * Prepara o manifesto, criando um {@link DigesterService} com os limites
+	 * padrão a cada operação.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @throws DigesterException Algorítimo inválido.
+	 */
+	public DigesterManifest(AlgorithmType algorithm) {
+		this(algorithm, null);
+	}
+
+	/**
+	 * Prepara o manifesto com um {@link DigesterService} existente, que não é
+	 * encerrado pelo manifesto.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param service {@link DigesterService}, ou {@code null} para criar um a cada operação.
+	 * @throws DigesterException Algorítimo inválido.
+	 */
+	public DigesterManifest(AlgorithmType algorithm, DigesterService service) {
+		DigesterFactory.getInstance(algorithm);
+		this.algorithm = algorithm;
+		this.service = service;
+	}
+
+	/**
+	 * Recupera o algorítimo do manifesto.
+	 *
+	 * @return {@link AlgorithmType}.
+	 */
+	public AlgorithmType getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * Define o acompanhamento do progresso, chamado a cada arquivo concluído.
+	 *
+	 * @param listener {@link ProgressListener}, ou {@code null} para remover.
+	 */
+	public void setProgressListener(ProgressListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Gera o manifesto de todos os arquivos regulares de uma árvore de
+	 * diretórios, gravando cada linha assim que o HASH do arquivo fica pronto.
+	 *
+	 * @param root Diretório raiz.
+	 * @param out Destino das linhas do manifesto.
+	 * @return Quantidade de arquivos no manifesto.
+	 * @throws DigesterException Erro ao percorrer a árvore, ler um arquivo ou gravar o manifesto.
+	 */
+	public int generate(Path root, Writer out) {
+		List<Item> items = walk(root);
+		HexFormat hex = HexFormat.of();
+		run(items, (item, digest) -> {
+			try {
+				out.write(hex.formatHex(digest));
+				out.write(TEXT_SEPARATOR);
+				out.write(item.name);
+				out.write('\n');
+			} catch (IOException e) {
+				String message = "Erro ao gravar o manifesto.";
+				LOGGER.severe(message);
+				throw new DigesterException(message, e);
+			}
+			return true;
+		});
+		try {
+			out.flush();
+		} catch (IOException e) {
+			String message = "Erro ao gravar o manifesto.";
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+		return items.size();
+	}
+
+	/**
+	 * Verifica os arquivos de uma árvore de diretórios contra um manifesto.
+	 * Arquivos ausentes são divergências; arquivos fora do manifesto são
+	 * ignorados.
+	 *
+	 * @param root Diretório raiz.
+	 * @param manifest Origem das linhas do manifesto.
+	 * @param failFast Se a verificação para na primeira divergência.
+	 * @return Divergências, na ordem do manifesto. Vazia se todos os arquivos conferem.
+	 * @throws DigesterException Manifesto inválido ou erro ao ler um arquivo.
+	 */
+	public List<Mismatch> verify(Path root, Reader manifest, boolean failFast) {
+		List<Mismatch> mismatches = new ArrayList<>();
+		run(parse(root, manifest), (item, digest) -> {
+			if (!Arrays.equals(item.expected, digest)) {
+				mismatches.add(new Mismatch(item.name, item.expected, digest));
+				return !failFast;
+			}
+			return true;
+		});
+		return mismatches;
+	}
+
+	/**
+	 * Calcula os arquivos em uma janela deslizante, entregando os resultados
+	 * na ordem da lista. Arquivos ausentes não são lidos e são entregues, na
+	 * sua posição, com o HASH nulo.
+	 *
+	 * @param items Arquivos.
+	 * @param consumer Tratamento de cada resultado; devolve falso para parar.
+	 * @throws DigesterException Erro ao ler um arquivo.
+	 */
+	private void run(List<Item> items, ResultConsumer consumer) {
+		DigesterService current = service != null ? service : new DigesterService();
+		int window = 2 * current.getIOLimit();
+		Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>(window);
+		long start = System.nanoTime();
+		long bytes = 0;
+		int next = 0;
+		try {
+			for (int done = 0; done < items.size(); done++) {
+				while (next < items.size() && pending.size() < window) {
+					Item item = items.get(next++);
+					pending.add(item.size < 0 ? CompletableFuture.completedFuture(null)
+							: current.submit(algorithm, item.file));
+				}
+				Item item = items.get(done);
+				byte[] digest = join(pending.poll());
+				bytes += Math.max(item.size, 0);
+				if (listener != null) {
+					long elapsed = Math.max(System.nanoTime() - start, 1);
+					listener.progress(done + 1, items.size(), bytes, bytes * 1e9 / elapsed);
+				}
+				if (!consumer.accept(item, digest)) {
+					break;
+				}
+			}
+		} finally {
+			pending.forEach(future -> future.cancel(true));
+			if (current != service) {
+				current.close();
+			}
+		}
+	}
+
+	/**
+	 * Aguarda um resultado, repassando o erro original da tarefa.
+	 *
+	 * @param future Resultado da tarefa.
+	 * @return HASH em bytes.
+	 * @throws DigesterException Erro ao ler o arquivo.
+	 */
+	private static byte[] join(CompletableFuture<byte[]> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof DigesterException cause) {
+				throw cause;
+			}
+			String message = "Erro ao calcular o HASH do manifesto.";
+			LOGGER.severe(message);
+			throw new DigesterException(message, e.getCause());
+		}
+	}
+
+	/**
+	 * Lista os arquivos regulares de uma árvore, ordenados pelo caminho
+	 * relativo.
+	 *
+	 * @param root Diretório raiz.
+	 * @return Arquivos ordenados.
+	 * @throws DigesterException Erro ao percorrer a árvore.
+	 */
+	private static List<Item> walk(Path root) {
+		List<Item> items = new ArrayList<>();
+		try {
+			Files.walkFileTree(root, new SimpleFileVisitor<>() {
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					if (attributes.isRegularFile()) {
+						items.add(new Item(name(root.relativize(file)), file, attributes.size(), null));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException e) {
+			String message = MessageFormat.format("Erro ao percorrer o diretório {0}.", root);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+		items.sort(Comparator.comparing(item -> item.name));
+		return items;
+	}
+
+	/**
+	 * Lê as linhas de um manifesto. Linhas vazias são ignoradas.
+	 *
+	 * @param root Diretório raiz.
+	 * @param manifest Origem das linhas do manifesto.
+	 * @return Arquivos do manifesto, com o HASH esperado.
+	 * @throws DigesterException Manifesto inválido.
+	 */
+	private static List<Item> parse(Path root, Reader manifest) {
+		List<Item> items = new ArrayList<>();
+		HexFormat hex = HexFormat.of();
+		BufferedReader reader = manifest instanceof BufferedReader buffered ? buffered : new BufferedReader(manifest);
+		int number = 0;
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				number++;
+				if (line.isBlank()) {
+					continue;
+				}
+				int split = line.indexOf(' ');
+				String separator = split < 0 ? "" : line.substring(split, Math.min(split + 2, line.length()));
+				if (!TEXT_SEPARATOR.equals(separator) && !BINARY_SEPARATOR.equals(separator)) {
+					throw invalidLine(number, null);
+				}
+				String name = line.substring(split + 2);
+				try {
+					byte[] expected = hex.parseHex(line, 0, split);
+					Path file = root.resolve(name).normalize();
+					if (name.isEmpty() || !file.startsWith(root.normalize())) {
+						throw invalidLine(number, null);
+					}
+					items.add(new Item(name, file, size(file), expected));
+				} catch (IllegalArgumentException e) {
+					throw invalidLine(number, e);
+				}
+			}
+		} catch (IOException e) {
+			String message = "Erro ao ler o manifesto.";
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+		return items;
+	}
+
+	/**
+	 * Recupera o tamanho de um arquivo regular.
+	 *
+	 * @param file Caminho do arquivo.
+	 * @return Tamanho em bytes, ou {@code -1} se o arquivo não existir ou não for regular.
+	 */
+	private static long size(Path file) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			return attributes.isRegularFile() ? attributes.size() : -1;
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Prepara o erro para uma linha inválida do manifesto.
+	 *
+	 * @param number Número da linha.
+	 * @param cause Causa do erro, se houver.
+	 * @return {@link DigesterException}.
+	 */
+	private static DigesterException invalidLine(int number, Throwable cause) {
+		String message = MessageFormat.format("Linha {0} inválida no manifesto.", number);
+		LOGGER.severe(message);
+		return new DigesterException(message, cause);
+	}
+
+	/**
+	 * Converte um caminho relativo para o formato do manifesto.
+	 *
+	 * @param relative Caminho relativo à raiz.
+	 * @return Caminho com {@code /} como separador.
+	 */
+	private static String name(Path relative) {
+		StringBuilder builder = new StringBuilder();
+		for (Path part : relative) {
+			if (!builder.isEmpty()) {
+				builder.append('/');
+			}
+			builder.append(part);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Acompanhamento do progresso de uma geração ou verificação.
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+
+		/**
+		 * Informa o progresso após a conclusão de um arquivo.
+		 *
+		 * @param files Quantidade de arquivos concluídos.
+		 * @param total Quantidade total de arquivos.
+		 * @param bytes Quantidade de bytes concluídos.
+		 * @param bytesPerSecond Taxa média desde o início, em bytes por segundo.
+		 */
+		void progress(int files, int total, long bytes, double bytesPerSecond);
+	}
+
+	/**
+	 * Divergência encontrada na verificação.
+	 */
+	public static final class Mismatch {
+
+		/** Caminho do arquivo no manifesto. */
+		private final String name;
+
+		/** HASH esperado. */
+		private final byte[] expected;
+
+		/** HASH calculado, ou {@code null} para arquivo ausente. */
+		private final byte[] actual;
+
+		/**
+		 * Cria a divergência.
+		 *
+		 * @param name Caminho do arquivo no manifesto.
+		 * @param expected HASH esperado.
+		 * @param actual HASH calculado, ou {@code null} para arquivo ausente.
+		 */
+		private Mismatch(String name, byte[] expected, byte[] actual) {
+			this.name = name;
+			this.expected = expected;
+			this.actual = actual;
+		}
+
+		/**
+		 * Recupera o caminho do arquivo no manifesto.
+		 *
+		 * @return Caminho relativo à raiz.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Recupera o HASH esperado.
+		 *
+		 * @return HASH em bytes.
+		 */
+		public byte[] getExpected() {
+			return expected.clone();
+		}
+
+		/**
+		 * Recupera o HASH calculado.
+		 *
+		 * @return HASH em bytes, ou {@code null} se o arquivo não existir.
+		 */
+		public byte[] getActual() {
+			return actual == null ? null : actual.clone();
+		}
+
+		/**
+		 * Indica se o arquivo não foi encontrado.
+		 *
+		 * @return Verdadeiro para arquivo ausente.
+		 */
+		public boolean isMissing() {
+			return actual == null;
+		}
+
+		@Override
+		public String toString() {
+			return MessageFormat.format("{0}: {1}", name, isMissing() ? "ausente" : "divergente");
+		}
+	}
+
+	/**
+	 * Tratamento de cada resultado, na ordem do manifesto.
+	 */
+	@FunctionalInterface
+	private interface ResultConsumer {
+
+		/**
+		 * Trata um resultado.
+		 *
+		 * @param item Arquivo.
+		 * @param digest HASH calculado, ou nulo se o arquivo estiver ausente.
+		 * @return Falso para interromper o processamento.
+		 */
+		boolean accept(Item item, byte[] digest);
+	}
+
+	/**
+	 * Arquivo do manifesto.
+	 */
+	private static final class Item {
+
+		/** Caminho no manifesto. */
+		private final String name;
+
+		/** Caminho no sistema de arquivos. */
+		private final Path file;
+
+		/** Tamanho do arquivo, ou {@code -1} para arquivo ausente. */
+		private final long size;
+
+		/** HASH esperado, apenas na verificação. */
+		private final byte[] expected;
+
+		/**
+		 * Cria o arquivo.
+		 *
+		 * @param name Caminho no manifesto.
+		 * @param file Caminho no sistema de arquivos.
+		 * @param size Tamanho do arquivo, ou {@code -1} para arquivo ausente.
+		 * @param expected HASH esperado, apenas na verificação.
+		 */
+		private Item(String name, Path file, long size, byte[] expected) {
+			this.name = name;
+			this.file = file;
+			this.size = size;
+			this.expected = expected;
+		}
+	}
+}
@@ -0,0 +1,322 @@
+package br.com.codesolver.digester;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Calcula um HASH não criptográfico do tipo MurmurHash3 (variante x64 de 128
+ * bits), adequado para chaves de particionamento, deduplicação e cache.
+ *
+ * <p>
+ * O cálculo é incremental: os dados são processados em blocos de 16 bytes e o
+ * restante fica acumulado até a próxima atualização. A representação em bytes
+ * segue a implementação de referência: as duas metades de 64 bits em
+ * <i>little-endian</i>. {@link #getValue()} devolve a primeira metade.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class DigesterMurmur3 implements DigesterChecksum {
+
+	/** Primeira constante de mistura. */
+	private static final long C1 = 0x87C37B91114253D5L;
+
+	/** Segunda constante de mistura. */
+	private static final long C2 = 0x4CF5AD432745937FL;
+
+	/** Tamanho de um bloco processado de uma única vez. */
+	private static final int BLOCK_LENGTH = 16;
+
+	/** Tamanho do HASH em bytes. */
+	private static final int DIGEST_LENGTH = 16;
+
+	/** Máscara para formatar um Byte. */
+	private static final long BYTE_MASK = 0xFFL;
+
+	/** Máscara para formatar um número inteiro sem sinal. */
+	private static final long INT_MASK = 0xFFFFFFFFL;
+
+	/** Visão da matriz de bytes como inteiros longos <i>little-endian</i>. */
+	private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	/** Semente do cálculo (32 bits sem sinal). */
+	private final long seed;
+
+	/** Primeira metade do estado. */
+	private long h1;
+
+	/** Segunda metade do estado. */
+	private long h2;
+
+	/** Quantidade total de bytes processados. */
+	private long total;
+
+	/** Bytes acumulados que ainda não completaram um bloco. */
+	private final byte[] pending = new byte[BLOCK_LENGTH];
+
+	/** Quantidade de bytes acumulados em {@link #pending}. */
+	private int pendingLength;
+
+	/** Primeira metade do HASH finalizado por {@link #finish()}. */
+	private long result1;
+
+	/** Segunda metade do HASH finalizado por {@link #finish()}. */
+	private long result2;
+
+	/**
+	 * Prepara o componente de cálculo com a semente informada. Apenas os 32 bits
+	 * inferiores da semente são utilizados, como na implementação de referência.
+	 *
+	 * @param seed Semente do cálculo.
+	 */
+	DigesterMurmur3(long seed) {
+		this.seed = seed & INT_MASK;
+		reset();
+	}
+
+	/** Reinicia o cálculo. */
+	@Override
+	public void reset() {
+		h1 = seed;
+		h2 = seed;
+		total = 0;
+		pendingLength = 0;
+	}
+
+	/**
+	 * Acumula uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		total += length;
+		int i = offset;
+		int end = offset + length;
+		if (pendingLength > 0) {
+			int count = Math.min(length, BLOCK_LENGTH - pendingLength);
+			System.arraycopy(buffer, i, pending, pendingLength, count);
+			pendingLength += count;
+			i += count;
+			if (pendingLength < BLOCK_LENGTH) {
+				return;
+			}
+			updateBlock((long) LONG_VIEW.get(pending, 0), (long) LONG_VIEW.get(pending, Long.BYTES));
+			pendingLength = 0;
+		}
+		for (int limit = end - BLOCK_LENGTH; i <= limit; i += BLOCK_LENGTH) {
+			updateBlock((long) LONG_VIEW.get(buffer, i), (long) LONG_VIEW.get(buffer, i + Long.BYTES));
+		}
+		pendingLength = end - i;
+		System.arraycopy(buffer, i, pending, 0, pendingLength);
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} no cálculo. Buffers
+	 * sem matriz acessível são lidos diretamente em blocos de 16 bytes.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		int position = buffer.position();
+		int end = buffer.limit();
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + position, end - position);
+		} else {
+			int i = position;
+			if (pendingLength > 0) {
+				while (pendingLength < BLOCK_LENGTH && i < end) {
+					pending[pendingLength++] = buffer.get(i++);
+					total++;
+				}
+				if (pendingLength < BLOCK_LENGTH) {
+					buffer.position(end);
+					return;
+				}
+				updateBlock((long) LONG_VIEW.get(pending, 0), (long) LONG_VIEW.get(pending, Long.BYTES));
+				pendingLength = 0;
+			}
+			boolean littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+			for (int limit = end - BLOCK_LENGTH; i <= limit; i += BLOCK_LENGTH) {
+				total += BLOCK_LENGTH;
+				long k1 = buffer.getLong(i);
+				long k2 = buffer.getLong(i + Long.BYTES);
+				if (littleEndian) {
+					updateBlock(k1, k2);
+				} else {
+					updateBlock(Long.reverseBytes(k1), Long.reverseBytes(k2));
+				}
+			}
+			for (; i < end; i++) {
+				pending[pendingLength++] = buffer.get(i);
+				total++;
+			}
+		}
+		buffer.position(end);
+	}
+
+	/**
+	 * Processa um bloco de 16 bytes já lido em dois inteiros longos.
+	 *
+	 * @param k1 Primeira parte do bloco.
+	 * @param k2 Segunda parte do bloco.
+	 */
+	private void updateBlock(long k1, long k2) {
+		h1 ^= mixK1(k1);
+		h1 = Long.rotateLeft(h1, 27);
+		h1 += h2;
+		h1 = h1 * 5 + 0x52DCE729;
+		h2 ^= mixK2(k2);
+		h2 = Long.rotateLeft(h2, 31);
+		h2 += h1;
+		h2 = h2 * 5 + 0x38495AB5;
+	}
+
+	/**
+	 * Mistura a primeira parte de um bloco.
+	 *
+	 * @param k1 Primeira parte do bloco.
+	 * @return Valor misturado.
+	 */
+	private static long mixK1(long k1) {
+		return Long.rotateLeft(k1 * C1, 31) * C2;
+	}
+
+	/**
+	 * Mistura a segunda parte de um bloco.
+	 *
+	 * @param k2 Segunda parte do bloco.
+	 * @return Valor misturado.
+	 */
+	private static long mixK2(long k2) {
+		return Long.rotateLeft(k2 * C2, 33) * C1;
+	}
+
+	/**
+	 * Mistura final de uma metade do HASH.
+	 *
+	 * @param k Metade do HASH.
+	 * @return Valor misturado.
+	 */
+	private static long fmix(long k) {
+		k ^= k >>> 33;
+		k *= 0xFF51AFD7ED558CCDL;
+		k ^= k >>> 33;
+		k *= 0xC4CEB9FE1A85EC53L;
+		k ^= k >>> 33;
+		return k;
+	}
+
+	/**
+	 * Finaliza o cálculo sobre uma cópia do estado, gravando as duas metades do
+	 * HASH em {@link #result1} e {@link #result2}.
+	 */
+	private void finish() {
+		long a = h1;
+		long b = h2;
+		long k1 = 0;
+		long k2 = 0;
+		for (int i = pendingLength - 1; i >= Long.BYTES; i--) {
+			k2 = k2 << Byte.SIZE | pending[i] & BYTE_MASK;
+		}
+		for (int i = Math.min(pendingLength, Long.BYTES) - 1; i >= 0; i--) {
+			k1 = k1 << Byte.SIZE | pending[i] & BYTE_MASK;
+		}
+		if (pendingLength > Long.BYTES) {
+			b ^= mixK2(k2);
+		}
+		if (pendingLength > 0) {
+			a ^= mixK1(k1);
+		}
+		a ^= total;
+		b ^= total;
+		a += b;
+		b += a;
+		a = fmix(a);
+		b = fmix(b);
+		a += b;
+		b += a;
+		result1 = a;
+		result2 = b;
+	}
+
+	/**
+	 * Recupera a primeira metade do HASH, sem alterar o estado do cálculo.
+	 *
+	 * @return Primeiros 64 bits do HASH.
+	 */
+	@Override
+	public long getValue() {
+		finish();
+		return result1;
+	}
+
+	/**
+	 * Recupera a segunda metade do HASH, sem alterar o estado do cálculo.
+	 *
+	 * @return Últimos 64 bits do HASH.
+	 */
+	public long getSecondValue() {
+		finish();
+		return result2;
+	}
+
+	/**
+	 * Recupera o HASH de 128 bits em sua forma hexadecimal, no formato de
+	 * {@link Digester#digest()}. O valor zero é representado por {@code "0"},
+	 * como nos demais <i>checksums</i>.
+	 *
+	 * @return HASH hexadecimal.
+	 */
+	@Override
+	public String digest() {
+		String hex = StringUtil.toHex(digestBytes());
+		return hex.isEmpty() ? "0" : hex;
+	}
+
+	/**
+	 * Recupera o tamanho do HASH em bytes.
+	 *
+	 * @return {@value #DIGEST_LENGTH}
+	 */
+	@Override
+	public int getDigestLength() {
+		return DIGEST_LENGTH;
+	}
+
+	/**
+	 * Grava as duas metades do HASH em <i>little-endian</i> na matriz de destino.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return {@value #DIGEST_LENGTH}
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, DIGEST_LENGTH, dst.length);
+		finish();
+		LONG_VIEW.set(dst, offset, result1);
+		LONG_VIEW.set(dst, offset + Long.BYTES, result2);
+		return DIGEST_LENGTH;
+	}
+}
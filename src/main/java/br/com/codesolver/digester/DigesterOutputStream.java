@@ -0,0 +1,62 @@
+package br.com.codesolver.digester;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * {@link OutputStream} que atualiza um {@link Digester} com todos os bytes
+ * escritos, permitindo calcular o HASH enquanto os dados são gravados.
+ *
+ * <p>
+ * Ao contrário de {@link FilterOutputStream}, as escritas em bloco são
+ * repassadas ao destino e ao cálculo de uma única vez, sem decompor o bloco
+ * byte a byte.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterInputStream
+ */
+public class DigesterOutputStream extends FilterOutputStream {
+
+	/** Processador de HASH atualizado pela escrita. */
+	private final Digester digester;
+
+	/** Matriz para a escrita de um único byte. */
+	private final byte[] single = new byte[1];
+
+	/**
+	 * Prepara a escrita com cálculo do HASH.
+	 *
+	 * @param out {@link OutputStream} de destino.
+	 * @param digester {@link Digester} atualizado com os bytes escritos.
+	 */
+	public DigesterOutputStream(OutputStream out, Digester digester) {
+		super(Objects.requireNonNull(out, "out"));
+		this.digester = Objects.requireNonNull(digester, "digester");
+	}
+
+	/**
+	 * Recupera o processador de HASH atualizado pela escrita.
+	 *
+	 * @return {@link Digester}.
+	 */
+	public Digester getDigester() {
+		return digester;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+		single[0] = (byte) b;
+		digester.update(single, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		out.write(b, off, len);
+		digester.update(b, off, len);
+	}
+}
@@ -0,0 +1,179 @@
+package br.com.codesolver.digester;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Reaproveitamento de instâncias de {@link Digester}, que não são seguras para
+ * uso concorrente.
+ *
+ * <p>
+ * Oferece duas formas de reaproveitamento:
+ *
+ * <ul>
+ *   <li>{@link #local(AlgorithmType)}: uma instância por <i>thread</i> e por
+ *   algorítimo, adequada para <i>threads</i> de plataforma de vida longa.</li>
+ *   <li>{@link #borrow()} e {@link #release(Digester)}: um conjunto limitado de
+ *   instâncias compartilhadas entre <i>threads</i>, adequado para <i>threads</i>
+ *   virtuais, onde o cache por <i>thread</i> não compensa.</li>
+ * </ul>
+ *
+ * <p>
+ * Em ambos os casos a instância é reiniciada com {@link Digester#reset()} antes
+ * de ser entregue.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @param <T> Um descendente de {@link Digester}.
+ * @see DigesterFactory
+ */
+public class DigesterPool<T extends Digester> {
+
+	/** Instâncias por algorítimo de cada <i>thread</i> de plataforma. */
+	private static final ThreadLocal<Map<AlgorithmType, Digester>> LOCAL =
+			ThreadLocal.withInitial(() -> new EnumMap<>(AlgorithmType.class));
+
+	/** Criação de novas instâncias quando não há instâncias livres. */
+	private final Supplier<T> factory;
+
+	/** Instâncias livres, aguardando um novo empréstimo. */
+	private final BlockingQueue<T> idle;
+
+	/**
+	 * Prepara um conjunto de instâncias para o algorítimo informado, já com a
+	 * primeira instância livre, o que também valida o algorítimo.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param capacity Quantidade máxima de instâncias livres mantidas.
+	 * @throws DigesterException Algorítimo inválido.
+	 * @throws IllegalArgumentException Capacidade inválida.
+	 */
+	public DigesterPool(AlgorithmType algorithm, int capacity) {
+		this(() -> DigesterFactory.getInstance(algorithm), capacity);
+		idle.offer(factory.get());
+	}
+
+	/**
+	 * Prepara um conjunto de instâncias com chave para o algorítimo informado,
+	 * já com a primeira instância livre. Para os algorítimos HMAC, as novas
+	 * instâncias são cópias de um {@link DigesterHMAC} já inicializado, sem
+	 * repetir a preparação da chave.
+	 *
+	 * @param algorithm {@link AlgorithmType#BLAKE3} ou um dos algorítimos HMAC.
+	 * @param key Chave. A matriz é copiada e pode ser alterada depois.
+	 * @param capacity Quantidade máxima de instâncias livres mantidas.
+	 * @throws DigesterException Algorítimo inválido, que não aceita chave ou
+	 *         chave HMAC inválida.
+	 * @throws IllegalArgumentException Chave do BLAKE3 ou capacidade inválidas.
+	 */
+	public DigesterPool(AlgorithmType algorithm, byte[] key, int capacity) {
+		this(keyed(algorithm, key), capacity);
+		idle.offer(factory.get());
+	}
+
+	/**
+	 * Prepara a criação de instâncias com chave.
+	 *
+	 * @param <T> Um descendente de {@link Digester}.
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param key Chave.
+	 * @return Criação de novas instâncias.
+	 * @throws DigesterException Algorítimo inválido, que não aceita chave ou
+	 *         chave HMAC inválida.
+	 * @throws IllegalArgumentException Chave do BLAKE3 inválida.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T extends Digester> Supplier<T> keyed(AlgorithmType algorithm, byte[] key) {
+		Digester prototype = DigesterFactory.getInstance(algorithm, key);
+		if (prototype instanceof DigesterHMAC hmac) {
+			return () -> (T) hmac.copy();
+		}
+		byte[] copy = key.clone();
+		return () -> DigesterFactory.getInstance(algorithm, copy);
+	}
+
+	/**
+	 * Prepara um conjunto de instâncias criadas pelo fornecedor informado.
+	 *
+	 * @param factory Criação de novas instâncias.
+	 * @param capacity Quantidade máxima de instâncias livres mantidas.
+	 * @throws IllegalArgumentException Capacidade inválida.
+	 */
+	DigesterPool(Supplier<T> factory, int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacidade deve ser positiva.");
+		}
+		this.factory = factory;
+		this.idle = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * Empresta uma instância do conjunto, criando uma nova se não houver
+	 * instâncias livres. Nunca bloqueia a <i>thread</i>.
+	 *
+	 * @return {@link Digester} reiniciado.
+	 */
+	public T borrow() {
+		T digester = idle.poll();
+		if (digester == null) {
+			digester = factory.get();
+		} else {
+			digester.reset();
+		}
+		return digester;
+	}
+
+	/**
+	 * Devolve uma instância emprestada. Se o conjunto já estiver cheio, a
+	 * instância é descartada.
+	 *
+	 * @param digester {@link Digester} obtido com {@link #borrow()}.
+	 */
+	public void release(T digester) {
+		if (digester != null) {
+			idle.offer(digester);
+		}
+	}
+
+	/**
+	 * Recupera a quantidade de instâncias livres.
+	 *
+	 * @return Quantidade de instâncias livres.
+	 */
+	public int size() {
+		return idle.size();
+	}
+
+	/**
+	 * Recupera a instância da <i>thread</i> atual para o algorítimo informado.
+	 *
+	 * <p>
+	 * A mesma instância é devolvida a cada chamada na mesma <i>thread</i>, por
+	 * isso não deve ser guardada nem repassada para outras <i>threads</i>. Em
+	 * <i>threads</i> virtuais é devolvida uma nova instância a cada chamada;
+	 * nesses casos prefira {@link #borrow()}.
+	 *
+	 * @param <T> Um descendente de {@link Digester}.
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link Digester} reiniciado.
+	 * @throws DigesterException Algorítimo inválido.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Digester> T local(AlgorithmType algorithm) {
+		if (Thread.currentThread().isVirtual()) {
+			return DigesterFactory.getInstance(algorithm);
+		}
+		Map<AlgorithmType, Digester> digesters = LOCAL.get();
+		Digester digester = digesters.get(algorithm);
+		if (digester == null) {
+			digester = DigesterFactory.getInstance(algorithm);
+			digesters.put(algorithm, digester);
+		} else {
+			digester.reset();
+		}
+		return (T) digester;
+	}
+}
@@ -0,0 +1,85 @@
+package br.com.codesolver.digester;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * {@link ReadableByteChannel} que atualiza um {@link Digester} com todos os
+ * bytes lidos do canal de origem.
+ *
+ * <p>
+ * Os bytes lidos em cada chamada são repassados ao cálculo de uma única vez:
+ * diretamente da matriz, quando o buffer possui uma, ou através de uma visão
+ * do trecho lido, sem cópia, para buffers diretos.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterWritableByteChannel
+ */
+public class DigesterReadableByteChannel implements ReadableByteChannel {
+
+	/** Canal de origem. */
+	private final ReadableByteChannel channel;
+
+	/** Processador de HASH atualizado pela leitura. */
+	private final Digester digester;
+
+	/**
+	 * Prepara a leitura com cálculo do HASH.
+	 *
+	 * @param channel {@link ReadableByteChannel} de origem.
+	 * @param digester {@link Digester} atualizado com os bytes lidos.
+	 */
+	public DigesterReadableByteChannel(ReadableByteChannel channel, Digester digester) {
+		this.channel = Objects.requireNonNull(channel, "channel");
+		this.digester = Objects.requireNonNull(digester, "digester");
+	}
+
+	/**
+	 * Recupera o processador de HASH atualizado pela leitura.
+	 *
+	 * @return {@link Digester}.
+	 */
+	public Digester getDigester() {
+		return digester;
+	}
+
+	@Override
+	public int read(ByteBuffer dst) throws IOException {
+		int position = dst.position();
+		int count = channel.read(dst);
+		if (count > 0) {
+			update(digester, dst, position, count);
+		}
+		return count;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return channel.isOpen();
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Atualiza o cálculo com um trecho de um {@link ByteBuffer}, sem alterar
+	 * suas posições.
+	 *
+	 * @param digester {@link Digester}.
+	 * @param buffer {@link ByteBuffer}.
+	 * @param position Posição inicial do trecho.
+	 * @param length Tamanho do trecho.
+	 */
+	static void update(Digester digester, ByteBuffer buffer, int position, int length) {
+		if (buffer.hasArray()) {
+			digester.update(buffer.array(), buffer.arrayOffset() + position, length);
+		} else {
+			digester.update(buffer.slice(position, length));
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package br.com.codesolver.digester;
+
+/**
+ * Adiciona a exportação e a restauração do estado interno do cálculo, para que
+ * um HASH interrompido seja retomado sem reprocessar os bytes já acumulados.
+ *
+ * <p>
+ * O ponto de retomada é uma matriz de bytes opaca, que pode ser gravada em
+ * disco ou banco de dados e restaurada em outra instância, inclusive em outra
+ * execução do aplicativo. Ele identifica o algorítimo e registra a quantidade
+ * de bytes acumulados, que indica a posição de onde a leitura deve continuar.
+ * O ponto de retomada contém um resumo dos dados já processados, e por isso
+ * deve ser protegido como os próprios dados.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFactory#getResumableInstance(AlgorithmType)
+ */
+public interface DigesterResumable extends Digester {
+
+	/**
+	 * Recupera a quantidade de bytes acumulados desde o último
+	 * {@link #reset()}.
+	 *
+	 * @return Quantidade de bytes.
+	 */
+	long getLength();
+
+	/**
+	 * Exporta o estado atual do cálculo, sem alterá-lo.
+	 *
+	 * @return Ponto de retomada.
+	 */
+	byte[] checkpoint();
+
+	/**
+	 * Substitui o estado atual pelo estado exportado com {@link #checkpoint()}.
+	 *
+	 * @param checkpoint Ponto de retomada.
+	 * @throws DigesterException Ponto de retomada inválido ou de outro algorítimo.
+	 */
+	void restore(byte[] checkpoint);
+}
@@ -0,0 +1,318 @@
+package br.com.codesolver.digester;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Implementação em Java puro do SHA-224 e do SHA-256 (FIPS 180-4), com estado
+ * interno exportável para retomada do cálculo.
+ *
+ * <p>
+ * O resultado é idêntico ao de {@link DigesterSUN} para os mesmos algorítimos,
+ * mas sem as instruções aceleradas do provedor de segurança. Use esta classe
+ * apenas quando for necessário retomar o cálculo, como em envios de arquivos
+ * em partes. Como em {@link DigesterSUN}, o cálculo é reiniciado após a
+ * finalização do HASH.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterResumable
+ */
+public class DigesterSHA256 implements DigesterResumable {
+
+	/** Tamanho de um bloco em bytes. */
+	private static final int BLOCK_LENGTH = 64;
+
+	/** Quantidade de palavras do estado. */
+	private static final int STATE_WORDS = 8;
+
+	/** Visão da matriz de bytes como inteiros <i>big-endian</i>. */
+	private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class,
+			ByteOrder.BIG_ENDIAN);
+
+	/** Estado inicial do SHA-224. */
+	private static final int[] IV_224 = {
+			0xc1059ed8, 0x367cd507, 0x3070dd17, 0xf70e5939, 0xffc00b31, 0x68581511, 0x64f98fa7, 0xbefa4fa4
+	};
+
+	/** Estado inicial do SHA-256. */
+	private static final int[] IV_256 = {
+			0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+	};
+
+	/** Constantes de cada rodada. */
+	private static final int[] K = {
+			0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+			0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+			0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+			0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+			0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+			0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+			0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+			0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+	};
+
+	/** Algorítimo calculado. */
+	private final AlgorithmType algorithm;
+
+	/** Estado inicial do algorítimo. */
+	private final int[] initial;
+
+	/** Tamanho do HASH em bytes. */
+	private final int digestLength;
+
+	/** Estado do cálculo. */
+	private final int[] state = new int[STATE_WORDS];
+
+	/** Bloco parcial, aguardando mais bytes. */
+	private final byte[] block = new byte[BLOCK_LENGTH];
+
+	/** Agenda de palavras de cada bloco. */
+	private final int[] schedule = new int[64];
+
+	/** Quantidade de bytes no bloco parcial. */
+	private int blockLength;
+
+	/** Quantidade de bytes acumulados. */
+	private long length;
+
+	/**
+	 * Prepara o componente de cálculo de HASH.
+	 *
+	 * @param algorithm {@link AlgorithmType#SHA_224} ou {@link AlgorithmType#SHA_256}.
+	 */
+	DigesterSHA256(AlgorithmType algorithm) {
+		this.algorithm = algorithm;
+		this.initial = algorithm == AlgorithmType.SHA_224 ? IV_224 : IV_256;
+		this.digestLength = algorithm == AlgorithmType.SHA_224 ? 28 : 32;
+		reset();
+	}
+
+	/** Reinicia o cálculo do HASH. */
+	@Override
+	public void reset() {
+		System.arraycopy(initial, 0, state, 0, STATE_WORDS);
+		blockLength = 0;
+		length = 0;
+	}
+
+	/**
+	 * Recupera a quantidade de bytes acumulados desde o último
+	 * {@link #reset()}.
+	 *
+	 * @return Quantidade de bytes.
+	 */
+	@Override
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Exporta o estado, o bloco parcial e a quantidade de bytes acumulados.
+	 *
+	 * @return Ponto de retomada.
+	 */
+	@Override
+	public byte[] checkpoint() {
+		ByteBuffer buffer = DigesterCheckpoint.create(algorithm, length, STATE_WORDS * Integer.BYTES + blockLength);
+		for (int word : state) {
+			buffer.putInt(word);
+		}
+		return buffer.put(block, 0, blockLength).array();
+	}
+
+	/**
+	 * Restaura o estado, o bloco parcial e a quantidade de bytes acumulados.
+	 *
+	 * @param checkpoint Ponto de retomada gerado por {@link #checkpoint()}.
+	 * @throws DigesterException Ponto de retomada inválido ou de outro algorítimo.
+	 */
+	@Override
+	public void restore(byte[] checkpoint) {
+		ByteBuffer buffer = DigesterCheckpoint.open(algorithm, checkpoint, STATE_WORDS * Integer.BYTES);
+		long restored = buffer.getLong();
+		int partial = buffer.remaining() - STATE_WORDS * Integer.BYTES;
+		if (restored < 0 || partial != (int) (restored % BLOCK_LENGTH)) {
+			throw DigesterCheckpoint.invalid(algorithm, null);
+		}
+		for (int i = 0; i < STATE_WORDS; i++) {
+			state[i] = buffer.getInt();
+		}
+		buffer.get(block, 0, partial);
+		blockLength = partial;
+		length = restored;
+	}
+
+	/**
+	 * Acumula informações para o cálculo do HASH.
+	 *
+	 * @param buffer Sequência para ser acumulada.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes para o cálculo do HASH. Os blocos
+	 * completos são processados diretamente sobre a matriz recebida.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		this.length += length;
+		int i = offset;
+		int end = offset + length;
+		if (blockLength > 0) {
+			int count = Math.min(BLOCK_LENGTH - blockLength, length);
+			System.arraycopy(buffer, i, block, blockLength, count);
+			blockLength += count;
+			i += count;
+			if (blockLength < BLOCK_LENGTH) {
+				return;
+			}
+			compress(block, 0);
+			blockLength = 0;
+		}
+		for (; i <= end - BLOCK_LENGTH; i += BLOCK_LENGTH) {
+			compress(buffer, i);
+		}
+		blockLength = end - i;
+		System.arraycopy(buffer, i, block, 0, blockLength);
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} para o cálculo do
+	 * HASH. Buffers sem matriz acessível são copiados para o bloco parcial,
+	 * sem alocações.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.position(buffer.limit());
+			return;
+		}
+		while (buffer.hasRemaining()) {
+			int count = Math.min(BLOCK_LENGTH - blockLength, buffer.remaining());
+			buffer.get(block, blockLength, count);
+			blockLength += count;
+			length += count;
+			if (blockLength == BLOCK_LENGTH) {
+				compress(block, 0);
+				blockLength = 0;
+			}
+		}
+	}
+
+	/**
+	 * Calcula o HASH e retorna sua representação em texto. O cálculo é
+	 * reiniciado.
+	 *
+	 * @return HASH hexadecimal, no mesmo formato de {@link DigesterSUN#digest()}.
+	 */
+	@Override
+	public String digest() {
+		return StringUtil.toHex(digestBytes());
+	}
+
+	/**
+	 * Recupera o tamanho do HASH em bytes.
+	 *
+	 * @return Quantidade de bytes do HASH.
+	 */
+	@Override
+	public int getDigestLength() {
+		return digestLength;
+	}
+
+	/**
+	 * Calcula o HASH e o grava na matriz de destino. O cálculo é reiniciado.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return Quantidade de bytes gravados.
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, digestLength, dst.length);
+		long bits = length << 3;
+		block[blockLength++] = (byte) 0x80;
+		if (blockLength > BLOCK_LENGTH - Long.BYTES) {
+			Arrays.fill(block, blockLength, BLOCK_LENGTH, (byte) 0);
+			compress(block, 0);
+			blockLength = 0;
+		}
+		Arrays.fill(block, blockLength, BLOCK_LENGTH - Long.BYTES, (byte) 0);
+		INT_VIEW.set(block, BLOCK_LENGTH - Long.BYTES, (int) (bits >>> Integer.SIZE));
+		INT_VIEW.set(block, BLOCK_LENGTH - Integer.BYTES, (int) bits);
+		compress(block, 0);
+		for (int i = 0; i < digestLength; i += Integer.BYTES) {
+			INT_VIEW.set(dst, offset + i, state[i / Integer.BYTES]);
+		}
+		reset();
+		return digestLength;
+	}
+
+	/**
+	 * Processa um bloco completo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial do bloco.
+	 */
+	private void compress(byte[] buffer, int offset) {
+		int[] w = schedule;
+		for (int t = 0; t < 16; t++) {
+			w[t] = (int) INT_VIEW.get(buffer, offset + t * Integer.BYTES);
+		}
+		for (int t = 16; t < 64; t++) {
+			int w2 = w[t - 2];
+			int w15 = w[t - 15];
+			int s1 = Integer.rotateRight(w2, 17) ^ Integer.rotateRight(w2, 19) ^ w2 >>> 10;
+			int s0 = Integer.rotateRight(w15, 7) ^ Integer.rotateRight(w15, 18) ^ w15 >>> 3;
+			w[t] = s1 + w[t - 7] + s0 + w[t - 16];
+		}
+		int a = state[0];
+		int b = state[1];
+		int c = state[2];
+		int d = state[3];
+		int e = state[4];
+		int f = state[5];
+		int g = state[6];
+		int h = state[7];
+		for (int t = 0; t < 64; t++) {
+			int t1 = h + (Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25))
+					+ (e & f ^ ~e & g) + K[t] + w[t];
+			int t2 = (Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22))
+					+ (a & b ^ a & c ^ b & c);
+			h = g;
+			g = f;
+			f = e;
+			e = d + t1;
+			d = c;
+			c = b;
+			b = a;
+			a = t1 + t2;
+		}
+		state[0] += a;
+		state[1] += b;
+		state[2] += c;
+		state[3] += d;
+		state[4] += e;
+		state[5] += f;
+		state[6] += g;
+		state[7] += h;
+	}
+}
@@ -0,0 +1,331 @@
+package br.com.codesolver.digester;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Implementação em Java puro do SHA-384 e do SHA-512 (FIPS 180-4), com estado
+ * interno exportável para retomada do cálculo.
+ *
+ * <p>
+ * O resultado é idêntico ao de {@link DigesterSUN} para os mesmos algorítimos,
+ * mas sem as instruções aceleradas do provedor de segurança. Use esta classe
+ * apenas quando for necessário retomar o cálculo, como em envios de arquivos
+ * em partes. Como em {@link DigesterSUN}, o cálculo é reiniciado após a
+ * finalização do HASH.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterResumable
+ */
+public class DigesterSHA512 implements DigesterResumable {
+
+	/** Tamanho de um bloco em bytes. */
+	private static final int BLOCK_LENGTH = 128;
+
+	/** Quantidade de palavras do estado. */
+	private static final int STATE_WORDS = 8;
+
+	/** Visão da matriz de bytes como inteiros longos <i>big-endian</i>. */
+	private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.BIG_ENDIAN);
+
+	/** Estado inicial do SHA-384. */
+	private static final long[] IV_384 = {
+			0xcbbb9d5dc1059ed8L, 0x629a292a367cd507L, 0x9159015a3070dd17L, 0x152fecd8f70e5939L,
+			0x67332667ffc00b31L, 0x8eb44a8768581511L, 0xdb0c2e0d64f98fa7L, 0x47b5481dbefa4fa4L
+	};
+
+	/** Estado inicial do SHA-512. */
+	private static final long[] IV_512 = {
+			0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL, 0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+			0x510e527fade682d1L, 0x9b05688c2b3e6c1fL, 0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L
+	};
+
+	/** Constantes de cada rodada. */
+	private static final long[] K = {
+			0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL,
+			0x3956c25bf348b538L, 0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L,
+			0xd807aa98a3030242L, 0x12835b0145706fbeL, 0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L,
+			0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L, 0xc19bf174cf692694L,
+			0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+			0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L,
+			0x983e5152ee66dfabL, 0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L,
+			0xc6e00bf33da88fc2L, 0xd5a79147930aa725L, 0x06ca6351e003826fL, 0x142929670a0e6e70L,
+			0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL, 0x53380d139d95b3dfL,
+			0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+			0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L,
+			0xd192e819d6ef5218L, 0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L,
+			0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L, 0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L,
+			0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L, 0x682e6ff3d6b2b8a3L,
+			0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+			0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL,
+			0xca273eceea26619cL, 0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L,
+			0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L, 0x113f9804bef90daeL, 0x1b710b35131c471bL,
+			0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL, 0x431d67c49c100d4cL,
+			0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L
+	};
+
+	/** Algorítimo calculado. */
+	private final AlgorithmType algorithm;
+
+	/** Estado inicial do algorítimo. */
+	private final long[] initial;
+
+	/** Tamanho do HASH em bytes. */
+	private final int digestLength;
+
+	/** Estado do cálculo. */
+	private final long[] state = new long[STATE_WORDS];
+
+	/** Bloco parcial, aguardando mais bytes. */
+	private final byte[] block = new byte[BLOCK_LENGTH];
+
+	/** Agenda de palavras de cada bloco. */
+	private final long[] schedule = new long[80];
+
+	/** Quantidade de bytes no bloco parcial. */
+	private int blockLength;
+
+	/** Quantidade de bytes acumulados. */
+	private long length;
+
+	/**
+	 * Prepara o componente de cálculo de HASH.
+	 *
+	 * @param algorithm {@link AlgorithmType#SHA_384} ou {@link AlgorithmType#SHA_512}.
+	 */
+	DigesterSHA512(AlgorithmType algorithm) {
+		this.algorithm = algorithm;
+		this.initial = algorithm == AlgorithmType.SHA_384 ? IV_384 : IV_512;
+		this.digestLength = algorithm == AlgorithmType.SHA_384 ? 48 : 64;
+		reset();
+	}
+
+	/** Reinicia o cálculo do HASH. */
+	@Override
+	public void reset() {
+		System.arraycopy(initial, 0, state, 0, STATE_WORDS);
+		blockLength = 0;
+		length = 0;
+	}
+
+	/**
+	 * Recupera a quantidade de bytes acumulados desde o último
+	 * {@link #reset()}.
+	 *
+	 * @return Quantidade de bytes.
+	 */
+	@Override
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Exporta o estado, o bloco parcial e a quantidade de bytes acumulados.
+	 *
+	 * @return Ponto de retomada.
+	 */
+	@Override
+	public byte[] checkpoint() {
+		ByteBuffer buffer = DigesterCheckpoint.create(algorithm, length, STATE_WORDS * Long.BYTES + blockLength);
+		for (long word : state) {
+			buffer.putLong(word);
+		}
+		return buffer.put(block, 0, blockLength).array();
+	}
+
+	/**
+	 * Restaura o estado, o bloco parcial e a quantidade de bytes acumulados.
+	 *
+	 * @param checkpoint Ponto de retomada gerado por {@link #checkpoint()}.
+	 * @throws DigesterException Ponto de retomada inválido ou de outro algorítimo.
+	 */
+	@Override
+	public void restore(byte[] checkpoint) {
+		ByteBuffer buffer = DigesterCheckpoint.open(algorithm, checkpoint, STATE_WORDS * Long.BYTES);
+		long restored = buffer.getLong();
+		int partial = buffer.remaining() - STATE_WORDS * Long.BYTES;
+		if (restored < 0 || partial != (int) (restored % BLOCK_LENGTH)) {
+			throw DigesterCheckpoint.invalid(algorithm, null);
+		}
+		for (int i = 0; i < STATE_WORDS; i++) {
+			state[i] = buffer.getLong();
+		}
+		buffer.get(block, 0, partial);
+		blockLength = partial;
+		length = restored;
+	}
+
+	/**
+	 * Acumula informações para o cálculo do HASH.
+	 *
+	 * @param buffer Sequência para ser acumulada.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes para o cálculo do HASH. Os blocos
+	 * completos são processados diretamente sobre a matriz recebida.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		this.length += length;
+		int i = offset;
+		int end = offset + length;
+		if (blockLength > 0) {
+			int count = Math.min(BLOCK_LENGTH - blockLength, length);
+			System.arraycopy(buffer, i, block, blockLength, count);
+			blockLength += count;
+			i += count;
+			if (blockLength < BLOCK_LENGTH) {
+				return;
+			}
+			compress(block, 0);
+			blockLength = 0;
+		}
+		for (; i <= end - BLOCK_LENGTH; i += BLOCK_LENGTH) {
+			compress(buffer, i);
+		}
+		blockLength = end - i;
+		System.arraycopy(buffer, i, block, 0, blockLength);
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} para o cálculo do
+	 * HASH. Buffers sem matriz acessível são copiados para o bloco parcial,
+	 * sem alocações.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.position(buffer.limit());
+			return;
+		}
+		while (buffer.hasRemaining()) {
+			int count = Math.min(BLOCK_LENGTH - blockLength, buffer.remaining());
+			buffer.get(block, blockLength, count);
+			blockLength += count;
+			length += count;
+			if (blockLength == BLOCK_LENGTH) {
+				compress(block, 0);
+				blockLength = 0;
+			}
+		}
+	}
+
+	/**
+	 * Calcula o HASH e retorna sua representação em texto. O cálculo é
+	 * reiniciado.
+	 *
+	 * @return HASH hexadecimal, no mesmo formato de {@link DigesterSUN#digest()}.
+	 */
+	@Override
+	public String digest() {
+		return StringUtil.toHex(digestBytes());
+	}
+
+	/**
+	 * Recupera o tamanho do HASH em bytes.
+	 *
+	 * @return Quantidade de bytes do HASH.
+	 */
+	@Override
+	public int getDigestLength() {
+		return digestLength;
+	}
+
+	/**
+	 * Calcula o HASH e o grava na matriz de destino. O cálculo é reiniciado.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return Quantidade de bytes gravados.
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, digestLength, dst.length);
+		block[blockLength++] = (byte) 0x80;
+		if (blockLength > BLOCK_LENGTH - 2 * Long.BYTES) {
+			Arrays.fill(block, blockLength, BLOCK_LENGTH, (byte) 0);
+			compress(block, 0);
+			blockLength = 0;
+		}
+		Arrays.fill(block, blockLength, BLOCK_LENGTH - 2 * Long.BYTES, (byte) 0);
+		LONG_VIEW.set(block, BLOCK_LENGTH - 2 * Long.BYTES, length >>> 61);
+		LONG_VIEW.set(block, BLOCK_LENGTH - Long.BYTES, length << 3);
+		compress(block, 0);
+		for (int i = 0; i < digestLength; i += Long.BYTES) {
+			LONG_VIEW.set(dst, offset + i, state[i / Long.BYTES]);
+		}
+		reset();
+		return digestLength;
+	}
+
+	/**
+	 * Processa um bloco completo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial do bloco.
+	 */
+	private void compress(byte[] buffer, int offset) {
+		long[] w = schedule;
+		for (int t = 0; t < 16; t++) {
+			w[t] = (long) LONG_VIEW.get(buffer, offset + t * Long.BYTES);
+		}
+		for (int t = 16; t < 80; t++) {
+			long w2 = w[t - 2];
+			long w15 = w[t - 15];
+			long s1 = Long.rotateRight(w2, 19) ^ Long.rotateRight(w2, 61) ^ w2 >>> 6;
+			long s0 = Long.rotateRight(w15, 1) ^ Long.rotateRight(w15, 8) ^ w15 >>> 7;
+			w[t] = s1 + w[t - 7] + s0 + w[t - 16];
+		}
+		long a = state[0];
+		long b = state[1];
+		long c = state[2];
+		long d = state[3];
+		long e = state[4];
+		long f = state[5];
+		long g = state[6];
+		long h = state[7];
+		for (int t = 0; t < 80; t++) {
+			long t1 = h + (Long.rotateRight(e, 14) ^ Long.rotateRight(e, 18) ^ Long.rotateRight(e, 41))
+					+ (e & f ^ ~e & g) + K[t] + w[t];
+			long t2 = (Long.rotateRight(a, 28) ^ Long.rotateRight(a, 34) ^ Long.rotateRight(a, 39))
+					+ (a & b ^ a & c ^ b & c);
+			h = g;
+			g = f;
+			f = e;
+			e = d + t1;
+			d = c;
+			c = b;
+			b = a;
+			a = t1 + t2;
+		}
+		state[0] += a;
+		state[1] += b;
+		state[2] += c;
+		state[3] += d;
+		state[4] += e;
+		state[5] += f;
+		state[6] += g;
+		state[7] += h;
+	}
+}
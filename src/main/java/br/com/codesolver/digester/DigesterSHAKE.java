@@ -0,0 +1,387 @@
+package br.com.codesolver.digester;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Calcula os HASH de saída extensível SHAKE128 e SHAKE256 (FIPS 202),
+ * implementados em Java puro sobre a permutação Keccak-f[1600].
+ *
+ * <p>
+ * O provedor de segurança, quando oferece o SHAKE, produz apenas saídas de
+ * tamanho fixo ({@link AlgorithmType#SHAKE128_256} e
+ * {@link AlgorithmType#SHAKE256_512}).
+ * Esta implementação permite ler a saída em partes, de qualquer tamanho, com
+ * {@link #squeeze(byte[], int, int)}, sem criar uma nova instância para cada
+ * tamanho. A saída é produzida a partir de uma cópia do estado da esponja, por
+ * isso {@link #digest()} não impede que a entrada continue sendo acumulada;
+ * depois de {@link #squeeze(byte[], int, int)}, a entrada só volta a ser
+ * aceita após {@link #reset()}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterFactory#getXOFInstance(AlgorithmType)
+ */
+public class DigesterSHAKE implements DigesterXOF {
+
+	/** Quantidade de palavras do estado. */
+	private static final int STATE_WORDS = 25;
+
+	/** Quantidade de rodadas da permutação. */
+	private static final int ROUNDS = 24;
+
+	/** Taxa de absorção do SHAKE128 em bytes. */
+	private static final int RATE_128 = 168;
+
+	/** Taxa de absorção do SHAKE256 em bytes. */
+	private static final int RATE_256 = 136;
+
+	/** Tamanho padrão do HASH do SHAKE128 em bytes. */
+	private static final int DIGEST_LENGTH_128 = 32;
+
+	/** Tamanho padrão do HASH do SHAKE256 em bytes. */
+	private static final int DIGEST_LENGTH_256 = 64;
+
+	/** Sufixo de domínio do SHAKE, já com o primeiro bit do preenchimento. */
+	private static final int PADDING_START = 0x1F;
+
+	/** Último bit do preenchimento. */
+	private static final int PADDING_END = 0x80;
+
+	/** Máscara para formatar um Byte. */
+	private static final int BYTE_MASK = 0xFF;
+
+	/** Tamanho da matriz intermediária para buffers diretos. */
+	private static final int BUFFER_LENGTH = 8 * 1024;
+
+	/** Constantes de cada rodada. */
+	private static final long[] ROUND_CONSTANTS = {0x0000000000000001L, 0x0000000000008082L,
+		0x800000000000808AL, 0x8000000080008000L, 0x000000000000808BL, 0x0000000080000001L,
+		0x8000000080008081L, 0x8000000000008009L, 0x000000000000008AL, 0x0000000000000088L,
+		0x0000000080008009L, 0x000000008000000AL, 0x000000008000808BL, 0x800000000000008BL,
+		0x8000000000008089L, 0x8000000000008003L, 0x8000000000008002L, 0x8000000000000080L,
+		0x000000000000800AL, 0x800000008000000AL, 0x8000000080008081L, 0x8000000000008080L,
+		0x0000000080000001L, 0x8000000080008008L};
+
+	/** Deslocamentos da etapa <i>rho</i>, na ordem percorrida pela etapa <i>pi</i>. */
+	private static final int[] RHO = {1, 3, 6, 10, 15, 21, 28, 36, 45, 55, 2, 14, 27, 41, 56, 8, 25, 43, 62, 18,
+		39, 61, 20, 44};
+
+	/** Ordem das palavras percorridas pela etapa <i>pi</i>. */
+	private static final int[] PI = {10, 7, 11, 17, 18, 3, 5, 16, 8, 21, 24, 4, 15, 23, 19, 13, 12, 2, 20, 14, 22, 9,
+		6, 1};
+
+	/** Visão da matriz de bytes como inteiros longos <i>little-endian</i>. */
+	private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	/** Algorítimo de origem. */
+	private final AlgorithmType algorithm;
+
+	/** Taxa de absorção em bytes. */
+	private final int rate;
+
+	/** Tamanho padrão do HASH em bytes. */
+	private final int digestLength;
+
+	/** Estado da esponja durante a absorção. */
+	private final long[] state = new long[STATE_WORDS];
+
+	/** Quantidade de bytes já absorvidos no bloco atual. */
+	private int position;
+
+	/** Estado da esponja durante a extração da saída. */
+	private final long[] output = new long[STATE_WORDS];
+
+	/** Bloco de saída atual. */
+	private final byte[] outputBlock;
+
+	/** Posição de leitura em {@link #outputBlock}. */
+	private int outputPosition;
+
+	/** Primeiros bytes da saída, devolvidos por {@link #digestInto(byte[], int)}. */
+	private final byte[] head;
+
+	/** Se a saída já foi iniciada para a entrada atual. */
+	private boolean finished;
+
+	/** Se a leitura da saída extensível já começou. */
+	private boolean squeezing;
+
+	/** Matriz intermediária para buffers diretos. */
+	private byte[] buffer;
+
+	/**
+	 * Prepara o componente de cálculo.
+	 *
+	 * @param algorithm {@link AlgorithmType#SHAKE128_256} ou
+	 *        {@link AlgorithmType#SHAKE256_512}.
+	 * @throws IllegalArgumentException Algorítimo inválido.
+	 */
+	DigesterSHAKE(AlgorithmType algorithm) {
+		if (algorithm == AlgorithmType.SHAKE128_256) {
+			this.rate = RATE_128;
+			this.digestLength = DIGEST_LENGTH_128;
+		} else if (algorithm == AlgorithmType.SHAKE256_512) {
+			this.rate = RATE_256;
+			this.digestLength = DIGEST_LENGTH_256;
+		} else {
+			throw new IllegalArgumentException("Algoritimo deve ser SHAKE128_256 ou SHAKE256_512.");
+		}
+		this.algorithm = algorithm;
+		this.outputBlock = new byte[rate];
+		this.head = new byte[digestLength];
+	}
+
+	/**
+	 * Recupera o algorítimo de origem.
+	 *
+	 * @return {@link AlgorithmType}.
+	 */
+	public AlgorithmType getAlgorithm() {
+		return algorithm;
+	}
+
+	/** Reinicia o cálculo. */
+	@Override
+	public void reset() {
+		Arrays.fill(state, 0);
+		position = 0;
+		finished = false;
+		squeezing = false;
+	}
+
+	/**
+	 * Acumula uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes no cálculo. Blocos completos são
+	 * absorvidos diretamente da matriz, 8 bytes por vez.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 * @throws IllegalStateException Leitura da saída extensível já iniciada.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		if (length == 0) {
+			return;
+		}
+		if (squeezing) {
+			throw new IllegalStateException("Saída extensível já iniciada; reinicie o cálculo.");
+		}
+		finished = false;
+		while (length > 0) {
+			if (position == 0 && length >= rate) {
+				for (int i = 0; i < rate; i += Long.BYTES) {
+					state[i >>> 3] ^= (long) LONG_VIEW.get(buffer, offset + i);
+				}
+				keccak(state);
+				offset += rate;
+				length -= rate;
+				continue;
+			}
+			int count = Math.min(rate - position, length);
+			for (int i = 0; i < count; i++) {
+				absorbByte(position + i, buffer[offset + i]);
+			}
+			position += count;
+			offset += count;
+			length -= count;
+			if (position == rate) {
+				keccak(state);
+				position = 0;
+			}
+		}
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} no cálculo. Buffers
+	 * sem matriz acessível são copiados em partes para uma matriz
+	 * intermediária.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			buffer.position(buffer.limit());
+			return;
+		}
+		if (this.buffer == null) {
+			this.buffer = new byte[BUFFER_LENGTH];
+		}
+		while (buffer.hasRemaining()) {
+			int count = Math.min(buffer.remaining(), this.buffer.length);
+			buffer.get(this.buffer, 0, count);
+			update(this.buffer, 0, count);
+		}
+	}
+
+	/**
+	 * Combina um byte com o estado da absorção.
+	 *
+	 * @param index Posição do byte no bloco.
+	 * @param value Byte.
+	 */
+	private void absorbByte(int index, int value) {
+		state[index >>> 3] ^= (long) (value & BYTE_MASK) << ((index & 7) << 3);
+	}
+
+	/**
+	 * Inicia a saída sobre uma cópia do estado, se ainda não iniciada.
+	 */
+	private void finish() {
+		if (finished) {
+			return;
+		}
+		System.arraycopy(state, 0, output, 0, STATE_WORDS);
+		output[position >>> 3] ^= (long) PADDING_START << ((position & 7) << 3);
+		output[(rate - 1) >>> 3] ^= (long) PADDING_END << (((rate - 1) & 7) << 3);
+		nextOutputBlock();
+		System.arraycopy(outputBlock, 0, head, 0, digestLength);
+		finished = true;
+	}
+
+	/**
+	 * Aplica a permutação sobre o estado da saída e prepara o próximo bloco.
+	 */
+	private void nextOutputBlock() {
+		keccak(output);
+		for (int i = 0; i < rate; i += Long.BYTES) {
+			LONG_VIEW.set(outputBlock, i, output[i >>> 3]);
+		}
+		outputPosition = 0;
+	}
+
+	/**
+	 * Lê os próximos bytes da saída extensível. A partir desta chamada, a
+	 * entrada não aceita novos dados até {@link #reset()}.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @param length Quantidade de bytes que serão lidos.
+	 */
+	@Override
+	public void squeeze(byte[] dst, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, dst.length);
+		finish();
+		squeezing = true;
+		while (length > 0) {
+			if (outputPosition == rate) {
+				nextOutputBlock();
+			}
+			int count = Math.min(rate - outputPosition, length);
+			System.arraycopy(outputBlock, outputPosition, dst, offset, count);
+			outputPosition += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	/**
+	 * Recupera o HASH em sua forma hexadecimal, com o tamanho padrão do
+	 * algorítimo, no formato de {@link Digester#digest()}. O resultado é o
+	 * mesmo de {@link DigesterSUN#digest()} quando o provedor oferece o SHAKE.
+	 *
+	 * @return HASH hexadecimal.
+	 */
+	@Override
+	public String digest() {
+		return StringUtil.toHex(digestBytes());
+	}
+
+	/**
+	 * Recupera o tamanho padrão do HASH em bytes: 32 para o SHAKE128 e 64 para
+	 * o SHAKE256.
+	 *
+	 * @return Quantidade de bytes do HASH.
+	 */
+	@Override
+	public int getDigestLength() {
+		return digestLength;
+	}
+
+	/**
+	 * Grava os primeiros bytes da saída na matriz de destino, com o tamanho
+	 * padrão do algorítimo.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return Quantidade de bytes gravados.
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, digestLength, dst.length);
+		finish();
+		System.arraycopy(head, 0, dst, offset, digestLength);
+		return digestLength;
+	}
+
+	/**
+	 * Aplica a permutação Keccak-f[1600] sobre um estado.
+	 *
+	 * @param a Estado com 25 palavras.
+	 */
+	private static void keccak(long[] a) {
+		for (int round = 0; round < ROUNDS; round++) {
+			// Theta:
+			long c0 = a[0] ^ a[5] ^ a[10] ^ a[15] ^ a[20];
+			long c1 = a[1] ^ a[6] ^ a[11] ^ a[16] ^ a[21];
+			long c2 = a[2] ^ a[7] ^ a[12] ^ a[17] ^ a[22];
+			long c3 = a[3] ^ a[8] ^ a[13] ^ a[18] ^ a[23];
+			long c4 = a[4] ^ a[9] ^ a[14] ^ a[19] ^ a[24];
+			long d0 = c4 ^ Long.rotateLeft(c1, 1);
+			long d1 = c0 ^ Long.rotateLeft(c2, 1);
+			long d2 = c1 ^ Long.rotateLeft(c3, 1);
+			long d3 = c2 ^ Long.rotateLeft(c4, 1);
+			long d4 = c3 ^ Long.rotateLeft(c0, 1);
+			for (int i = 0; i < STATE_WORDS; i += 5) {
+				a[i] ^= d0;
+				a[i + 1] ^= d1;
+				a[i + 2] ^= d2;
+				a[i + 3] ^= d3;
+				a[i + 4] ^= d4;
+			}
+			// Rho e pi:
+			long current = a[1];
+			for (int i = 0; i < PI.length; i++) {
+				int j = PI[i];
+				long next = a[j];
+				a[j] = Long.rotateLeft(current, RHO[i]);
+				current = next;
+			}
+			// Chi:
+			for (int i = 0; i < STATE_WORDS; i += 5) {
+				long x0 = a[i];
+				long x1 = a[i + 1];
+				long x2 = a[i + 2];
+				long x3 = a[i + 3];
+				long x4 = a[i + 4];
+				a[i] = x0 ^ ~x1 & x2;
+				a[i + 1] = x1 ^ ~x2 & x3;
+				a[i + 2] = x2 ^ ~x3 & x4;
+				a[i + 3] = x3 ^ ~x4 & x0;
+				a[i + 4] = x4 ^ ~x0 & x1;
+			}
+			// Iota:
+			a[0] ^= ROUND_CONSTANTS[round];
+		}
+	}
+}
@@ -1,9 +1,17 @@
 package br.com.codesolver.digester;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import br.com.codesolver.util.StringUtil;
@@ -22,6 +30,24 @@ public class DigesterSUN implements Digester {
     /** Digester utilizado para calculo do hash. */
     private MessageDigest digester;
 
+    /** Tamanho da área reutilizável para a codificação de textos. */
+    private static final int TEXT_BUFFER_SIZE = 512;
+
+    /** Maior caractere codificado diretamente em ASCII ou UTF-8. */
+    private static final char ASCII_LIMIT = 0x7F;
+
+    /** Maior caractere codificado diretamente em ISO-8859-1. */
+    private static final char LATIN1_LIMIT = 0xFF;
+
+    /** Área reutilizável para o HASH calculado nas verificações em bytes. */
+    private byte[] output;
+
+    /** Área reutilizável para os bytes dos textos codificados. */
+    private byte[] text;
+
+    /** Codificador do último conjunto de caracteres usado fora do caminho rápido. */
+    private CharsetEncoder encoder;
+
     /**
      * Prepara o componente de calculo de HASH.
      *
@@ -33,6 +59,16 @@ public class DigesterSUN implements Digester {
         digester = MessageDigest.getInstance(algorithm.getValue());
     }
 
+    /**
+     * Prepara o componente de calculo de HASH com um {@link MessageDigest} já
+     * inicializado, como um clone obtido por {@link DigesterFactory}.
+     *
+     * @param digester {@link MessageDigest} exclusivo desta instância.
+     */
+    DigesterSUN(MessageDigest digester) {
+        this.digester = digester;
+    }
+
     /**
      * Calcula o HASH para a matriz de bytes enviada.
      *
@@ -40,20 +76,145 @@ public class DigesterSUN implements Digester {
      * @return HASH.
      */
     public String parse(byte[] value) {
+        return StringUtil.toHex(parseBytes(value));
+    }
+
+    /**
+     * Calcula o HASH para a matriz de bytes enviada, sem convertê-lo para texto.
+     *
+     * @param value Matriz de bytes.
+     * @return HASH em bytes.
+     */
+    public byte[] parseBytes(byte[] value) {
+        digester.reset();
+        digester.update(value);
+        return digester.digest();
+    }
+
+    /**
+     * Calcula o HASH para a matriz de bytes enviada e o grava na matriz de
+     * destino, sem alocar memória.
+     *
+     * @param value Matriz de bytes.
+     * @param dst Matriz de destino.
+     * @param offset Posição inicial na matriz de destino.
+     * @return Quantidade de bytes gravados.
+     */
+    public int parseInto(byte[] value, byte[] dst, int offset) {
         digester.reset();
         digester.update(value);
-        byte[] buffer = digester.digest();
-        return StringUtil.toHex(buffer);
+        return digestInto(dst, offset);
     }
 
     /**
-     * Calcula o HASH para um texto informado.
+     * Calcula o HASH para um texto informado, codificado em UTF-8.
      *
      * @param value Texto para calcular o HASH.
      * @return HASH.
      */
     public String parse(String value) {
-        return parse(value.getBytes(Charset.defaultCharset()));
+        return parse(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Calcula o HASH para um texto informado, codificado com o conjunto de
+     * caracteres indicado, sem criar uma matriz de bytes para o texto.
+     *
+     * @param value Texto para calcular o HASH.
+     * @param charset Conjunto de caracteres da codificação.
+     * @return HASH.
+     */
+    public String parse(CharSequence value, Charset charset) {
+        digester.reset();
+        update(value, charset);
+        return StringUtil.toHex(digester.digest());
+    }
+
+    /**
+     * Acumula um texto para o calculo do HASH, codificado com o conjunto de
+     * caracteres indicado.
+     *
+     * <p>
+     * Os bytes são gravados em uma área reutilizável da instância. Textos ASCII
+     * em ASCII ou UTF-8, e textos ISO-8859-1 em ISO-8859-1, são copiados
+     * diretamente; os demais usam um {@link CharsetEncoder} mantido para o
+     * último conjunto de caracteres. Caracteres que não podem ser codificados
+     * são substituídos, como em {@link String#getBytes(Charset)}.
+     *
+     * @param value Texto.
+     * @param charset Conjunto de caracteres da codificação.
+     */
+    public void update(CharSequence value, Charset charset) {
+        if (text == null) {
+            text = new byte[TEXT_BUFFER_SIZE];
+        }
+        char limit = limit(charset);
+        int length = value.length();
+        int count = 0;
+        int i = 0;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c > limit) {
+                break;
+            }
+            if (count == text.length) {
+                digester.update(text, 0, count);
+                count = 0;
+            }
+            text[count++] = (byte) c;
+        }
+        if (count > 0) {
+            digester.update(text, 0, count);
+        }
+        if (i < length) {
+            encode(CharBuffer.wrap(value, i, length), charset);
+        }
+    }
+
+    /**
+     * Recupera o maior caractere que o conjunto de caracteres grava como um
+     * único byte de mesmo valor.
+     *
+     * @param charset Conjunto de caracteres.
+     * @return Maior caractere, ou zero quando não há caminho rápido.
+     */
+    private static char limit(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+            return ASCII_LIMIT;
+        }
+        if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            return LATIN1_LIMIT;
+        }
+        Objects.requireNonNull(charset, "Conjunto de caracteres não pode ser nulo.");
+        return 0;
+    }
+
+    /**
+     * Codifica os caracteres restantes com o {@link CharsetEncoder} do
+     * conjunto de caracteres, acumulando os bytes para o calculo do HASH.
+     *
+     * @param chars Caracteres restantes.
+     * @param charset Conjunto de caracteres da codificação.
+     */
+    private void encode(CharBuffer chars, Charset charset) {
+        if (encoder == null || !encoder.charset().equals(charset)) {
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        encoder.reset();
+        ByteBuffer bytes = ByteBuffer.wrap(text);
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, true);
+            digester.update(text, 0, bytes.position());
+            bytes.clear();
+        } while (result.isOverflow());
+        do {
+            result = encoder.flush(bytes);
+            digester.update(text, 0, bytes.position());
+            bytes.clear();
+        } while (result.isOverflow());
     }
 
     /**
@@ -69,14 +230,86 @@ public class DigesterSUN implements Digester {
     }
 
     /**
-     * Verifica a integridade de uma informação.
+     * Verifica a integridade de uma informação codificada em UTF-8.
      *
      * @param value Texto para ser verificado.
      * @param hash Assinatura HASH.
      * @return Verdadeiro se o HASH coincidir.
      */
     public boolean verify(String value, String hash) {
-        return verify(value.getBytes(Charset.defaultCharset()), hash);
+        return verify(value, hash, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Verifica a integridade de uma informação codificada com o conjunto de
+     * caracteres indicado.
+     *
+     * @param value Texto para ser verificado.
+     * @param hash Assinatura HASH.
+     * @param charset Conjunto de caracteres da codificação.
+     * @return Verdadeiro se o HASH coincidir.
+     */
+    public boolean verify(CharSequence value, String hash, Charset charset) {
+        return parse(value, charset).equals(hash);
+    }
+
+    /**
+     * Verifica a integridade de uma informação comparando o HASH em bytes.
+     *
+     * <p>
+     * A comparação é feita em tempo constante com
+     * {@link MessageDigest#isEqual(byte[], byte[])} e o HASH calculado é gravado
+     * em uma área reutilizável, sem alocações a cada chamada. Para HASH em texto,
+     * converta-o uma única vez com {@link #decode(String)} e reutilize o resultado.
+     *
+     * @param value Sequência para ser verificada.
+     * @param hash Assinatura HASH em bytes.
+     * @return Verdadeiro se o HASH coincidir.
+     */
+    public boolean verify(byte[] value, byte[] hash) {
+        if (output == null) {
+            output = new byte[getDigestLength()];
+        }
+        parseInto(value, output, 0);
+        return MessageDigest.isEqual(output, hash);
+    }
+
+    /**
+     * Converte um HASH hexadecimal para bytes, com o tamanho exato do algorítimo.
+     *
+     * <p>
+     * Aceita a representação gerada por {@link #digest()}, que omite os zeros à
+     * esquerda, completando-os novamente.
+     *
+     * @param hash HASH no formato hexadecimal.
+     * @return HASH em bytes, com {@link #getDigestLength()} posições.
+     * @throws DigesterException HASH inválido para o algorítimo.
+     */
+    public byte[] decode(String hash) {
+        byte[] value;
+        try {
+            value = StringUtil.hexToBytes(hash);
+        } catch (NumberFormatException e) {
+            throw invalidHash(e);
+        }
+        byte[] result = new byte[getDigestLength()];
+        if (value.length > result.length) {
+            throw invalidHash(null);
+        }
+        System.arraycopy(value, 0, result, result.length - value.length, value.length);
+        return result;
+    }
+
+    /**
+     * Prepara o erro para um HASH incompatível com o algorítimo.
+     *
+     * @param cause Causa do erro, se houver.
+     * @return {@link DigesterException}.
+     */
+    private DigesterException invalidHash(Throwable cause) {
+        String message = MessageFormat.format("HASH inválido para o algoritimo {0}.", digester.getAlgorithm());
+        LOGGER.severe(message);
+        return new DigesterException(message, cause);
     }
 
     /**
@@ -97,6 +330,28 @@ public class DigesterSUN implements Digester {
         digester.update(buffer);
     }
 
+    /**
+     * Acumula parte de uma matriz de bytes para o calculo do HASH.
+     *
+     * @param buffer Matriz de bytes.
+     * @param offset Posição inicial na matriz.
+     * @param length Quantidade de bytes a partir da posição inicial.
+     */
+    @Override
+    public void update(byte[] buffer, int offset, int length) {
+        digester.update(buffer, offset, length);
+    }
+
+    /**
+     * Acumula os bytes restantes de um {@link ByteBuffer} para o calculo do HASH.
+     *
+     * @param buffer {@link ByteBuffer} que será consumido.
+     */
+    @Override
+    public void update(ByteBuffer buffer) {
+        digester.update(buffer);
+    }
+
     /**
      * Calcula o hash e retorna sua representação em texto.
      *
@@ -104,6 +359,47 @@ public class DigesterSUN implements Digester {
      */
     @Override
     public String digest() {
-        return StringUtil.toHex(digester.digest());
+        return StringUtil.toHex(digestBytes());
+    }
+
+    /**
+     * Recupera o tamanho do HASH em bytes.
+     *
+     * @return Quantidade de bytes do HASH.
+     */
+    @Override
+    public int getDigestLength() {
+        return digester.getDigestLength();
+    }
+
+    /**
+     * Calcula o hash e o grava na matriz de destino.
+     *
+     * @param dst Matriz de destino.
+     * @param offset Posição inicial na matriz de destino.
+     * @return Quantidade de bytes gravados.
+     * @throws DigesterException Erro ao gravar o HASH.
+     */
+    @Override
+    public int digestInto(byte[] dst, int offset) {
+        int length = digester.getDigestLength();
+        Objects.checkFromIndexSize(offset, length, dst.length);
+        try {
+            return digester.digest(dst, offset, length);
+        } catch (DigestException e) {
+            String message = MessageFormat.format("Erro ao calcular o HASH {0}.", digester.getAlgorithm());
+            LOGGER.severe(message);
+            throw new DigesterException(message, e);
+        }
+    }
+
+    /**
+     * Calcula o hash e retorna o resultado em uma nova matriz de bytes.
+     *
+     * @return HASH em bytes.
+     */
+    @Override
+    public byte[] digestBytes() {
+        return digester.digest();
     }
 }
@@ -0,0 +1,320 @@
+package br.com.codesolver.digester;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * Serviço assíncrono de cálculo de HASH, com uma <i>thread</i> virtual por
+ * tarefa e concorrência limitada.
+ *
+ * <p>
+ * Cada tarefa devolve um {@link CompletableFuture} com o HASH em bytes. Os
+ * limites de leitura e de processamento são independentes:
+ *
+ * <ul>
+ *   <li>o limite de leitura é a quantidade máxima de arquivos ou
+ *   {@link InputStream} abertos ao mesmo tempo, e portanto também limita a
+ *   memória das matrizes intermediárias;</li>
+ *   <li>o limite de processamento é a quantidade máxima de blocos sendo
+ *   acumulados em um {@link Digester} ao mesmo tempo, normalmente a
+ *   quantidade de processadores.</li>
+ * </ul>
+ *
+ * <p>
+ * As instâncias de {@link Digester} são reaproveitadas com um
+ * {@link DigesterPool} por algorítimo. Cancelar o {@link CompletableFuture}
+ * interrompe a <i>thread</i> da tarefa, que é encerrada no próximo bloco ou
+ * na leitura em andamento.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterPool
+ */
+public class DigesterService implements AutoCloseable {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(DigesterService.class.getName());
+
+	/** Limite padrão de leituras simultâneas. */
+	public static final int DEFAULT_IO_PERMITS = 64;
+
+	/** Tamanho padrão da matriz intermediária de cada leitura (256 KB). */
+	public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+	/** Executor com uma <i>thread</i> virtual por tarefa. */
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	/** Instâncias reaproveitadas de cada algorítimo. */
+	private final Map<AlgorithmType, DigesterPool<Digester>> pools = new ConcurrentHashMap<>();
+
+	/** Permissões de leitura. */
+	private final Semaphore ioPermits;
+
+	/** Permissões de processamento. */
+	private final Semaphore cpuPermits;
+
+	/** Limite de leituras simultâneas. */
+	private final int ioLimit;
+
+	/** Limite de processamentos simultâneos. */
+	private final int cpuLimit;
+
+	/** Tamanho da matriz intermediária de cada leitura. */
+	private final int bufferSize;
+
+	/**
+	 * Prepara o serviço com os limites padrão: {@link #DEFAULT_IO_PERMITS}
+	 * leituras e um processamento por processador disponível.
+	 */
+	public DigesterService() {
+		this(DEFAULT_IO_PERMITS, Runtime.getRuntime().availableProcessors(), DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Prepara o serviço.
+	 *
+	 * @param ioLimit Quantidade máxima de leituras simultâneas.
+	 * @param cpuLimit Quantidade máxima de processamentos simultâneos.
+	 * @param bufferSize Tamanho, em bytes, da matriz intermediária de cada leitura.
+	 * @throws IllegalArgumentException Limites ou tamanho inválidos.
+	 */
+	public DigesterService(int ioLimit, int cpuLimit, int bufferSize) {
+		if (ioLimit <= 0 || cpuLimit <= 0) {
+			throw new IllegalArgumentException("Limites de concorrência devem ser positivos.");
+		}
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Tamanho da matriz deve ser positivo.");
+		}
+		this.ioLimit = ioLimit;
+		this.cpuLimit = cpuLimit;
+		this.bufferSize = bufferSize;
+		this.ioPermits = new Semaphore(ioLimit);
+		this.cpuPermits = new Semaphore(cpuLimit);
+	}
+
+	/**
+	 * Recupera o limite de leituras simultâneas.
+	 *
+	 * @return Quantidade máxima de leituras.
+	 */
+	public int getIOLimit() {
+		return ioLimit;
+	}
+
+	/**
+	 * Recupera o limite de processamentos simultâneos.
+	 *
+	 * @return Quantidade máxima de processamentos.
+	 */
+	public int getCPULimit() {
+		return cpuLimit;
+	}
+
+	/**
+	 * Calcula o HASH de uma matriz de bytes. A matriz não deve ser alterada até
+	 * o fim da tarefa.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param data Matriz de bytes.
+	 * @return HASH em bytes, quando concluído.
+	 * @throws DigesterException Algorítimo inválido ou serviço encerrado.
+	 */
+	public CompletableFuture<byte[]> submit(AlgorithmType algorithm, byte[] data) {
+		Objects.requireNonNull(data, "data");
+		DigesterPool<Digester> pool = pool(algorithm);
+		return execute(() -> {
+			Digester digester = pool.borrow();
+			try {
+				cpuPermits.acquire();
+				try {
+					digester.update(data);
+				} finally {
+					cpuPermits.release();
+				}
+				return digester.digestBytes();
+			} finally {
+				pool.release(digester);
+			}
+		});
+	}
+
+	/**
+	 * Calcula o HASH de um arquivo.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param file Caminho do arquivo.
+	 * @return HASH em bytes, quando concluído. Erros de leitura são entregues
+	 * como {@link DigesterException}.
+	 * @throws DigesterException Algorítimo inválido ou serviço encerrado.
+	 */
+	public CompletableFuture<byte[]> submit(AlgorithmType algorithm, Path file) {
+		Objects.requireNonNull(file, "file");
+		DigesterPool<Digester> pool = pool(algorithm);
+		return execute(() -> read(pool, file.toString(), () -> Files.newInputStream(file)));
+	}
+
+	/**
+	 * Calcula o HASH de todo o conteúdo de um {@link InputStream}, que passa a
+	 * pertencer ao serviço e é fechado ao fim da tarefa.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param in {@link InputStream} de origem.
+	 * @return HASH em bytes, quando concluído. Erros de leitura são entregues
+	 * como {@link DigesterException}.
+	 * @throws DigesterException Algorítimo inválido ou serviço encerrado.
+	 */
+	public CompletableFuture<byte[]> submit(AlgorithmType algorithm, InputStream in) {
+		Objects.requireNonNull(in, "in");
+		DigesterPool<Digester> pool = pool(algorithm);
+		return execute(() -> {
+			try (InputStream source = in) {
+				return read(pool, in.toString(), () -> source);
+			}
+		});
+	}
+
+	/**
+	 * Calcula o HASH de vários arquivos, cada um em sua própria tarefa.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param files Caminhos dos arquivos.
+	 * @return Um {@link CompletableFuture} por arquivo, na mesma ordem.
+	 * @throws DigesterException Algorítimo inválido ou serviço encerrado.
+	 */
+	public List<CompletableFuture<byte[]>> submitAll(AlgorithmType algorithm, Collection<Path> files) {
+		List<CompletableFuture<byte[]>> results = new ArrayList<>(files.size());
+		for (Path file : files) {
+			results.add(submit(algorithm, file));
+		}
+		return results;
+	}
+
+	/**
+	 * Aguarda a conclusão das tarefas já enviadas e encerra o serviço. Novas
+	 * tarefas são recusadas.
+	 */
+	@Override
+	public void close() {
+		executor.close();
+	}
+
+	/**
+	 * Recupera as instâncias reaproveitadas de um algorítimo, criando-as na
+	 * primeira chamada, o que também valida o algorítimo.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @return {@link DigesterPool} do algorítimo.
+	 * @throws DigesterException Algorítimo inválido.
+	 */
+	private DigesterPool<Digester> pool(AlgorithmType algorithm) {
+		if (algorithm == null) {
+			String message = "Algoritimo não pode ser nulo.";
+			LOGGER.severe(message);
+			throw new DigesterException(message);
+		}
+		return pools.computeIfAbsent(algorithm, key -> new DigesterPool<>(key, cpuLimit));
+	}
+
+	/**
+	 * Executa uma tarefa em uma <i>thread</i> virtual, ligando o cancelamento do
+	 * resultado à interrupção da <i>thread</i>.
+	 *
+	 * <p>
+	 * A tarefa sempre é iniciada, mesmo se o resultado for cancelado antes, já
+	 * com a <i>thread</i> interrompida, para que as origens recebidas sejam
+	 * fechadas.
+	 *
+	 * @param task Tarefa de cálculo.
+	 * @return Resultado da tarefa.
+	 * @throws DigesterException Serviço encerrado.
+	 */
+	private CompletableFuture<byte[]> execute(Callable<byte[]> task) {
+		CompletableFuture<byte[]> result = new CompletableFuture<>();
+		AtomicReference<Thread> runner = new AtomicReference<>();
+		try {
+			executor.execute(() -> {
+				runner.set(Thread.currentThread());
+				if (result.isCancelled()) {
+					Thread.currentThread().interrupt();
+				}
+				try {
+					result.complete(task.call());
+				} catch (Exception e) {
+					result.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			String message = "Serviço de HASH encerrado.";
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		}
+		result.whenComplete((value, error) -> {
+			Thread thread = runner.get();
+			if (result.isCancelled() && thread != null) {
+				thread.interrupt();
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Lê uma origem em blocos, limitando a leitura pelas permissões de leitura
+	 * e o processamento de cada bloco pelas permissões de processamento.
+	 *
+	 * @param pool Instâncias reaproveitadas do algorítimo.
+	 * @param name Nome da origem, para as mensagens de erro.
+	 * @param source Abertura da origem.
+	 * @return HASH em bytes.
+	 * @throws InterruptedException Tarefa cancelada.
+	 * @throws DigesterException Erro de leitura.
+	 */
+	private byte[] read(DigesterPool<Digester> pool, String name, Callable<InputStream> source)
+			throws InterruptedException {
+		ioPermits.acquire();
+		try (InputStream in = source.call()) {
+			byte[] buffer = new byte[bufferSize];
+			Digester digester = pool.borrow();
+			try {
+				int count;
+				while ((count = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+					cpuPermits.acquire();
+					try {
+						digester.update(buffer, 0, count);
+					} finally {
+						cpuPermits.release();
+					}
+				}
+				return digester.digestBytes();
+			} finally {
+				pool.release(digester);
+			}
+		} catch (InterruptedException | RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new InterruptedException(e.getMessage());
+			}
+			String message = MessageFormat.format("Erro ao ler {0}.", name);
+			LOGGER.severe(message);
+			throw new DigesterException(message, e);
+		} finally {
+			ioPermits.release();
+		}
+	}
+}
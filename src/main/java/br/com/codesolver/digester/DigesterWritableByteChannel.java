@@ -0,0 +1,67 @@
+package br.com.codesolver.digester;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * {@link WritableByteChannel} que atualiza um {@link Digester} com todos os
+ * bytes efetivamente escritos no canal de destino.
+ *
+ * <p>
+ * Escritas parciais são consideradas: apenas os bytes aceitos pelo canal de
+ * destino entram no cálculo, e os restantes entrarão na próxima escrita.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ * @see DigesterReadableByteChannel
+ */
+public class DigesterWritableByteChannel implements WritableByteChannel {
+
+	/** Canal de destino. */
+	private final WritableByteChannel channel;
+
+	/** Processador de HASH atualizado pela escrita. */
+	private final Digester digester;
+
+	/**
+	 * Prepara a escrita com cálculo do HASH.
+	 *
+	 * @param channel {@link WritableByteChannel} de destino.
+	 * @param digester {@link Digester} atualizado com os bytes escritos.
+	 */
+	public DigesterWritableByteChannel(WritableByteChannel channel, Digester digester) {
+		this.channel = Objects.requireNonNull(channel, "channel");
+		this.digester = Objects.requireNonNull(digester, "digester");
+	}
+
+	/**
+	 * Recupera o processador de HASH atualizado pela escrita.
+	 *
+	 * @return {@link Digester}.
+	 */
+	public Digester getDigester() {
+		return digester;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		int position = src.position();
+		int count = channel.write(src);
+		if (count > 0) {
+			DigesterReadableByteChannel.update(digester, src, position, count);
+		}
+		return count;
+	}
+
+	@Override
+	public boolean isOpen() {
+		return channel.isOpen();
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
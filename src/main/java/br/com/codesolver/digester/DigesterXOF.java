@@ -0,0 +1,44 @@
+package br.com.codesolver.digester;
+
+/**
+ * Adiciona a funcionalidade de saída extensível (<i>extendable output
+ * function</i>): o algorítimo pode produzir um HASH de qualquer tamanho.
+ *
+ * <p>
+ * A primeira chamada de {@link #squeeze(byte[], int, int)} finaliza a entrada,
+ * e as chamadas seguintes continuam a sequência de saída de onde a anterior
+ * parou. Depois disso, atualizações vazias são ignoradas e as demais lançam
+ * {@link IllegalStateException} até que {@link #reset()} seja chamado, para
+ * que a saída, usada como fluxo de chave ou derivação de chave, nunca volte ao
+ * início sem que o chamador perceba. {@link #digestInto(byte[], int)} sempre
+ * grava os primeiros {@link #getDigestLength()} bytes da saída, sem alterar a
+ * posição de leitura.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public interface DigesterXOF extends Digester {
+
+	/**
+	 * Lê os próximos bytes da saída extensível. A partir desta chamada, a
+	 * entrada não aceita novos dados até {@link #reset()}.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @param length Quantidade de bytes que serão lidos.
+	 * @throws IndexOutOfBoundsException Espaço insuficiente na matriz de destino.
+	 */
+	void squeeze(byte[] dst, int offset, int length);
+
+	/**
+	 * Lê os próximos bytes da saída extensível em uma nova matriz.
+	 *
+	 * @param length Quantidade de bytes que serão lidos.
+	 * @return Próximos bytes da saída.
+	 */
+	default byte[] squeeze(int length) {
+		byte[] result = new byte[length];
+		squeeze(result, 0, length);
+		return result;
+	}
+}
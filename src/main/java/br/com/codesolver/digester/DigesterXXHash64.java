@@ -0,0 +1,323 @@
+package br.com.codesolver.digester;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Calcula um HASH não criptográfico do tipo xxHash64, adequado para chaves de
+ * particionamento, deduplicação e cache.
+ *
+ * <p>
+ * O cálculo é incremental: os dados são processados em blocos de 32 bytes e o
+ * restante fica acumulado até a próxima atualização. A representação em bytes
+ * segue o formato canônico do xxHash (<i>big-endian</i>).
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class DigesterXXHash64 implements DigesterChecksum {
+
+	/** Primeiro número primo do algorítimo. */
+	private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+
+	/** Segundo número primo do algorítimo. */
+	private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+
+	/** Terceiro número primo do algorítimo. */
+	private static final long PRIME64_3 = 0x165667B19E3779F9L;
+
+	/** Quarto número primo do algorítimo. */
+	private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+
+	/** Quinto número primo do algorítimo. */
+	private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+	/** Tamanho de um bloco processado de uma única vez. */
+	private static final int STRIPE_LENGTH = 32;
+
+	/** Máscara para formatar um Byte. */
+	private static final int BYTE_MASK = 0xFF;
+
+	/** Máscara para formatar um número inteiro sem sinal. */
+	private static final long INT_MASK = 0xFFFFFFFFL;
+
+	/** Visão da matriz de bytes como inteiros longos <i>little-endian</i>. */
+	private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	/** Visão da matriz de bytes como inteiros <i>little-endian</i>. */
+	private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class,
+			ByteOrder.LITTLE_ENDIAN);
+
+	/** Semente do cálculo. */
+	private final long seed;
+
+	/** Primeiro acumulador. */
+	private long v1;
+
+	/** Segundo acumulador. */
+	private long v2;
+
+	/** Terceiro acumulador. */
+	private long v3;
+
+	/** Quarto acumulador. */
+	private long v4;
+
+	/** Quantidade total de bytes processados. */
+	private long total;
+
+	/** Bytes acumulados que ainda não completaram um bloco. */
+	private final byte[] pending = new byte[STRIPE_LENGTH];
+
+	/** Quantidade de bytes acumulados em {@link #pending}. */
+	private int pendingLength;
+
+	/**
+	 * Prepara o componente de cálculo com a semente informada.
+	 *
+	 * @param seed Semente do cálculo.
+	 */
+	DigesterXXHash64(long seed) {
+		this.seed = seed;
+		reset();
+	}
+
+	/** Reinicia o cálculo. */
+	@Override
+	public void reset() {
+		v1 = seed + PRIME64_1 + PRIME64_2;
+		v2 = seed + PRIME64_2;
+		v3 = seed;
+		v4 = seed - PRIME64_1;
+		total = 0;
+		pendingLength = 0;
+	}
+
+	/**
+	 * Acumula uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, buffer.length);
+		total += length;
+		int i = offset;
+		int end = offset + length;
+		if (pendingLength > 0) {
+			int count = Math.min(length, STRIPE_LENGTH - pendingLength);
+			System.arraycopy(buffer, i, pending, pendingLength, count);
+			pendingLength += count;
+			i += count;
+			if (pendingLength < STRIPE_LENGTH) {
+				return;
+			}
+			updateStripe(pending, 0);
+			pendingLength = 0;
+		}
+		for (int limit = end - STRIPE_LENGTH; i <= limit; i += STRIPE_LENGTH) {
+			updateStripe(buffer, i);
+		}
+		pendingLength = end - i;
+		System.arraycopy(buffer, i, pending, 0, pendingLength);
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} no cálculo. Buffers
+	 * sem matriz acessível são lidos diretamente em blocos de 32 bytes.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		int position = buffer.position();
+		int end = buffer.limit();
+		if (buffer.hasArray()) {
+			update(buffer.array(), buffer.arrayOffset() + position, end - position);
+		} else {
+			int i = position;
+			if (pendingLength > 0) {
+				while (pendingLength < STRIPE_LENGTH && i < end) {
+					pending[pendingLength++] = buffer.get(i++);
+					total++;
+				}
+				if (pendingLength < STRIPE_LENGTH) {
+					buffer.position(end);
+					return;
+				}
+				updateStripe(pending, 0);
+				pendingLength = 0;
+			}
+			boolean littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+			for (int limit = end - STRIPE_LENGTH; i <= limit; i += STRIPE_LENGTH) {
+				total += STRIPE_LENGTH;
+				updateStripe(readLong(buffer, i, littleEndian),
+						readLong(buffer, i + Long.BYTES, littleEndian),
+						readLong(buffer, i + 2 * Long.BYTES, littleEndian),
+						readLong(buffer, i + 3 * Long.BYTES, littleEndian));
+			}
+			for (; i < end; i++) {
+				pending[pendingLength++] = buffer.get(i);
+				total++;
+			}
+		}
+		buffer.position(end);
+	}
+
+	/**
+	 * Lê um inteiro longo <i>little-endian</i> de um {@link ByteBuffer}.
+	 *
+	 * @param buffer {@link ByteBuffer}.
+	 * @param index Posição absoluta.
+	 * @param littleEndian Se a ordem do buffer já é <i>little-endian</i>.
+	 * @return Valor lido.
+	 */
+	private static long readLong(ByteBuffer buffer, int index, boolean littleEndian) {
+		long value = buffer.getLong(index);
+		return littleEndian ? value : Long.reverseBytes(value);
+	}
+
+	/**
+	 * Processa um bloco de 32 bytes de uma matriz.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição do bloco.
+	 */
+	private void updateStripe(byte[] buffer, int offset) {
+		updateStripe((long) LONG_VIEW.get(buffer, offset),
+				(long) LONG_VIEW.get(buffer, offset + Long.BYTES),
+				(long) LONG_VIEW.get(buffer, offset + 2 * Long.BYTES),
+				(long) LONG_VIEW.get(buffer, offset + 3 * Long.BYTES));
+	}
+
+	/**
+	 * Processa um bloco de 32 bytes já lido em quatro inteiros longos.
+	 *
+	 * @param a Primeira parte do bloco.
+	 * @param b Segunda parte do bloco.
+	 * @param c Terceira parte do bloco.
+	 * @param d Quarta parte do bloco.
+	 */
+	private void updateStripe(long a, long b, long c, long d) {
+		v1 = round(v1, a);
+		v2 = round(v2, b);
+		v3 = round(v3, c);
+		v4 = round(v4, d);
+	}
+
+	/**
+	 * Rodada de mistura de um acumulador.
+	 *
+	 * @param acc Acumulador.
+	 * @param input Valor lido.
+	 * @return Novo valor do acumulador.
+	 */
+	private static long round(long acc, long input) {
+		return Long.rotateLeft(acc + input * PRIME64_2, 31) * PRIME64_1;
+	}
+
+	/**
+	 * Combina um acumulador no HASH final.
+	 *
+	 * @param hash HASH parcial.
+	 * @param acc Acumulador.
+	 * @return Novo HASH parcial.
+	 */
+	private static long merge(long hash, long acc) {
+		return (hash ^ round(0, acc)) * PRIME64_1 + PRIME64_4;
+	}
+
+	/**
+	 * Recupera o HASH calculado, sem alterar o estado do cálculo.
+	 *
+	 * @return HASH de 64 bits.
+	 */
+	@Override
+	public long getValue() {
+		long hash;
+		if (total >= STRIPE_LENGTH) {
+			hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+			hash = merge(hash, v1);
+			hash = merge(hash, v2);
+			hash = merge(hash, v3);
+			hash = merge(hash, v4);
+		} else {
+			hash = seed + PRIME64_5;
+		}
+		hash += total;
+		int i = 0;
+		for (; i + Long.BYTES <= pendingLength; i += Long.BYTES) {
+			hash ^= round(0, (long) LONG_VIEW.get(pending, i));
+			hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+		}
+		if (i + Integer.BYTES <= pendingLength) {
+			hash ^= ((int) INT_VIEW.get(pending, i) & INT_MASK) * PRIME64_1;
+			hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+			i += Integer.BYTES;
+		}
+		for (; i < pendingLength; i++) {
+			hash ^= (pending[i] & BYTE_MASK) * PRIME64_5;
+			hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+		}
+		hash ^= hash >>> 33;
+		hash *= PRIME64_2;
+		hash ^= hash >>> 29;
+		hash *= PRIME64_3;
+		hash ^= hash >>> 32;
+		return hash;
+	}
+
+	/**
+	 * Recupera o HASH em sua forma hexadecimal.
+	 *
+	 * @return HASH hexadecimal.
+	 */
+	@Override
+	public String digest() {
+		return Long.toHexString(getValue());
+	}
+
+	/**
+	 * Recupera o tamanho do HASH em bytes.
+	 *
+	 * @return {@value Long#BYTES}
+	 */
+	@Override
+	public int getDigestLength() {
+		return Long.BYTES;
+	}
+
+	/**
+	 * Grava o HASH em <i>big-endian</i> (formato canônico) na matriz de destino.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return {@value Long#BYTES}
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, Long.BYTES, dst.length);
+		long value = getValue();
+		for (int i = Long.BYTES - 1; i >= 0; i--) {
+			dst[offset + i] = (byte) value;
+			value >>>= Byte.SIZE;
+		}
+		return Long.BYTES;
+	}
+}
@@ -0,0 +1,117 @@
+package br.com.codesolver.digester;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+/**
+ * Calcula um CRC-32, CRC-32C ou Adler-32 através de {@link java.util.zip},
+ * cujas implementações são intrínsecas da JVM e utilizam instruções
+ * vetoriais do processador.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class DigesterZip implements DigesterChecksum {
+
+	/** Máscara para formatar um número inteiro sem sinal. */
+	private static final long INT_MASK = 0xFFFFFFFFL;
+
+	/** Cálculo do valor. */
+	private final Checksum checksum;
+
+	/**
+	 * Prepara o componente de cálculo.
+	 *
+	 * @param checksum {@link Checksum} exclusivo desta instância.
+	 */
+	DigesterZip(Checksum checksum) {
+		this.checksum = checksum;
+	}
+
+	/** Reinicia o cálculo. */
+	@Override
+	public void reset() {
+		checksum.reset();
+	}
+
+	/**
+	 * Recupera o valor calculado.
+	 *
+	 * @return Valor de 32 bits sem sinal.
+	 */
+	@Override
+	public long getValue() {
+		return checksum.getValue() & INT_MASK;
+	}
+
+	/**
+	 * Acumula uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 */
+	@Override
+	public void update(byte[] buffer) {
+		checksum.update(buffer, 0, buffer.length);
+	}
+
+	/**
+	 * Acumula parte de uma matriz de bytes no cálculo.
+	 *
+	 * @param buffer Matriz de bytes.
+	 * @param offset Posição inicial na matriz.
+	 * @param length Quantidade de bytes a partir da posição inicial.
+	 */
+	@Override
+	public void update(byte[] buffer, int offset, int length) {
+		checksum.update(buffer, offset, length);
+	}
+
+	/**
+	 * Acumula os bytes restantes de um {@link ByteBuffer} no cálculo.
+	 *
+	 * @param buffer {@link ByteBuffer} que será consumido.
+	 */
+	@Override
+	public void update(ByteBuffer buffer) {
+		checksum.update(buffer);
+	}
+
+	/**
+	 * Recupera o valor em sua forma hexadecimal.
+	 *
+	 * @return HASH do valor.
+	 */
+	@Override
+	public String digest() {
+		return Long.toHexString(getValue());
+	}
+
+	/**
+	 * Recupera o tamanho do valor em bytes.
+	 *
+	 * @return {@value Integer#BYTES}
+	 */
+	@Override
+	public int getDigestLength() {
+		return Integer.BYTES;
+	}
+
+	/**
+	 * Grava o valor em <i>big-endian</i> na matriz de destino.
+	 *
+	 * @param dst Matriz de destino.
+	 * @param offset Posição inicial na matriz de destino.
+	 * @return {@value Integer#BYTES}
+	 */
+	@Override
+	public int digestInto(byte[] dst, int offset) {
+		Objects.checkFromIndexSize(offset, Integer.BYTES, dst.length);
+		int value = (int) checksum.getValue();
+		dst[offset] = (byte) (value >>> 24);
+		dst[offset + 1] = (byte) (value >>> 16);
+		dst[offset + 2] = (byte) (value >>> 8);
+		dst[offset + 3] = (byte) value;
+		return Integer.BYTES;
+	}
+}
@@ -0,0 +1,177 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterBLAKE3;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+
+/**
+ * Testes unitários para {@link DigesterBLAKE3}, com os vetores de teste
+ * oficiais do algorítimo.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterBLAKE3 {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterBLAKE3.class.getName());
+
+	/** Chave dos vetores de teste oficiais. */
+	private static final byte[] KEY = "whats the Elvish word for friend".getBytes(StandardCharsets.US_ASCII);
+
+	/** Contexto dos vetores de teste oficiais. */
+	private static final String CONTEXT = "BLAKE3 2019-12-27 16:29:52 test vectors context";
+
+	/** Tamanhos de entrada e HASH esperados no modo padrão. */
+	private static final Object[][] HASH = {
+		{0, "af1349b9f5f9a1a6a0404dea36dcc9499bcb25c9adc112b7cc9a93cae41f3262"},
+		{1, "2d3adedff11b61f14c886e35afa036736dcd87a74d27b5c1510225d0f592e213"},
+		{63, "e9bc37a594daad83be9470df7f7b3798297c3d834ce80ba85d6e207627b7db7b"},
+		{64, "4eed7141ea4a5cd4b788606bd23f46e212af9cacebacdc7d1f4c6dc7f2511b98"},
+		{65, "de1e5fa0be70df6d2be8fffd0e99ceaa8eb6e8c93a63f2d8d1c30ecb6b263dee"},
+		{1023, "10108970eeda3eb932baac1428c7a2163b0e924c9a9e25b35bba72b28f70bd11"},
+		{1024, "42214739f095a406f3fc83deb889744ac00df831c10daa55189b5d121c855af7"},
+		{1025, "d00278ae47eb27b34faecf67b4fe263f82d5412916c1ffd97c8cb7fb814b8444"},
+		{2048, "e776b6028c7cd22a4d0ba182a8bf62205d2ef576467e838ed6f2529b85fba24a"},
+		{2049, "5f4d72f40d7a5f82b15ca2b2e44b1de3c2ef86c426c95c1af0b6879522563030"},
+		{3072, "b98cb0ff3623be03326b373de6b9095218513e64f1ee2edd2525c7ad1e5cffd2"},
+		{3073, "7124b49501012f81cc7f11ca069ec9226cecb8a2c850cfe644e327d22d3e1cd3"},
+		{4096, "015094013f57a5277b59d8475c0501042c0b642e531b0a1c8f58d2163229e969"},
+		{4097, "9b4052b38f1c5fc8b1f9ff7ac7b27cd242487b3d890d15c96a1c25b8aa0fb995"},
+		{8193, "bab6c09cb8ce8cf459261398d2e7aef35700bf488116ceb94a36d0f5f1b7bc3b"},
+		{16384, "f875d6646de28985646f34ee13be9a576fd515f76b5b0a26bb324735041ddde4"},
+		{31744, "62b6960e1a44bcc1eb1a611a8d6235b6b4b78f32e7abc4fb4c6cdcce94895c47"},
+		{102400, "bc3e3d41a1146b069abffad3c0d44860cf664390afce4d9661f7902e7943e085"}
+	};
+
+	/** Saída extensível de 131 bytes para uma entrada de 1025 bytes. */
+	private static final String XOF_1025 = "d00278ae47eb27b34faecf67b4fe263f82d5412916c1ffd97c8cb7fb814b8444"
+			+ "f4c4a22b4b399155358a994e52bf255de60035742ec71bd08ac275a1b51cc6bfe332b0ef84b409108cda080e6269ed4b"
+			+ "3e2c3f7d722aa4cdc98d16deb554e5627be8f955c98e1d5f9565a9194cad0c4285f93700062d9595adb992ae68ff1280"
+			+ "0ab67a";
+
+	/** Construtor padrão. */
+	public TestDigesterBLAKE3() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterBLAKE3}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterBLAKE3.");
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterBLAKE3}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterBLAKE3.");
+	}
+
+	/**
+	 * Teste para o método {@link DigesterBLAKE3#digest()} com os vetores
+	 * oficiais, em uma única atualização e byte a byte.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterBLAKE3#digest().");
+		for (Object[] vector : HASH) {
+			byte[] input = TestDigesterXXHash64.input((int) vector[0]);
+			DigesterBLAKE3 digester = DigesterFactory.getInstance(AlgorithmType.BLAKE3);
+			digester.update(input);
+			assertEquals(vector[1], HexFormat.of().formatHex(digester.digestBytes()), "Tamanho " + vector[0]);
+			digester.reset();
+			for (int i = 0; i < input.length; i += 1000) {
+				digester.update(input, i, Math.min(1000, input.length - i));
+			}
+			assertEquals(vector[1], HexFormat.of().formatHex(digester.digestBytes()), "Tamanho " + vector[0]);
+		}
+		DigesterBLAKE3 digester = DigesterFactory.getInstance(AlgorithmType.BLAKE3);
+		digester.update(TestDigesterXXHash64.input(4096));
+		assertEquals("15094013f57a5277b59d8475c0501042c0b642e531b0a1c8f58d2163229e969", digester.digest());
+	}
+
+	/**
+	 * Teste para o modo paralelo de {@link DigesterBLAKE3}.
+	 */
+	@Test
+	public void testParallel() {
+		LOGGER.config("Testando DigesterBLAKE3#setParallelThreshold(int).");
+		DigesterBLAKE3 digester = DigesterFactory.getInstance(AlgorithmType.BLAKE3);
+		digester.setParallelThreshold(1024);
+		for (Object[] vector : HASH) {
+			digester.reset();
+			digester.update(TestDigesterXXHash64.input((int) vector[0]));
+			assertEquals(vector[1], HexFormat.of().formatHex(digester.digestBytes()), "Tamanho " + vector[0]);
+		}
+		digester.reset();
+		byte[] input = TestDigesterXXHash64.input(102400);
+		ByteBuffer direct = ByteBuffer.allocateDirect(input.length).put(input).flip();
+		digester.update(direct);
+		assertEquals(HASH[HASH.length - 1][1], HexFormat.of().formatHex(digester.digestBytes()));
+		assertThrows(IllegalArgumentException.class, () -> digester.setParallelThreshold(0));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterBLAKE3#squeeze(byte[], int, int)},
+	 * inclusive as atualizações após o início da leitura da saída.
+	 */
+	@Test
+	public void testSqueeze() {
+		LOGGER.config("Testando DigesterBLAKE3#squeeze(byte[], int, int).");
+		DigesterBLAKE3 digester = DigesterFactory.getInstance(AlgorithmType.BLAKE3);
+		digester.update(TestDigesterXXHash64.input(1025));
+		byte[] first = digester.squeeze(10);
+		digester.update(new byte[0]);
+		byte[] next = digester.squeeze(121);
+		assertEquals(XOF_1025, HexFormat.of().formatHex(first) + HexFormat.of().formatHex(next));
+		assertThrows(IllegalStateException.class, () -> digester.update(new byte[1]));
+		assertEquals(XOF_1025.substring(0, 64), digester.digest());
+		digester.reset();
+		digester.update(TestDigesterXXHash64.input(1025));
+		byte[] output = new byte[131];
+		digester.squeeze(output, 0, 10);
+		digester.squeeze(output, 10, 100);
+		digester.squeeze(output, 110, 21);
+		assertEquals(XOF_1025, HexFormat.of().formatHex(output));
+	}
+
+	/**
+	 * Teste para os modos com chave e de derivação de chave.
+	 */
+	@Test
+	public void testKeyed() {
+		LOGGER.config("Testando DigesterBLAKE3 com chave e derivação de chave.");
+		DigesterBLAKE3 keyed = DigesterFactory.getInstance(AlgorithmType.BLAKE3, KEY);
+		assertEquals("92b2b75604ed3c761f9d6f62392c8a9227ad0ea3f09573e783f1498a4ed60d26", keyed.digest());
+		keyed.update(TestDigesterXXHash64.input(8193));
+		assertEquals("954a2a75420c8d6547e3ba5b98d963e6fa6491addc8c023189cc519821b4a1f5", keyed.digest());
+
+		DigesterBLAKE3 derive = DigesterFactory.getDeriveKeyInstance(CONTEXT);
+		assertEquals("2cc39783c223154fea8dfb7c1b1660f2ac2dcbd1c1de8277b0b0dd39b7e50d7d", derive.digest());
+		derive.update(TestDigesterXXHash64.input(1025));
+		assertArrayEquals(HexFormat.of().parseHex("effaa245f065fbf82ac186839a249707c3bddf6d3fdda22d1b95a3c970379bcb"),
+				derive.digestBytes());
+
+		assertThrows(IllegalArgumentException.class, () -> DigesterFactory.getInstance(AlgorithmType.BLAKE3,
+				new byte[16]));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getInstance(AlgorithmType.MD5, KEY));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getDeriveKeyInstance(null));
+	}
+}
@@ -1,7 +1,18 @@
 package br.com.codesolver.digester.test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.AfterAll;
@@ -14,6 +25,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import br.com.codesolver.digester.AlgorithmType;
 import br.com.codesolver.digester.DigesterCRC;
 import br.com.codesolver.digester.DigesterCRC16;
+import br.com.codesolver.digester.DigesterException;
 import br.com.codesolver.digester.DigesterFactory;
 
 /**
@@ -37,6 +49,15 @@ public class TestDigesterCRC16 {
 	/** HASH do CRC conhecido. */
 	private static final String HASH = "6c01";
 
+	/** Texto de verificação padrão para algorítimos de CRC. */
+	private static final byte[] CHECK = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+	/** CRC conhecido para o texto de verificação padrão (CRC-16/XMODEM). */
+	private static final short CHECK_CRC = 0x31C3;
+
+	/** Semente fixa para gerar dados aleatórios reproduzíveis. */
+	private static final long SEED = 20250826L;
+
 	/** Objeto de teste. */
 	private static DigesterCRC digester;
 
@@ -103,4 +124,257 @@ public class TestDigesterCRC16 {
 		short crc = digester.getValue();
 		assertEquals(0, crc);
 	}
+
+	/**
+	 * Teste para o método {@link DigesterCRC16#update(byte[])} com o texto de
+	 * verificação padrão, que passa pelos blocos de 8 bytes e pelo restante.
+	 */
+	@Test
+	@Order(5)
+	public void testUpdateCheck() {
+		LOGGER.config("Testando DigesterCRC16#update(byte[]) com o texto de verificação.");
+		DigesterCRC crc = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		crc.update(CHECK);
+		assertEquals(CHECK_CRC, crc.getValue());
+	}
+
+	/**
+	 * Teste comparando o processamento em blocos de 8 bytes com o processamento
+	 * byte a byte, para vários tamanhos de matriz.
+	 */
+	@Test
+	@Order(6)
+	public void testUpdateSlicedBytewise() {
+		LOGGER.config("Testando DigesterCRC16#update(byte[]) em blocos e byte a byte.");
+		Random random = new Random(SEED);
+		DigesterCRC sliced = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		DigesterCRC bytewise = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		for (int length = 0; length <= 1027; length += 13) {
+			byte[] data = new byte[length];
+			random.nextBytes(data);
+			sliced.reset();
+			sliced.update(data);
+			bytewise.reset();
+			for (int i = 0; i < data.length; i++) {
+				bytewise.update(Arrays.copyOfRange(data, i, i + 1));
+			}
+			assertEquals(bytewise.getValue(), sliced.getValue());
+			assertEquals(bytewise.digest(), sliced.digest());
+		}
+	}
+
+	/**
+	 * Teste comparando atualizações sucessivas com tamanhos que não são
+	 * múltiplos de 8 com uma única atualização.
+	 */
+	@Test
+	@Order(7)
+	public void testUpdateSlicedIncremental() {
+		LOGGER.config("Testando DigesterCRC16#update(byte[]) em partes irregulares.");
+		byte[] data = new byte[4099];
+		new Random(SEED).nextBytes(data);
+		DigesterCRC whole = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		whole.update(data);
+		DigesterCRC parts = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		int offset = 0;
+		for (int step = 1; offset < data.length; step = step % 19 + 1) {
+			int end = Math.min(data.length, offset + step);
+			parts.update(Arrays.copyOfRange(data, offset, end));
+			offset = end;
+		}
+		assertEquals(whole.getValue(), parts.getValue());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCRC16#update(byte[], int, int)}.
+	 */
+	@Test
+	@Order(8)
+	public void testUpdateOffsetLength() {
+		LOGGER.config("Testando DigesterCRC16#update(byte[], int, int).");
+		byte[] data = new byte[CHECK.length + 7];
+		System.arraycopy(CHECK, 0, data, 3, CHECK.length);
+		DigesterCRC crc = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		crc.update(data, 3, CHECK.length);
+		assertEquals(CHECK_CRC, crc.getValue());
+		assertThrows(IndexOutOfBoundsException.class, () -> crc.update(data, 10, CHECK.length));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCRC16#update(ByteBuffer)} com buffers
+	 * em memória, diretos e somente leitura.
+	 */
+	@Test
+	@Order(9)
+	public void testUpdateByteBuffer() {
+		LOGGER.config("Testando DigesterCRC16#update(ByteBuffer).");
+		byte[] data = new byte[1031];
+		new Random(SEED).nextBytes(data);
+		DigesterCRC expected = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		expected.update(data, 5, data.length - 5);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data).flip();
+		ByteBuffer[] buffers = {
+			ByteBuffer.wrap(data).position(5),
+			ByteBuffer.wrap(data).position(5).asReadOnlyBuffer(),
+			direct.duplicate().position(5),
+			direct.duplicate().order(ByteOrder.LITTLE_ENDIAN).position(5),
+		};
+		for (ByteBuffer buffer : buffers) {
+			DigesterCRC crc = DigesterFactory.getInstance(AlgorithmType.CRC16);
+			crc.update(buffer);
+			assertEquals(expected.getValue(), crc.getValue());
+			assertFalse(buffer.hasRemaining());
+		}
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCRC16#update(ByteBuffer[])}.
+	 */
+	@Test
+	@Order(10)
+	public void testUpdateByteBuffers() {
+		LOGGER.config("Testando DigesterCRC16#update(ByteBuffer[]).");
+		DigesterCRC crc = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		crc.update(new ByteBuffer[] {
+			ByteBuffer.wrap(CHECK, 0, 4),
+			ByteBuffer.allocateDirect(5).put(CHECK, 4, 5).flip() });
+		assertEquals(CHECK_CRC, crc.getValue());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCRC16#getIntValue()}.
+	 */
+	@Test
+	@Order(11)
+	public void testGetIntValue() {
+		LOGGER.config("Testando DigesterCRC16#getIntValue().");
+		DigesterCRC crc = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		byte[] data = new byte[64];
+		new Random(SEED).nextBytes(data);
+		crc.update(data);
+		assertEquals(crc.getValue() & 0xFFFF, crc.getIntValue());
+		assertEquals(Integer.toHexString(crc.getIntValue()), crc.digest());
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterCRC16#digestInto(byte[], int)} e
+	 * {@link DigesterCRC16#digestBytes()}.
+	 */
+	@Test
+	@Order(12)
+	public void testDigestInto() {
+		LOGGER.config("Testando DigesterCRC16#digestInto(byte[], int).");
+		DigesterCRC crc = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		crc.update(CHECK);
+		byte[] dst = new byte[4];
+		assertEquals(2, crc.getDigestLength());
+		assertEquals(2, crc.digestInto(dst, 1));
+		assertArrayEquals(new byte[] {0, 0x31, (byte) 0xC3, 0}, dst);
+		assertArrayEquals(new byte[] {0x31, (byte) 0xC3}, crc.digestBytes());
+		assertThrows(IndexOutOfBoundsException.class, () -> crc.digestInto(dst, 3));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCRC16#combine(int, int, long)}.
+	 */
+	@Test
+	@Order(13)
+	public void testCombine() {
+		LOGGER.config("Testando DigesterCRC16#combine(int, int, long).");
+		byte[] data = new byte[5000];
+		new Random(SEED).nextBytes(data);
+		DigesterCRC whole = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		whole.update(data);
+		for (int split : new int[] {0, 1, 7, 8, 2500, 4999, 5000}) {
+			DigesterCRC a = DigesterFactory.getInstance(AlgorithmType.CRC16);
+			DigesterCRC b = DigesterFactory.getInstance(AlgorithmType.CRC16);
+			a.update(data, 0, split);
+			b.update(data, split, data.length - split);
+			assertEquals(whole.getIntValue(),
+					DigesterCRC16.combine(a.getIntValue(), b.getIntValue(), data.length - split), "Divisão " + split);
+		}
+		DigesterCRC head = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		DigesterCRC tail = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		head.update(CHECK, 0, 4);
+		tail.update(CHECK, 4, 5);
+		assertEquals(CHECK_CRC, (short) DigesterCRC16.combine(head.getIntValue(), tail.getIntValue(), 5));
+		assertThrows(IllegalArgumentException.class, () -> DigesterCRC16.combine(0, 0, -1));
+	}
+
+	/**
+	 * Teste para o modo paralelo de {@link DigesterCRC16}.
+	 */
+	@Test
+	@Order(14)
+	public void testUpdateParallel() {
+		LOGGER.config("Testando DigesterCRC16#setParallelThreshold(int).");
+		byte[] data = new byte[100_003];
+		new Random(SEED).nextBytes(data);
+		DigesterCRC16 sequential = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		sequential.update(data, 0, 10);
+		sequential.update(data, 10, data.length - 10);
+
+		DigesterCRC16 parallel = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		parallel.setParallelThreshold(1000);
+		parallel.update(data, 0, 10);
+		parallel.update(data, 10, data.length - 10);
+		assertEquals(sequential.getIntValue(), parallel.getIntValue());
+
+		parallel.reset();
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data).flip();
+		parallel.update(direct);
+		assertFalse(direct.hasRemaining());
+		assertEquals(sequential.getIntValue(), parallel.getIntValue());
+		assertThrows(IllegalArgumentException.class, () -> parallel.setParallelThreshold(0));
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterCRC16#checkpoint()} e
+	 * {@link DigesterCRC16#restore(byte[])}.
+	 */
+	@Test
+	@Order(15)
+	public void testCheckpoint() {
+		LOGGER.config("Testando DigesterCRC16#checkpoint().");
+		DigesterCRC16 first = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		first.update(CHECK, 0, 4);
+		byte[] checkpoint = first.checkpoint();
+
+		DigesterCRC16 resumed = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		resumed.restore(checkpoint);
+		assertEquals(4, resumed.getLength());
+		resumed.update(ByteBuffer.allocateDirect(5).put(CHECK, 4, 5).flip());
+		assertEquals(CHECK.length, resumed.getLength());
+		assertEquals(CHECK_CRC, resumed.getValue());
+		assertThrows(DigesterException.class, () -> resumed.restore(Arrays.copyOf(checkpoint, 3)));
+		assertThrows(DigesterException.class,
+				() -> resumed.restore(DigesterFactory.getResumableInstance(AlgorithmType.SHA_256).checkpoint()));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCRC16#update(MemorySegment)}.
+	 */
+	@Test
+	@Order(16)
+	public void testUpdateMemorySegment() {
+		LOGGER.config("Testando DigesterCRC16#update(MemorySegment).");
+		byte[] data = new byte[1000];
+		new Random(7).nextBytes(data);
+		DigesterCRC16 expected = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		expected.update(data, 3, 997);
+		DigesterCRC16 crc = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		try (Arena arena = Arena.ofConfined()) {
+			MemorySegment segment = arena.allocate(data.length);
+			MemorySegment.copy(data, 0, segment, ValueLayout.JAVA_BYTE, 0, data.length);
+			crc.update(segment.asSlice(3));
+		}
+		assertEquals(expected.getIntValue(), crc.getIntValue());
+		assertEquals(997, crc.getLength());
+		crc.reset();
+		crc.update(MemorySegment.ofArray(CHECK));
+		assertEquals(CHECK_CRC, crc.getValue());
+		crc.update(MemorySegment.ofArray(new byte[0]));
+		assertEquals(CHECK_CRC, crc.getValue());
+	}
 }
@@ -0,0 +1,185 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.CRCParameters;
+import br.com.codesolver.digester.DigesterCRC;
+import br.com.codesolver.digester.DigesterCRCEngine;
+import br.com.codesolver.digester.DigesterChecksum;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+
+/**
+ * Testes unitários para {@link DigesterCRCEngine} e {@link CRCParameters}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterCRCEngine {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterCRCEngine.class.getName());
+
+	/** Texto de verificação padrão para algorítimos de CRC. */
+	private static final byte[] CHECK = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+	/** Conteúdo aleatório usado nos testes. */
+	private static byte[] content;
+
+	/** Construtor padrão. */
+	public TestDigesterCRCEngine() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterCRCEngine}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterCRCEngine.");
+		content = new byte[10_007];
+		new Random(content.length).nextBytes(content);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterCRCEngine}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterCRCEngine.");
+		content = null;
+	}
+
+	/**
+	 * Calcula o CRC do texto de verificação.
+	 *
+	 * @param digester {@link DigesterChecksum}.
+	 * @return CRC do texto de verificação.
+	 */
+	private static long check(DigesterChecksum digester) {
+		digester.update(CHECK);
+		return digester.getValue();
+	}
+
+	/**
+	 * Teste para os valores de verificação dos algorítimos pré-definidos.
+	 */
+	@Test
+	public void testPresets() {
+		LOGGER.config("Testando os valores de verificação de DigesterCRCEngine.");
+		assertEquals(0x29B1, check(DigesterFactory.getInstance(AlgorithmType.CRC16_CCITT_FALSE)));
+		assertEquals(0x4B37, check(DigesterFactory.getInstance(AlgorithmType.CRC16_MODBUS)));
+		assertEquals(0x31C3, check(DigesterFactory.getInstance(AlgorithmType.CRC16_XMODEM)));
+		assertEquals(0x2189, check(DigesterFactory.getInstance(AlgorithmType.CRC16_KERMIT)));
+	}
+
+	/**
+	 * Teste para parâmetros personalizados de outras larguras.
+	 */
+	@Test
+	public void testCustom() {
+		LOGGER.config("Testando DigesterFactory#getCRCInstance(CRCParameters).");
+		assertEquals(0xF4, check(DigesterFactory.getCRCInstance(
+				new CRCParameters("CRC-8", 8, 0x07, 0, false, false, 0))));
+		assertEquals(0xCBF43926L, check(DigesterFactory.getCRCInstance(
+				new CRCParameters("CRC-32/ISO-HDLC", 32, 0x04C11DB7L, 0xFFFFFFFFL, true, true, 0xFFFFFFFFL))));
+		assertEquals(0x0376E6E7L, check(DigesterFactory.getCRCInstance(
+				new CRCParameters("CRC-32/MPEG-2", 32, 0x04C11DB7L, 0xFFFFFFFFL, false, false, 0))));
+		assertEquals(0x995DC9BBDF1939FAL, check(DigesterFactory.getCRCInstance(
+				new CRCParameters("CRC-64/XZ", 64, 0x42F0E1EBA9EA3693L, -1L, true, true, -1L))));
+		assertEquals(0x6C40DF5F0B497347L, check(DigesterFactory.getCRCInstance(
+				new CRCParameters("CRC-64/ECMA-182", 64, 0x42F0E1EBA9EA3693L, 0, false, false, 0))));
+		assertEquals(0x19, check(DigesterFactory.getCRCInstance(
+				new CRCParameters("CRC-5/USB", 5, 0x05, 0x1F, true, true, 0x1F))));
+		assertEquals(0xD64E, check(DigesterFactory.getCRCInstance(
+				new CRCParameters("CRC-16/GENIBUS", 16, 0x1021, 0xFFFF, false, false, 0xFFFF))));
+	}
+
+	/**
+	 * Teste para a equivalência entre CRC-16/XMODEM e {@link DigesterCRC16}
+	 * em todos os caminhos de atualização.
+	 */
+	@Test
+	public void testXmodemMatchesCRC16() {
+		LOGGER.config("Testando DigesterCRCEngine contra DigesterCRC16.");
+		DigesterCRC crc16 = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		crc16.update(content);
+		DigesterChecksum engine = DigesterFactory.getInstance(AlgorithmType.CRC16_XMODEM);
+		engine.update(content, 0, 3);
+		engine.update(content, 3, content.length - 3);
+		assertEquals(crc16.getIntValue(), engine.getValue());
+		assertEquals(crc16.digest(), engine.digest());
+		assertArrayEquals(crc16.digestBytes(), engine.digestBytes());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCRCEngine#update(ByteBuffer)}.
+	 */
+	@Test
+	public void testUpdateByteBuffer() {
+		LOGGER.config("Testando DigesterCRCEngine#update(ByteBuffer).");
+		for (AlgorithmType algorithm : new AlgorithmType[] {AlgorithmType.CRC16_MODBUS,
+			AlgorithmType.CRC16_CCITT_FALSE}) {
+			DigesterChecksum expected = DigesterFactory.getInstance(algorithm);
+			expected.update(content);
+			for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+				DigesterChecksum digester = DigesterFactory.getInstance(algorithm);
+				ByteBuffer direct = ByteBuffer.allocateDirect(content.length).order(order).put(content).flip();
+				digester.update(direct);
+				assertFalse(direct.hasRemaining());
+				assertEquals(expected.getValue(), digester.getValue());
+			}
+			DigesterChecksum heap = DigesterFactory.getInstance(algorithm);
+			heap.update(ByteBuffer.wrap(content));
+			assertEquals(expected.getValue(), heap.getValue());
+		}
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterCRCEngine#reset()} e
+	 * {@link DigesterCRCEngine#digestInto(byte[], int)}.
+	 */
+	@Test
+	public void testResetDigestInto() {
+		LOGGER.config("Testando DigesterCRCEngine#reset() e DigesterCRCEngine#digestInto(byte[], int).");
+		DigesterCRCEngine digester = DigesterFactory.getInstance(AlgorithmType.CRC16_MODBUS);
+		digester.update(content);
+		digester.reset();
+		assertEquals(0x4B37, check(digester));
+		assertEquals("4b37", digester.digest());
+		byte[] dst = new byte[3];
+		assertEquals(2, digester.digestInto(dst, 1));
+		assertArrayEquals(new byte[] {0, 0x4B, 0x37}, dst);
+		assertEquals(CRCParameters.CRC16_MODBUS, digester.getParameters());
+	}
+
+	/**
+	 * Teste para {@link CRCParameters}.
+	 */
+	@Test
+	public void testParameters() {
+		LOGGER.config("Testando CRCParameters.");
+		CRCParameters same = new CRCParameters("MODBUS", 16, 0x8005, 0xFFFF, true, true, 0);
+		assertEquals(CRCParameters.CRC16_MODBUS, same);
+		assertEquals(CRCParameters.CRC16_MODBUS.hashCode(), same.hashCode());
+		assertNotEquals(CRCParameters.CRC16_XMODEM, CRCParameters.CRC16_KERMIT);
+		assertThrows(IllegalArgumentException.class, () -> new CRCParameters("X", 0, 1, 0, false, false, 0));
+		assertThrows(IllegalArgumentException.class, () -> new CRCParameters("X", 65, 1, 0, false, false, 0));
+		assertThrows(IllegalArgumentException.class, () -> new CRCParameters("X", 8, 0x107, 0, false, false, 0));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getCRCInstance(null));
+	}
+}
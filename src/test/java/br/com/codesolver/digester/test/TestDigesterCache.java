@@ -0,0 +1,174 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterCache;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFile;
+
+/**
+ * Testes unitários para {@link DigesterCache}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterCache {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterCache.class.getName());
+
+	/** Data de modificação antiga, fora do intervalo de modificação recente. */
+	private static final FileTime OLD = FileTime.from(Instant.parse("2025-08-26T10:00:00Z"));
+
+	/** Diretório temporário para os arquivos de teste. */
+	@TempDir
+	private static Path folder;
+
+	/** Construtor padrão. */
+	public TestDigesterCache() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterCache}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterCache.");
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterCache}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterCache.");
+	}
+
+	/**
+	 * Cria um arquivo de teste com data de modificação fixa.
+	 *
+	 * @param name Nome do arquivo.
+	 * @param content Conteúdo do arquivo.
+	 * @param modified Data de modificação.
+	 * @return Caminho do arquivo.
+	 * @throws IOException Erro ao criar o arquivo.
+	 */
+	private static Path write(String name, String content, FileTime modified) throws IOException {
+		Path file = Files.writeString(folder.resolve(name), content, StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(file, modified);
+		return file;
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCache#digestBytes(AlgorithmType, Path)}.
+	 *
+	 * @throws IOException Erro ao criar o arquivo de teste.
+	 */
+	@Test
+	public void testDigestBytes() throws IOException {
+		LOGGER.config("Testando DigesterCache#digestBytes(AlgorithmType, Path).");
+		Path file = write("digest.txt", "conteúdo original", OLD);
+		DigesterCache cache = new DigesterCache(10);
+		byte[] expected = DigesterFile.digestBytes(AlgorithmType.SHA_256, file);
+		assertArrayEquals(expected, cache.digestBytes(AlgorithmType.SHA_256, file));
+		assertArrayEquals(expected, cache.digestBytes(AlgorithmType.SHA_256, file));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+
+		cache.digestBytes(AlgorithmType.MD5, file);
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getMisses());
+
+		write("digest.txt", "conteúdo alterado", FileTime.from(OLD.toInstant().plusSeconds(1)));
+		assertArrayEquals(DigesterFile.digestBytes(AlgorithmType.SHA_256, file),
+				cache.digestBytes(AlgorithmType.SHA_256, file));
+		assertEquals(3, cache.getMisses());
+
+		cache.invalidate(file);
+		assertEquals(0, cache.size());
+		assertThrows(DigesterException.class,
+				() -> cache.digestBytes(AlgorithmType.MD5, folder.resolve("missing.txt")));
+		assertThrows(IllegalArgumentException.class, () -> new DigesterCache(0));
+	}
+
+	/**
+	 * Teste para arquivos modificados recentemente, que não são memorizados.
+	 *
+	 * @throws IOException Erro ao criar o arquivo de teste.
+	 */
+	@Test
+	public void testRecentlyModified() throws IOException {
+		LOGGER.config("Testando DigesterCache#digestBytes(AlgorithmType, Path) com arquivo recente.");
+		Path file = write("recent.txt", "conteúdo recente", FileTime.from(Instant.now()));
+		DigesterCache cache = new DigesterCache(10);
+		cache.digestBytes(AlgorithmType.SHA_1, file);
+		cache.digestBytes(AlgorithmType.SHA_1, file);
+		assertEquals(0, cache.size());
+		assertEquals(2, cache.getMisses());
+	}
+
+	/**
+	 * Teste para o descarte dos registros usados há mais tempo.
+	 *
+	 * @throws IOException Erro ao criar os arquivos de teste.
+	 */
+	@Test
+	public void testEviction() throws IOException {
+		LOGGER.config("Testando DigesterCache#getCapacity().");
+		Path first = write("first.txt", "primeiro", OLD);
+		Path second = write("second.txt", "segundo", OLD);
+		Path third = write("third.txt", "terceiro", OLD);
+		DigesterCache cache = new DigesterCache(2);
+		assertEquals(2, cache.getCapacity());
+		cache.digestBytes(AlgorithmType.MD5, first);
+		cache.digestBytes(AlgorithmType.MD5, second);
+		cache.digestBytes(AlgorithmType.MD5, first);
+		cache.digestBytes(AlgorithmType.MD5, third);
+		assertEquals(2, cache.size());
+		cache.digestBytes(AlgorithmType.MD5, first);
+		assertEquals(2, cache.getHits());
+		cache.digestBytes(AlgorithmType.MD5, second);
+		assertEquals(2, cache.getHits());
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterCache#save()} e a carga do índice.
+	 *
+	 * @throws IOException Erro ao criar os arquivos de teste.
+	 */
+	@Test
+	public void testSave() throws IOException {
+		LOGGER.config("Testando DigesterCache#save().");
+		Path file = write("saved.txt", "conteúdo gravado", OLD);
+		Path index = folder.resolve("index.txt");
+		DigesterCache cache = new DigesterCache(10, index);
+		byte[] expected = cache.digestBytes(AlgorithmType.SHA_512, file);
+		cache.save();
+		Files.writeString(index, "linha inválida\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+		DigesterCache restored = new DigesterCache(10, index);
+		assertEquals(1, restored.size());
+		assertArrayEquals(expected, restored.digestBytes(AlgorithmType.SHA_512, file));
+		assertEquals(1, restored.getHits());
+		assertEquals(0, restored.getMisses());
+	}
+}
@@ -0,0 +1,173 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterChunk;
+import br.com.codesolver.digester.DigesterChunker;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+
+/**
+ * Testes unitários para {@link DigesterChunker}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterChunker {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterChunker.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** Diretório temporário para os arquivos de teste. */
+	@TempDir
+	private static Path folder;
+
+	/** Construtor padrão. */
+	public TestDigesterChunker() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterChunker}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterChunker.");
+		content = new byte[3 * 1024 * 1024 + 123];
+		new Random(content.length).nextBytes(content);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterChunker}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterChunker.");
+		content = null;
+	}
+
+	/**
+	 * Divide uma matriz de bytes em partes.
+	 *
+	 * @param chunker {@link DigesterChunker}.
+	 * @param data Conteúdo.
+	 * @return Partes.
+	 * @throws IOException Erro de leitura.
+	 */
+	private static List<DigesterChunk> chunk(DigesterChunker chunker, byte[] data) throws IOException {
+		List<DigesterChunk> chunks = new ArrayList<>();
+		assertEquals(data.length, chunker.chunk(new ByteArrayInputStream(data), chunks::add));
+		return chunks;
+	}
+
+	/**
+	 * Teste para o método {@link DigesterChunker#chunk(java.io.InputStream, java.util.function.Consumer)}.
+	 *
+	 * @throws IOException Erro de leitura.
+	 */
+	@Test
+	public void testChunk() throws IOException {
+		LOGGER.config("Testando DigesterChunker#chunk(InputStream, Consumer).");
+		DigesterChunker chunker = new DigesterChunker(AlgorithmType.SHA_256);
+		List<DigesterChunk> chunks = chunk(chunker, content);
+		long offset = 0;
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		for (int i = 0; i < chunks.size(); i++) {
+			DigesterChunk chunk = chunks.get(i);
+			assertEquals(offset, chunk.getOffset());
+			assertTrue(chunk.getLength() <= chunker.getMaxSize());
+			if (i < chunks.size() - 1) {
+				assertTrue(chunk.getLength() > chunker.getMinSize());
+			}
+			digester.update(content, (int) offset, chunk.getLength());
+			assertArrayEquals(digester.digestBytes(), chunk.getDigest());
+			offset += chunk.getLength();
+		}
+		assertEquals(content.length, offset);
+		long average = content.length / chunks.size();
+		assertTrue(average > chunker.getAvgSize() / 2 && average < chunker.getAvgSize() * 2);
+	}
+
+	/**
+	 * Teste para a estabilidade dos limites após uma inserção no conteúdo.
+	 *
+	 * @throws IOException Erro de leitura.
+	 */
+	@Test
+	public void testInsertion() throws IOException {
+		LOGGER.config("Testando DigesterChunker#boundary(byte[], int, int) após inserção.");
+		DigesterChunker chunker = new DigesterChunker(AlgorithmType.XXHASH64, 256, 1024, 8192);
+		byte[] changed = new byte[content.length + 10];
+		System.arraycopy(content, 0, changed, 0, 5000);
+		System.arraycopy(content, 5000, changed, 5010, content.length - 5000);
+		Set<String> original = new HashSet<>();
+		for (DigesterChunk chunk : chunk(chunker, content)) {
+			original.add(HexFormat.of().formatHex(chunk.getDigest()));
+		}
+		List<DigesterChunk> chunks = chunk(chunker, changed);
+		int shared = 0;
+		for (DigesterChunk chunk : chunks) {
+			if (original.contains(HexFormat.of().formatHex(chunk.getDigest()))) {
+				shared++;
+			}
+		}
+		assertTrue(shared >= chunks.size() - 3);
+	}
+
+	/**
+	 * Teste para o método {@link DigesterChunker#chunk(Path)}.
+	 *
+	 * @throws IOException Erro ao criar o arquivo de teste.
+	 */
+	@Test
+	public void testChunkFile() throws IOException {
+		LOGGER.config("Testando DigesterChunker#chunk(Path).");
+		DigesterChunker chunker = new DigesterChunker(AlgorithmType.MD5, 64, 512, 4096);
+		Path file = Files.write(folder.resolve("chunk.bin"), content);
+		List<DigesterChunk> expected = chunk(chunker, content);
+		List<DigesterChunk> chunks = chunker.chunk(file);
+		assertEquals(expected.size(), chunks.size());
+		for (int i = 0; i < chunks.size(); i++) {
+			assertEquals(expected.get(i).toString(), chunks.get(i).toString());
+		}
+		assertTrue(chunker.chunk(Files.write(folder.resolve("empty.bin"), new byte[0])).isEmpty());
+		assertEquals(1, chunker.chunk(Files.write(folder.resolve("small.bin"), new byte[10])).size());
+		assertThrows(DigesterException.class, () -> chunker.chunk(folder.resolve("missing.bin")));
+	}
+
+	/**
+	 * Teste para os parâmetros inválidos de {@link DigesterChunker}.
+	 */
+	@Test
+	public void testInvalid() {
+		LOGGER.config("Testando DigesterChunker com parâmetros inválidos.");
+		assertThrows(IllegalArgumentException.class, () -> new DigesterChunker(AlgorithmType.MD5, 32, 64, 128));
+		assertThrows(IllegalArgumentException.class, () -> new DigesterChunker(AlgorithmType.MD5, 128, 64, 256));
+		assertThrows(IllegalArgumentException.class, () -> new DigesterChunker(AlgorithmType.MD5, 64, 256, 128));
+		assertThrows(DigesterException.class, () -> new DigesterChunker(null));
+	}
+}
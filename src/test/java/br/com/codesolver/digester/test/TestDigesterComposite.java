@@ -0,0 +1,144 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterCRC;
+import br.com.codesolver.digester.DigesterComposite;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+
+/**
+ * Testes unitários para {@link DigesterComposite}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterComposite {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterComposite.class.getName());
+
+	/** Algorítimos usados nos testes. */
+	private static final AlgorithmType[] ALGORITHMS = {AlgorithmType.CRC16, AlgorithmType.MD5,
+		AlgorithmType.SHA_256};
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** HASH esperado para cada algorítimo. */
+	private static String[] expected;
+
+	/** Construtor padrão. */
+	public TestDigesterComposite() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterComposite}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterComposite.");
+		content = new byte[100_000];
+		new Random(ALGORITHMS.length).nextBytes(content);
+		expected = new String[ALGORITHMS.length];
+		for (int i = 0; i < ALGORITHMS.length; i++) {
+			Digester digester = DigesterFactory.getInstance(ALGORITHMS[i]);
+			digester.update(content);
+			expected[i] = digester.digest();
+		}
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterComposite}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterComposite.");
+		content = null;
+		expected = null;
+	}
+
+	/**
+	 * Teste para o método {@link DigesterComposite#digests()} com atualizações
+	 * sequenciais.
+	 */
+	@Test
+	public void testDigests() {
+		LOGGER.config("Testando DigesterComposite#digests().");
+		DigesterComposite composite = DigesterFactory.getCompositeInstance(ALGORITHMS);
+		assertEquals(ALGORITHMS.length, composite.size());
+		composite.update(content, 0, 1000);
+		composite.update(content, 1000, content.length - 1000);
+		assertArrayEquals(expected, composite.digests());
+		composite.update(content);
+		assertArrayEquals(expected, composite.digests());
+	}
+
+	/**
+	 * Teste para as atualizações em paralelo de {@link DigesterComposite}.
+	 */
+	@Test
+	public void testUpdateParallel() {
+		LOGGER.config("Testando DigesterComposite com atualizações em paralelo.");
+		DigesterComposite composite = DigesterFactory.getCompositeInstance(ALGORITHMS);
+		composite.setParallelThreshold(4096);
+		composite.update(content, 0, 100);
+		composite.update(content, 100, content.length - 100);
+		assertArrayEquals(expected, composite.digests());
+
+		composite.reset();
+		ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content).flip();
+		composite.update(direct);
+		assertFalse(direct.hasRemaining());
+		assertEquals(String.join(" ", expected), composite.digest());
+		assertThrows(IllegalArgumentException.class, () -> composite.setParallelThreshold(0));
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterComposite#digestInto(byte[], int)} e
+	 * {@link DigesterComposite#getDigester(AlgorithmType)}.
+	 */
+	@Test
+	public void testDigestInto() {
+		LOGGER.config("Testando DigesterComposite#digestInto(byte[], int).");
+		DigesterComposite composite = DigesterFactory.getCompositeInstance(AlgorithmType.CRC16, AlgorithmType.CRC32);
+		composite.update(content);
+		DigesterCRC crc16 = composite.getDigester(AlgorithmType.CRC16);
+		Digester crc32 = composite.getDigester(1);
+		assertNull(composite.getDigester(AlgorithmType.MD5));
+		int crc16Value = crc16.getIntValue();
+		byte[] crc32Value = crc32.digestBytes();
+		byte[] dst = new byte[composite.getDigestLength()];
+		assertEquals(6, composite.digestInto(dst, 0));
+		assertEquals(crc16Value, (dst[0] & 0xFF) << 8 | dst[1] & 0xFF);
+		byte[] tail = new byte[4];
+		System.arraycopy(dst, 2, tail, 0, 4);
+		assertArrayEquals(crc32Value, tail);
+		assertEquals(0, crc16.getIntValue());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFactory#getCompositeInstance(AlgorithmType...)}
+	 * sem algorítimos.
+	 */
+	@Test
+	public void testGetCompositeInstanceEmpty() {
+		LOGGER.config("Testando DigesterFactory#getCompositeInstance(AlgorithmType...) sem algorítimos.");
+		assertThrows(DigesterException.class, () -> DigesterFactory.getCompositeInstance());
+		assertThrows(DigesterException.class, () -> DigesterFactory.getCompositeInstance(AlgorithmType.MD5, null));
+	}
+}
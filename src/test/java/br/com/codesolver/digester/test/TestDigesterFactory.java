@@ -1,9 +1,19 @@
 package br.com.codesolver.digester.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.MessageDigestSpi;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.AfterAll;
@@ -16,6 +26,7 @@ import br.com.codesolver.digester.DigesterCRC16;
 import br.com.codesolver.digester.DigesterException;
 import br.com.codesolver.digester.DigesterFactory;
 import br.com.codesolver.digester.DigesterSUN;
+import br.com.codesolver.digester.DigesterZip;
 
 /**
  * Teste unitários para {@link DigesterFactory}.
@@ -59,6 +70,21 @@ public class TestDigesterFactory {
 		assertEquals(digester.getClass(), DigesterCRC16.class);
 	}
 
+	/**
+	 * Teste para o método {@link DigesterFactory#getInstance(AlgorithmType)}
+	 * para os algorítimos de {@link java.util.zip}.
+	 */
+	@Test
+	public void testGetInstanceAlgorithmTypeZip() {
+		LOGGER.config("Testando DigesterFactory#getInstance(AlgorithmType) para CRC32, CRC32C e ADLER32.");
+		for (AlgorithmType algorithm : new AlgorithmType[] {AlgorithmType.CRC32, AlgorithmType.CRC32C,
+				AlgorithmType.ADLER32}) {
+			Digester digester = DigesterFactory.getInstance(algorithm);
+			assertNotNull(digester);
+			assertEquals(digester.getClass(), DigesterZip.class);
+		}
+	}
+
 	/**
 	 * Teste para o método {@link DigesterFactory#getInstance(AlgorithmType)}
 	 * para um MD5.
@@ -82,4 +108,133 @@ public class TestDigesterFactory {
 			DigesterFactory.getInstance(null);
 		});
 	}
+
+	/**
+	 * Teste para o método {@link DigesterFactory#getInstance(AlgorithmType)}
+	 * garantindo que os clones do protótipo são independentes.
+	 */
+	@Test
+	public void testGetInstanceAlgorithmTypeIndependent() {
+		LOGGER.config("Testando DigesterFactory#getInstance(AlgorithmType) com instâncias independentes.");
+		byte[] data = "codesolver".getBytes(StandardCharsets.UTF_8);
+		DigesterSUN reference = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		String empty = reference.digest();
+		String expected = reference.parse(data);
+
+		DigesterSUN first = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		first.update(data);
+		DigesterSUN second = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		assertNotSame(first, second);
+		assertEquals(empty, second.digest());
+		assertEquals(expected, first.digest());
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterFactory#setProviderSelection(boolean)},
+	 * {@link DigesterFactory#setProvider(AlgorithmType, Provider)} e
+	 * {@link DigesterFactory#getProvider(AlgorithmType)}, com um provedor lento
+	 * instalado como preferencial para o MD2.
+	 */
+	@Test
+	public void testProviderSelection() {
+		LOGGER.config("Testando DigesterFactory#setProviderSelection(boolean).");
+		byte[] data = "codesolver".getBytes(StandardCharsets.UTF_8);
+		String expected = ((DigesterSUN) DigesterFactory.getInstance(AlgorithmType.MD2)).parse(data);
+		Provider sun = DigesterFactory.getProvider(AlgorithmType.MD2);
+		Provider slow = new SlowProvider();
+		Security.insertProviderAt(slow, 1);
+		try {
+			assertFalse(DigesterFactory.isProviderSelection());
+			assertSame(slow, DigesterFactory.getProvider(AlgorithmType.MD2));
+
+			DigesterFactory.setProviderSelection(true);
+			assertTrue(DigesterFactory.isProviderSelection());
+			assertSame(sun, DigesterFactory.getProvider(AlgorithmType.MD2));
+			assertEquals(expected, ((DigesterSUN) DigesterFactory.getInstance(AlgorithmType.MD2)).parse(data));
+
+			DigesterFactory.setProvider(AlgorithmType.MD2, slow);
+			assertSame(slow, DigesterFactory.getProvider(AlgorithmType.MD2));
+			assertEquals(expected, ((DigesterSUN) DigesterFactory.getInstance(AlgorithmType.MD2)).parse(data));
+			DigesterFactory.setProvider(AlgorithmType.MD2, null);
+			assertSame(sun, DigesterFactory.getProvider(AlgorithmType.MD2));
+
+			assertThrows(DigesterException.class, () -> DigesterFactory.setProvider(AlgorithmType.SHA_256, slow));
+			assertThrows(DigesterException.class, () -> DigesterFactory.setProvider(null, sun));
+			assertThrows(DigesterException.class, () -> DigesterFactory.getProvider(AlgorithmType.BLAKE3));
+			assertThrows(DigesterException.class, () -> DigesterFactory.getProvider(null));
+		} finally {
+			DigesterFactory.setProvider(AlgorithmType.MD2, null);
+			DigesterFactory.setProviderSelection(false);
+			Security.removeProvider(slow.getName());
+		}
+		assertSame(sun, DigesterFactory.getProvider(AlgorithmType.MD2));
+	}
+
+	/**
+	 * Provedor de teste que oferece um MD2 lento. As instâncias são criadas
+	 * diretamente pelo serviço, sem reflexão, pois o módulo de testes não é
+	 * aberto para o {@code java.base}.
+	 */
+	private static final class SlowProvider extends Provider {
+
+		/** Identificador de serialização. */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Registra o MD2 lento.
+		 */
+		SlowProvider() {
+			super("CodeSolverSlow", "1.0", "Provedor lento para testes.");
+			putService(new Service(this, "MessageDigest", "MD2", SlowMD2.class.getName(), null, null) {
+
+				@Override
+				public Object newInstance(Object constructorParameter) throws NoSuchAlgorithmException {
+					return new SlowMD2();
+				}
+			});
+		}
+	}
+
+	/**
+	 * MD2 que aguarda 1 ms a cada finalização.
+	 */
+	private static final class SlowMD2 extends MessageDigestSpi {
+
+		/** MD2 do provedor padrão. */
+		private final MessageDigest md2;
+
+		/**
+		 * Prepara o MD2.
+		 *
+		 * @throws NoSuchAlgorithmException MD2 não disponível no provedor SUN.
+		 */
+		SlowMD2() throws NoSuchAlgorithmException {
+			md2 = MessageDigest.getInstance("MD2", Security.getProvider("SUN"));
+		}
+
+		@Override
+		protected void engineUpdate(byte input) {
+			md2.update(input);
+		}
+
+		@Override
+		protected void engineUpdate(byte[] input, int offset, int len) {
+			md2.update(input, offset, len);
+		}
+
+		@Override
+		protected byte[] engineDigest() {
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return md2.digest();
+		}
+
+		@Override
+		protected void engineReset() {
+			md2.reset();
+		}
+	}
 }
@@ -0,0 +1,181 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterComposite;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterFile;
+
+/**
+ * Testes unitários para {@link DigesterFile}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterFile {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterFile.class.getName());
+
+	/** Tamanho do arquivo usado nos testes. */
+	private static final int FILE_SIZE = 10_000;
+
+	/** Conteúdo do arquivo usado nos testes. */
+	private static byte[] content;
+
+	/** Diretório temporário para os arquivos de teste. */
+	@TempDir
+	private static Path folder;
+
+	/** Arquivo usado nos testes. */
+	private static Path file;
+
+	/** Construtor padrão. */
+	public TestDigesterFile() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterFile}.
+	 *
+	 * @throws IOException Erro ao criar o arquivo de teste.
+	 */
+	@BeforeAll
+	public static void beforeClass() throws IOException {
+		LOGGER.info("Inicializando os testes para DigesterFile.");
+		content = new byte[FILE_SIZE];
+		new Random(FILE_SIZE).nextBytes(content);
+		file = Files.write(folder.resolve("content.bin"), content);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterFile}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterFile.");
+		content = null;
+		file = null;
+	}
+
+	/**
+	 * Calcula o HASH esperado diretamente sobre o conteúdo em memória.
+	 *
+	 * @param algorithm {@link AlgorithmType}.
+	 * @param offset Posição inicial.
+	 * @param length Quantidade de bytes.
+	 * @return HASH esperado.
+	 */
+	private static String expected(AlgorithmType algorithm, int offset, int length) {
+		Digester digester = DigesterFactory.getInstance(algorithm);
+		digester.update(content, offset, length);
+		return digester.digest();
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFile#digest(AlgorithmType, Path)}.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterFile#digest(AlgorithmType, Path).");
+		assertEquals(expected(AlgorithmType.SHA_256, 0, FILE_SIZE), DigesterFile.digest(AlgorithmType.SHA_256, file));
+		assertEquals(expected(AlgorithmType.CRC16, 0, FILE_SIZE), DigesterFile.digest(AlgorithmType.CRC16, file));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFile#digest(AlgorithmType, Path, int)}
+	 * com janelas menores que o arquivo.
+	 */
+	@Test
+	public void testDigestWindow() {
+		LOGGER.config("Testando DigesterFile#digest(AlgorithmType, Path, int).");
+		String expected = expected(AlgorithmType.MD5, 0, FILE_SIZE);
+		assertEquals(expected, DigesterFile.digest(AlgorithmType.MD5, file, 4096));
+		assertEquals(expected, DigesterFile.digest(AlgorithmType.MD5, file, 999));
+		assertEquals(expected, DigesterFile.digest(AlgorithmType.MD5, file, FILE_SIZE));
+		assertEquals(expected(AlgorithmType.CRC32, 0, FILE_SIZE), DigesterFile.digest(AlgorithmType.CRC32, file, 999));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFile#digestBytes(AlgorithmType, Path, int)}.
+	 */
+	@Test
+	public void testDigestBytes() {
+		LOGGER.config("Testando DigesterFile#digestBytes(AlgorithmType, Path, int).");
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		digester.update(content);
+		assertArrayEquals(digester.digestBytes(), DigesterFile.digestBytes(AlgorithmType.SHA_256, file, 3000));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFile#digest(AlgorithmType, Path)}
+	 * com um arquivo vazio.
+	 *
+	 * @throws IOException Erro ao criar o arquivo de teste.
+	 */
+	@Test
+	public void testDigestEmpty() throws IOException {
+		LOGGER.config("Testando DigesterFile#digest(AlgorithmType, Path) com arquivo vazio.");
+		Path empty = Files.createFile(folder.resolve("empty.bin"));
+		assertEquals(expected(AlgorithmType.SHA_1, 0, 0), DigesterFile.digest(AlgorithmType.SHA_1, empty));
+	}
+
+	/**
+	 * Teste para o método
+	 * {@link DigesterFile#update(Digester, FileChannel, long, long, int)}.
+	 *
+	 * @throws IOException Erro ao ler o arquivo de teste.
+	 */
+	@Test
+	public void testUpdateRegion() throws IOException {
+		LOGGER.config("Testando DigesterFile#update(Digester, FileChannel, long, long, int).");
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_512);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			DigesterFile.update(digester, channel, 1234, 5000, 777);
+		}
+		assertEquals(expected(AlgorithmType.SHA_512, 1234, 5000), digester.digest());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFile#update(Digester, Path, int)} com
+	 * um {@link DigesterComposite} que lê cada janela em paralelo.
+	 */
+	@Test
+	public void testUpdateComposite() {
+		LOGGER.config("Testando DigesterFile#update(Digester, Path, int) com processamento paralelo.");
+		DigesterComposite composite = DigesterFactory.getCompositeInstance(AlgorithmType.SHA_256, AlgorithmType.CRC32);
+		composite.setParallelThreshold(1024);
+		DigesterFile.update(composite, file, 4096);
+		assertArrayEquals(new String[] { expected(AlgorithmType.SHA_256, 0, FILE_SIZE),
+				expected(AlgorithmType.CRC32, 0, FILE_SIZE) }, composite.digests());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFile#update(Digester, Path, int)} com
+	 * parâmetros inválidos.
+	 */
+	@Test
+	public void testUpdateInvalid() {
+		LOGGER.config("Testando DigesterFile#update(Digester, Path, int) com parâmetros inválidos.");
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.CRC16);
+		assertThrows(IllegalArgumentException.class, () -> DigesterFile.update(digester, file, 0));
+		assertThrows(DigesterException.class, () -> DigesterFile.update(digester, folder.resolve("missing.bin")));
+	}
+}
@@ -0,0 +1,136 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterHMAC;
+
+/**
+ * Testes unitários para {@link DigesterHMAC}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterHMAC {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterHMAC.class.getName());
+
+	/** Chave do caso de teste 2 da RFC 4231. */
+	private static final byte[] KEY = "Jefe".getBytes(StandardCharsets.US_ASCII);
+
+	/** Dados do caso de teste 2 da RFC 4231. */
+	private static final byte[] DATA = "what do ya want for nothing?".getBytes(StandardCharsets.US_ASCII);
+
+	/** HMAC-SHA256 do caso de teste 2 da RFC 4231. */
+	private static final String HMAC_SHA256 = "5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843";
+
+	/** HMAC-SHA512 do caso de teste 2 da RFC 4231. */
+	private static final String HMAC_SHA512 = "164b7a7bfcf819e2e395fbe73b56e0a387bd64222e831fd610270cd7ea250554"
+			+ "9758bf75c05a994a6d034f65f8f0e6fdcaeab1a34d4a6b4b636e070a38bce737";
+
+	/** Construtor padrão. */
+	public TestDigesterHMAC() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterHMAC}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterHMAC.");
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterHMAC}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterHMAC.");
+	}
+
+	/**
+	 * Teste com os vetores da RFC 4231 para {@link DigesterHMAC#digest()}.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterHMAC#digest().");
+		DigesterHMAC digester = DigesterFactory.getInstance(AlgorithmType.HMAC_SHA256, KEY);
+		assertEquals(32, digester.getDigestLength());
+		digester.update(DATA, 0, 4);
+		digester.update(ByteBuffer.wrap(DATA, 4, DATA.length - 4));
+		assertEquals(HMAC_SHA256, digester.digest());
+		digester.update(DATA);
+		assertEquals(HMAC_SHA256, digester.digest());
+
+		digester = DigesterFactory.getInstance(AlgorithmType.HMAC_SHA512, KEY);
+		digester.update(DATA);
+		byte[] result = new byte[66];
+		assertEquals(64, digester.digestInto(result, 2));
+		assertEquals(HMAC_SHA512, HexFormat.of().formatHex(result, 2, 66));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterHMAC#copy()}.
+	 */
+	@Test
+	public void testCopy() {
+		LOGGER.config("Testando DigesterHMAC#copy().");
+		DigesterHMAC digester = DigesterFactory.getInstance(AlgorithmType.HMAC_SHA256, KEY);
+		digester.update(DATA, 0, 10);
+		DigesterHMAC copy = digester.copy();
+		copy.update(DATA, 10, DATA.length - 10);
+		assertEquals(HMAC_SHA256, copy.digest());
+		digester.reset();
+		digester.update(DATA);
+		assertEquals(HMAC_SHA256, digester.digest());
+		assertEquals(AlgorithmType.HMAC_SHA256, copy.getAlgorithm());
+	}
+
+	/**
+	 * Teste para os métodos de verificação de {@link DigesterHMAC}.
+	 */
+	@Test
+	public void testVerify() {
+		LOGGER.config("Testando DigesterHMAC#verify(byte[], byte[]).");
+		byte[] expected = HexFormat.of().parseHex(HMAC_SHA256);
+		DigesterHMAC digester = DigesterFactory.getInstance(AlgorithmType.HMAC_SHA256, KEY);
+		assertTrue(digester.verify(DATA, expected));
+		digester.update(DATA);
+		assertTrue(digester.verify(expected));
+		expected[31] ^= 1;
+		assertFalse(digester.verify(DATA, expected));
+		assertFalse(digester.verify(DATA, new byte[16]));
+	}
+
+	/**
+	 * Teste para os erros de criação de {@link DigesterHMAC}.
+	 */
+	@Test
+	public void testInvalid() {
+		LOGGER.config("Testando DigesterFactory#getInstance(AlgorithmType, byte[]) com HMAC.");
+		assertThrows(DigesterException.class, () -> DigesterFactory.getInstance(AlgorithmType.HMAC_SHA1));
+		assertThrows(DigesterException.class,
+				() -> DigesterFactory.getInstance(AlgorithmType.HMAC_SHA384, new byte[0]));
+		assertThrows(DigesterException.class,
+				() -> DigesterFactory.getInstance(AlgorithmType.HMAC_SHA224, (byte[]) null));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getInstance(AlgorithmType.SHA_256, KEY));
+		byte[] mac = DigesterFactory.<DigesterHMAC>getInstance(AlgorithmType.HMAC_SHA1, KEY).digestBytes();
+		assertArrayEquals(mac, DigesterFactory.<DigesterHMAC>getInstance(AlgorithmType.HMAC_SHA1, KEY).digestBytes());
+	}
+}
@@ -0,0 +1,144 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterHashList;
+import br.com.codesolver.util.StringUtil;
+
+/**
+ * Testes unitários para {@link DigesterHashList}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterHashList {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterHashList.class.getName());
+
+	/** Tamanho do arquivo usado nos testes. */
+	private static final int FILE_SIZE = 100_000;
+
+	/** Tamanho de cada parte usado nos testes. */
+	private static final int CHUNK_SIZE = 4096;
+
+	/** Conteúdo do arquivo usado nos testes. */
+	private static byte[] content;
+
+	/** Diretório temporário para os arquivos de teste. */
+	@TempDir
+	private static Path folder;
+
+	/** Arquivo usado nos testes. */
+	private static Path file;
+
+	/** Construtor padrão. */
+	public TestDigesterHashList() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterHashList}.
+	 *
+	 * @throws IOException Erro ao criar o arquivo de teste.
+	 */
+	@BeforeAll
+	public static void beforeClass() throws IOException {
+		LOGGER.info("Inicializando os testes para DigesterHashList.");
+		content = new byte[FILE_SIZE];
+		new Random(FILE_SIZE).nextBytes(content);
+		file = Files.write(folder.resolve("content.bin"), content);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterHashList}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterHashList.");
+		content = null;
+		file = null;
+	}
+
+	/**
+	 * Teste para o método {@link DigesterHashList#hashList(Path)} comparando com o
+	 * cálculo sequencial de cada parte em memória.
+	 */
+	@Test
+	public void testHashList() {
+		LOGGER.config("Testando DigesterHashList#hashList(Path).");
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		int chunks = (FILE_SIZE + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		byte[] expected = new byte[chunks * digester.getDigestLength()];
+		for (int i = 0; i < chunks; i++) {
+			int offset = i * CHUNK_SIZE;
+			digester.update(content, offset, Math.min(CHUNK_SIZE, FILE_SIZE - offset));
+			digester.digestInto(expected, i * digester.getDigestLength());
+		}
+		DigesterHashList hashList = new DigesterHashList(AlgorithmType.SHA_256, CHUNK_SIZE, 4);
+		assertArrayEquals(expected, hashList.hashList(file));
+
+		digester.update(expected);
+		byte[] top = digester.digestBytes();
+		assertArrayEquals(top, hashList.digestBytes(file));
+		assertEquals(StringUtil.toHex(top), hashList.digest(file));
+	}
+
+	/**
+	 * Teste para o determinismo de {@link DigesterHashList#digestBytes(Path)}
+	 * com diferentes quantidades de <i>threads</i>.
+	 */
+	@Test
+	public void testParallelism() {
+		LOGGER.config("Testando DigesterHashList#digestBytes(Path) com diferentes paralelismos.");
+		byte[] expected = new DigesterHashList(AlgorithmType.MD5, CHUNK_SIZE, 1).digestBytes(file);
+		for (int parallelism = 2; parallelism <= 8; parallelism *= 2) {
+			assertArrayEquals(expected, new DigesterHashList(AlgorithmType.MD5, CHUNK_SIZE, parallelism)
+					.digestBytes(file));
+		}
+	}
+
+	/**
+	 * Teste para {@link DigesterHashList} com um arquivo vazio.
+	 *
+	 * @throws IOException Erro ao criar o arquivo de teste.
+	 */
+	@Test
+	public void testEmpty() throws IOException {
+		LOGGER.config("Testando DigesterHashList com um arquivo vazio.");
+		Path empty = Files.createFile(folder.resolve("empty.bin"));
+		DigesterHashList hashList = new DigesterHashList(AlgorithmType.CRC32);
+		assertEquals(0, hashList.hashList(empty).length);
+		assertArrayEquals(DigesterFactory.getInstance(AlgorithmType.CRC32).digestBytes(), hashList.digestBytes(empty));
+	}
+
+	/**
+	 * Teste para os parâmetros inválidos de {@link DigesterHashList}.
+	 */
+	@Test
+	public void testInvalid() {
+		LOGGER.config("Testando DigesterHashList com parâmetros inválidos.");
+		assertThrows(IllegalArgumentException.class, () -> new DigesterHashList(AlgorithmType.MD5, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new DigesterHashList(AlgorithmType.MD5, 1, 0));
+		assertThrows(DigesterException.class, () -> new DigesterHashList(null));
+		DigesterHashList hashList = new DigesterHashList(AlgorithmType.MD5);
+		assertThrows(IllegalArgumentException.class, () -> hashList.combine(new byte[3]));
+		assertThrows(DigesterException.class, () -> hashList.hashList(folder.resolve("missing.bin")));
+	}
+}
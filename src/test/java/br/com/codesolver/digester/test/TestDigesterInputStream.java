@@ -0,0 +1,128 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterInputStream;
+
+/**
+ * Testes unitários para {@link DigesterInputStream}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterInputStream {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterInputStream.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** HASH SHA-256 esperado para o conteúdo. */
+	private static String expected;
+
+	/** Construtor padrão. */
+	public TestDigesterInputStream() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterInputStream}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterInputStream.");
+		content = new byte[100_000];
+		new Random(content.length).nextBytes(content);
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		digester.update(content);
+		expected = digester.digest();
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterInputStream}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterInputStream.");
+		content = null;
+		expected = null;
+	}
+
+	/**
+	 * Teste para a leitura byte a byte e em blocos de {@link DigesterInputStream}.
+	 *
+	 * @throws IOException Erro de leitura.
+	 */
+	@Test
+	public void testRead() throws IOException {
+		LOGGER.config("Testando DigesterInputStream#read(byte[], int, int).");
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		try (InputStream in = new DigesterInputStream(new ByteArrayInputStream(content), digester)) {
+			assertEquals(content[0] & 0xFF, in.read());
+			byte[] buffer = new byte[4096];
+			while (in.read(buffer, 1, 4000) >= 0) {
+				// Apenas consome o conteúdo.
+			}
+		}
+		assertEquals(expected, digester.digest());
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterInputStream#skip(long)} e
+	 * {@link DigesterInputStream#readAllBytes()}.
+	 *
+	 * @throws IOException Erro de leitura.
+	 */
+	@Test
+	public void testSkip() throws IOException {
+		LOGGER.config("Testando DigesterInputStream#skip(long).");
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		try (DigesterInputStream in = new DigesterInputStream(new ByteArrayInputStream(content), digester)) {
+			assertEquals(50_000, in.skip(50_000));
+			assertEquals(50_000, in.readAllBytes().length);
+			assertEquals(0, in.skip(10));
+			assertFalse(in.markSupported());
+			assertThrows(IOException.class, in::reset);
+		}
+		assertEquals(expected, digester.digest());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterInputStream#transferTo(java.io.OutputStream)},
+	 * verificando que o cálculo é atualizado apenas em blocos.
+	 *
+	 * @throws IOException Erro de leitura.
+	 */
+	@Test
+	public void testTransferTo() throws IOException {
+		LOGGER.config("Testando DigesterInputStream#transferTo(OutputStream).");
+		Digester digester = EasyMock.createMock(Digester.class);
+		digester.update(EasyMock.anyObject(byte[].class), EasyMock.anyInt(), EasyMock.gt(1));
+		EasyMock.expectLastCall().atLeastOnce();
+		EasyMock.replay(digester);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream in = new DigesterInputStream(new ByteArrayInputStream(content), digester)) {
+			assertEquals(content.length, in.transferTo(out));
+		}
+		assertArrayEquals(content, out.toByteArray());
+		EasyMock.verify(digester);
+	}
+}
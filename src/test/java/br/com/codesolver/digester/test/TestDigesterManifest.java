@@ -0,0 +1,172 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFile;
+import br.com.codesolver.digester.DigesterManifest;
+import br.com.codesolver.digester.DigesterService;
+
+/**
+ * Testes unitários para {@link DigesterManifest}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterManifest {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterManifest.class.getName());
+
+	/** Caminhos relativos dos arquivos de teste, em ordem. */
+	private static final List<String> NAMES = List.of("a.txt", "b/c.bin", "b/d/e.bin", "b/f.txt", "z.txt");
+
+	/** Diretório temporário para os arquivos de teste. */
+	@TempDir
+	private static Path folder;
+
+	/** Total de bytes dos arquivos de teste. */
+	private static long total;
+
+	/** Construtor padrão. */
+	public TestDigesterManifest() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterManifest}.
+	 *
+	 * @throws IOException Erro ao criar os arquivos de teste.
+	 */
+	@BeforeAll
+	public static void beforeClass() throws IOException {
+		LOGGER.info("Inicializando os testes para DigesterManifest.");
+		Random random = new Random(NAMES.size());
+		for (String name : NAMES) {
+			byte[] content = new byte[random.nextInt(50_000)];
+			random.nextBytes(content);
+			Path file = folder.resolve("tree").resolve(name);
+			Files.createDirectories(file.getParent());
+			Files.write(file, content);
+			total += content.length;
+		}
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterManifest}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterManifest.");
+	}
+
+	/**
+	 * Monta o manifesto esperado de uma árvore.
+	 *
+	 * @param root Diretório raiz.
+	 * @return Manifesto esperado.
+	 */
+	private static String expected(Path root) {
+		StringBuilder builder = new StringBuilder();
+		for (String name : NAMES) {
+			byte[] digest = DigesterFile.digestBytes(AlgorithmType.SHA_256, root.resolve(name));
+			builder.append(HexFormat.of().formatHex(digest)).append("  ").append(name).append('\n');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Teste para o método {@link DigesterManifest#generate(Path, java.io.Writer)}.
+	 */
+	@Test
+	public void testGenerate() {
+		LOGGER.config("Testando DigesterManifest#generate(Path, Writer).");
+		Path root = folder.resolve("tree");
+		AtomicInteger calls = new AtomicInteger();
+		AtomicLong bytes = new AtomicLong();
+		StringWriter out = new StringWriter();
+		try (DigesterService service = new DigesterService(2, 2, 1024)) {
+			DigesterManifest manifest = new DigesterManifest(AlgorithmType.SHA_256, service);
+			manifest.setProgressListener((files, count, done, rate) -> {
+				calls.incrementAndGet();
+				bytes.set(done);
+				assertEquals(NAMES.size(), count);
+				assertTrue(rate >= 0);
+			});
+			assertEquals(NAMES.size(), manifest.generate(root, out));
+			assertEquals(AlgorithmType.SHA_256, manifest.getAlgorithm());
+		}
+		assertEquals(expected(root), out.toString());
+		assertEquals(NAMES.size(), calls.get());
+		assertEquals(total, bytes.get());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterManifest#verify(Path, java.io.Reader, boolean)}.
+	 *
+	 * @throws IOException Erro ao alterar os arquivos de teste.
+	 */
+	@Test
+	public void testVerify() throws IOException {
+		LOGGER.config("Testando DigesterManifest#verify(Path, Reader, boolean).");
+		Path root = folder.resolve("verify");
+		for (String name : NAMES) {
+			Path file = root.resolve(name);
+			Files.createDirectories(file.getParent());
+			Files.copy(folder.resolve("tree").resolve(name), file);
+		}
+		String text = expected(root).replace("  z.txt", " *z.txt");
+		DigesterManifest manifest = new DigesterManifest(AlgorithmType.SHA_256);
+		assertTrue(manifest.verify(root, new StringReader(text), true).isEmpty());
+
+		Files.writeString(root.resolve("b/c.bin"), "alterado");
+		Files.delete(root.resolve("b/f.txt"));
+		Files.writeString(root.resolve("z.txt"), "alterado");
+		List<DigesterManifest.Mismatch> all = manifest.verify(root, new StringReader(text), false);
+		assertEquals(3, all.size());
+		assertEquals("b/c.bin", all.get(0).getName());
+		assertFalse(all.get(0).isMissing());
+		assertEquals("b/f.txt", all.get(1).getName());
+		assertTrue(all.get(1).isMissing());
+		assertEquals("z.txt", all.get(2).getName());
+		List<DigesterManifest.Mismatch> first = manifest.verify(root, new StringReader(text), true);
+		assertEquals(1, first.size());
+		assertEquals("b/c.bin", first.get(0).getName());
+	}
+
+	/**
+	 * Teste para manifestos inválidos.
+	 */
+	@Test
+	public void testInvalid() {
+		LOGGER.config("Testando DigesterManifest#verify(Path, Reader, boolean) com manifesto inválido.");
+		Path root = folder.resolve("tree");
+		DigesterManifest manifest = new DigesterManifest(AlgorithmType.MD5);
+		assertThrows(DigesterException.class, () -> manifest.verify(root, new StringReader("abc"), false));
+		assertThrows(DigesterException.class, () -> manifest.verify(root, new StringReader("zz  a.txt"), false));
+		assertThrows(DigesterException.class, () -> manifest.verify(root,
+				new StringReader("d41d8cd98f00b204e9800998ecf8427e  ../fora.txt"), false));
+		assertThrows(DigesterException.class, () -> new DigesterManifest(null));
+		assertThrows(DigesterException.class, () -> manifest.generate(folder.resolve("missing"), new StringWriter()));
+	}
+}
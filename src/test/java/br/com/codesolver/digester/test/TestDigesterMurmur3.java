@@ -0,0 +1,134 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterMurmur3;
+
+/**
+ * Testes unitários para {@link DigesterMurmur3}, com os vetores da
+ * implementação de referência.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterMurmur3 {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterMurmur3.class.getName());
+
+	/** Tamanhos das entradas dos vetores de teste. */
+	private static final int[] LENGTHS = {0, 1, 3, 4, 8, 14, 31, 32, 33, 100, 1000};
+
+	/** HASH de referência sem semente para cada tamanho de {@link #LENGTHS}. */
+	private static final String[] HASHES = {
+		"00000000000000000000000000000000", "b55cff6ee5ab10468335f878aa2d6251",
+		"bee653ef2fa172b8b696b352c25562fb", "10afdf0dae94c5e1e2fdc213bd05d6d3",
+		"c82f8ed6bde1a747c7dc31ec02eee660", "646d9035ee33a95fdfc90f387325780d",
+		"94d02ca3e1d33d05905400b4ef9ae59e", "0f502fb622906dc65111c3346e0a051c",
+		"1246bafa1b28417d0ba3d6a77380ac55", "ca5140c199996fb0990734c8936dbd0f",
+		"1ca0a36f4162e1d79e09f173f0c3123a"};
+
+	/** Semente usada nos vetores de teste. */
+	private static final long SEED = 2025;
+
+	/** HASH de referência com {@link #SEED} para cada tamanho de {@link #LENGTHS}. */
+	private static final String[] SEEDED_HASHES = {
+		"321460f3bb984cd7f14f42e645f47a84", "a7fd8b2dc5eeef1abbd900c1bac6c790",
+		"ddb9879872245abbdaf45bb1ca08e7e4", "85c51c3ff60db24dccd6f3c1ad251493",
+		"ef6e2c3e7df3db36135cbd482850a1d5", "906cffa350dcc8284d67181ae7c79406",
+		"44d85149dc252c87447412fae5ab14ad", "bdff7c5bf19780c30f548ab8ca079001",
+		"be4c07db7b6d7c1e803300a9073e392e", "06a0ad1594ae05b1824314daab11bbdb",
+		"f786f4809a9bef545f94f8a2a4117a10"};
+
+	/** Construtor padrão. */
+	public TestDigesterMurmur3() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterMurmur3}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterMurmur3.");
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterMurmur3}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterMurmur3.");
+	}
+
+	/**
+	 * Teste para o método {@link DigesterMurmur3#digest()} com os vetores de
+	 * referência.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterMurmur3#digest().");
+		DigesterMurmur3 murmur = DigesterFactory.getInstance(AlgorithmType.MURMUR3_128);
+		DigesterMurmur3 seeded = DigesterFactory.getInstance(AlgorithmType.MURMUR3_128, SEED);
+		for (int i = 0; i < LENGTHS.length; i++) {
+			byte[] data = TestDigesterXXHash64.input(LENGTHS[i]);
+			murmur.reset();
+			murmur.update(data);
+			assertEquals(HASHES[i], HexFormat.of().formatHex(murmur.digestBytes()));
+			seeded.reset();
+			seeded.update(data);
+			assertEquals(SEEDED_HASHES[i], HexFormat.of().formatHex(seeded.digestBytes()));
+		}
+		murmur.reset();
+		assertEquals("0", murmur.digest());
+		murmur.update(TestDigesterXXHash64.input(LENGTHS[7]));
+		assertEquals(HASHES[7].substring(1), murmur.digest());
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterMurmur3#getValue()} e
+	 * {@link DigesterMurmur3#getSecondValue()}.
+	 */
+	@Test
+	public void testGetValue() {
+		LOGGER.config("Testando DigesterMurmur3#getValue().");
+		DigesterMurmur3 murmur = DigesterFactory.getInstance(AlgorithmType.MURMUR3_128);
+		murmur.update("hello".getBytes(StandardCharsets.US_ASCII));
+		assertEquals(0xCBD8A7B341BD9B02L, murmur.getValue());
+		assertEquals(0x5B1E906A48AE1D19L, murmur.getSecondValue());
+	}
+
+	/**
+	 * Teste para o cálculo incremental de {@link DigesterMurmur3}, em partes
+	 * irregulares e com {@link ByteBuffer} diretos.
+	 */
+	@Test
+	public void testUpdateIncremental() {
+		LOGGER.config("Testando DigesterMurmur3 com atualizações incrementais.");
+		byte[] data = TestDigesterXXHash64.input(1000);
+		DigesterMurmur3 murmur = DigesterFactory.getInstance(AlgorithmType.MURMUR3_128);
+		int offset = 0;
+		for (int step = 1; offset < data.length; step = step % 23 + 1) {
+			int length = Math.min(step, data.length - offset);
+			murmur.update(data, offset, length);
+			offset += length;
+		}
+		assertEquals(HASHES[LENGTHS.length - 1], HexFormat.of().formatHex(murmur.digestBytes()));
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data).flip();
+		murmur.reset();
+		murmur.update(direct.duplicate().limit(7));
+		murmur.update(direct.duplicate().position(7));
+		assertEquals(HASHES[LENGTHS.length - 1], HexFormat.of().formatHex(murmur.digestBytes()));
+	}
+}
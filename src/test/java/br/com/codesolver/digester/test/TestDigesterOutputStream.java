@@ -0,0 +1,97 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterOutputStream;
+
+/**
+ * Testes unitários para {@link DigesterOutputStream}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterOutputStream {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterOutputStream.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** Construtor padrão. */
+	public TestDigesterOutputStream() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterOutputStream}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterOutputStream.");
+		content = new byte[10_000];
+		new Random(content.length).nextBytes(content);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterOutputStream}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterOutputStream.");
+		content = null;
+	}
+
+	/**
+	 * Teste para a escrita byte a byte e em blocos de {@link DigesterOutputStream}.
+	 *
+	 * @throws IOException Erro de escrita.
+	 */
+	@Test
+	public void testWrite() throws IOException {
+		LOGGER.config("Testando DigesterOutputStream#write(byte[], int, int).");
+		Digester expected = DigesterFactory.getInstance(AlgorithmType.MD5);
+		expected.update(content);
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.MD5);
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		try (OutputStream out = new DigesterOutputStream(target, digester)) {
+			out.write(content[0]);
+			out.write(content, 1, 999);
+			out.write(content, 1000, content.length - 1000);
+		}
+		assertArrayEquals(content, target.toByteArray());
+		assertEquals(expected.digest(), digester.digest());
+	}
+
+	/**
+	 * Teste para a escrita em blocos, que não deve ser decomposta byte a byte.
+	 *
+	 * @throws IOException Erro de escrita.
+	 */
+	@Test
+	public void testWriteBulk() throws IOException {
+		LOGGER.config("Testando DigesterOutputStream#write(byte[]) em blocos.");
+		Digester digester = EasyMock.createMock(Digester.class);
+		digester.update(content, 0, content.length);
+		EasyMock.replay(digester);
+		OutputStream target = EasyMock.createMock(OutputStream.class);
+		target.write(content, 0, content.length);
+		EasyMock.replay(target);
+		new DigesterOutputStream(target, digester).write(content);
+		EasyMock.verify(digester, target);
+	}
+}
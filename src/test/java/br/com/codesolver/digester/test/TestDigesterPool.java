@@ -0,0 +1,202 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterHMAC;
+import br.com.codesolver.digester.DigesterPool;
+import br.com.codesolver.digester.DigesterSUN;
+
+/**
+ * Testes unitários para {@link DigesterPool}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterPool {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterPool.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static final byte[] DATA = "codesolver".getBytes(StandardCharsets.UTF_8);
+
+	/** HASH SHA-256 de uma sequência vazia. */
+	private static String empty;
+
+	/** HASH SHA-256 do conteúdo usado nos testes. */
+	private static String expected;
+
+	/** Construtor padrão. */
+	public TestDigesterPool() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterPool}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterPool.");
+		DigesterSUN digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		empty = digester.digest();
+		expected = digester.parse(DATA);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterPool}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterPool.");
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterPool#borrow()} e
+	 * {@link DigesterPool#release(Digester)}.
+	 */
+	@Test
+	public void testBorrowRelease() {
+		LOGGER.config("Testando DigesterPool#borrow() e DigesterPool#release(Digester).");
+		DigesterPool<Digester> pool = new DigesterPool<>(AlgorithmType.SHA_256, 2);
+		assertEquals(1, pool.size());
+		Digester digester = pool.borrow();
+		assertEquals(0, pool.size());
+		digester.update(DATA);
+		pool.release(digester);
+		Digester again = pool.borrow();
+		assertSame(digester, again);
+		assertEquals(empty, again.digest());
+	}
+
+	/**
+	 * Teste para o limite de instâncias livres de {@link DigesterPool}.
+	 */
+	@Test
+	public void testCapacity() {
+		LOGGER.config("Testando o limite de instâncias de DigesterPool.");
+		DigesterPool<Digester> pool = new DigesterPool<>(AlgorithmType.CRC16, 2);
+		Digester first = pool.borrow();
+		Digester second = pool.borrow();
+		Digester third = pool.borrow();
+		assertNotSame(first, second);
+		pool.release(first);
+		pool.release(second);
+		pool.release(third);
+		pool.release(null);
+		assertEquals(2, pool.size());
+	}
+
+	/**
+	 * Teste para os parâmetros inválidos de {@link DigesterPool}.
+	 */
+	@Test
+	public void testInvalid() {
+		LOGGER.config("Testando DigesterPool com parâmetros inválidos.");
+		assertThrows(IllegalArgumentException.class, () -> new DigesterPool<>(AlgorithmType.MD5, 0));
+		assertThrows(DigesterException.class, () -> new DigesterPool<>(null, 1));
+	}
+
+	/**
+	 * Teste para o uso concorrente de {@link DigesterPool} por <i>threads</i>
+	 * virtuais.
+	 *
+	 * @throws InterruptedException Interrupção dos testes.
+	 * @throws ExecutionException Erro em uma das tarefas.
+	 */
+	@Test
+	public void testBorrowVirtualThreads() throws InterruptedException, ExecutionException {
+		LOGGER.config("Testando DigesterPool#borrow() com threads virtuais.");
+		DigesterPool<DigesterSUN> pool = new DigesterPool<>(AlgorithmType.SHA_256, 4);
+		List<Future<String>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 100; i++) {
+				results.add(executor.submit(() -> {
+					DigesterSUN digester = pool.borrow();
+					try {
+						digester.update(DATA);
+						return digester.digest();
+					} finally {
+						pool.release(digester);
+					}
+				}));
+			}
+		}
+		for (Future<String> result : results) {
+			assertEquals(expected, result.get());
+		}
+	}
+
+	/**
+	 * Teste para o método {@link DigesterPool#local(AlgorithmType)}.
+	 *
+	 * @throws InterruptedException Interrupção dos testes.
+	 */
+	@Test
+	public void testLocal() throws InterruptedException {
+		LOGGER.config("Testando DigesterPool#local(AlgorithmType).");
+		Digester digester = DigesterPool.local(AlgorithmType.SHA_256);
+		digester.update(DATA);
+		Digester again = DigesterPool.local(AlgorithmType.SHA_256);
+		assertSame(digester, again);
+		assertEquals(empty, again.digest());
+		assertNotSame(digester, DigesterPool.local(AlgorithmType.MD5));
+
+		Digester[] other = new Digester[2];
+		Thread thread = Thread.ofVirtual().start(() -> {
+			other[0] = DigesterPool.local(AlgorithmType.SHA_256);
+			other[1] = DigesterPool.local(AlgorithmType.SHA_256);
+		});
+		thread.join();
+		assertNotSame(digester, other[0]);
+		assertNotSame(other[0], other[1]);
+	}
+
+	/**
+	 * Teste para o método {@link DigesterPool#DigesterPool(AlgorithmType, byte[], int)}.
+	 */
+	@Test
+	public void testKeyed() {
+		LOGGER.config("Testando DigesterPool#DigesterPool(AlgorithmType, byte[], int).");
+		byte[] key = "chave secreta".getBytes(StandardCharsets.UTF_8);
+		Digester reference = DigesterFactory.getInstance(AlgorithmType.HMAC_SHA256, key);
+		reference.update(DATA);
+		String mac = reference.digest();
+
+		DigesterPool<DigesterHMAC> pool = new DigesterPool<>(AlgorithmType.HMAC_SHA256, key, 2);
+		key[0] = 0;
+		DigesterHMAC first = pool.borrow();
+		DigesterHMAC second = pool.borrow();
+		assertNotSame(first, second);
+		first.update(DATA, 0, 3);
+		pool.release(first);
+		DigesterHMAC reused = pool.borrow();
+		assertSame(first, reused);
+		reused.update(DATA);
+		assertEquals(mac, reused.digest());
+		second.update(DATA);
+		assertEquals(mac, second.digest());
+
+		DigesterPool<Digester> blake3 = new DigesterPool<>(AlgorithmType.BLAKE3, new byte[32], 1);
+		assertEquals(1, blake3.size());
+		assertThrows(DigesterException.class, () -> new DigesterPool<>(AlgorithmType.MD5, key, 1));
+	}
+}
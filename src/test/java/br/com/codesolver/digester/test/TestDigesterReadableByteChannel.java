@@ -0,0 +1,102 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterReadableByteChannel;
+
+/**
+ * Testes unitários para {@link DigesterReadableByteChannel}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterReadableByteChannel {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterReadableByteChannel.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** HASH SHA-1 esperado para o conteúdo. */
+	private static String expected;
+
+	/** Construtor padrão. */
+	public TestDigesterReadableByteChannel() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterReadableByteChannel}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterReadableByteChannel.");
+		content = new byte[50_000];
+		new Random(content.length).nextBytes(content);
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_1);
+		digester.update(content);
+		expected = digester.digest();
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterReadableByteChannel}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterReadableByteChannel.");
+		content = null;
+		expected = null;
+	}
+
+	/**
+	 * Teste para o método {@link DigesterReadableByteChannel#read(ByteBuffer)}
+	 * com buffers em memória e diretos.
+	 *
+	 * @throws IOException Erro de leitura.
+	 */
+	@Test
+	public void testRead() throws IOException {
+		LOGGER.config("Testando DigesterReadableByteChannel#read(ByteBuffer).");
+		for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(3000), ByteBuffer.allocateDirect(3000)}) {
+			Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_1);
+			try (DigesterReadableByteChannel channel = new DigesterReadableByteChannel(
+					Channels.newChannel(new ByteArrayInputStream(content)), digester)) {
+				buffer.clear().position(100);
+				while (channel.read(buffer) >= 0) {
+					buffer.clear().position(100);
+				}
+				assertEquals(100, buffer.position());
+			}
+			assertEquals(expected, digester.digest());
+		}
+	}
+
+	/**
+	 * Teste para o método {@link DigesterReadableByteChannel#close()}.
+	 *
+	 * @throws IOException Erro ao fechar o canal.
+	 */
+	@Test
+	public void testClose() throws IOException {
+		LOGGER.config("Testando DigesterReadableByteChannel#close().");
+		DigesterReadableByteChannel channel = new DigesterReadableByteChannel(
+				Channels.newChannel(new ByteArrayInputStream(content)), DigesterFactory.getInstance(AlgorithmType.MD5));
+		channel.close();
+		assertFalse(channel.isOpen());
+	}
+}
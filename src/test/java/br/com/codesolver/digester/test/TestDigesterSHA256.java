@@ -0,0 +1,126 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterResumable;
+import br.com.codesolver.digester.DigesterSHA256;
+
+/**
+ * Testes unitários para {@link DigesterSHA256}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterSHA256 {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterSHA256.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** Construtor padrão. */
+	public TestDigesterSHA256() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterSHA256}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterSHA256.");
+		content = new byte[10_000];
+		new Random(content.length).nextBytes(content);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterSHA256}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterSHA256.");
+		content = null;
+	}
+
+	/**
+	 * Teste com os vetores do FIPS 180-4 para {@link DigesterSHA256}.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterSHA256#digest().");
+		DigesterResumable digester = DigesterFactory.getResumableInstance(AlgorithmType.SHA_256);
+		digester.update("abc".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", digester.digest());
+		digester.update("abcdbcdecdefdefgefghfghighijhijkijkljklmklmnlmnomnopnopq".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("248d6a61d20638b8e5c026930c3e6039a33ce45964ff2167f6ecedd419db06c1", digester.digest());
+		digester = DigesterFactory.getResumableInstance(AlgorithmType.SHA_224);
+		digester.update("abc".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("23097d223405d8228642a477bda255b32aadbce4bda0b3f7e36c9da7", digester.digest());
+	}
+
+	/**
+	 * Teste comparando {@link DigesterSHA256} com o provedor de segurança em
+	 * todos os tamanhos ao redor do bloco.
+	 */
+	@Test
+	public void testUpdate() {
+		LOGGER.config("Testando DigesterSHA256#update(byte[], int, int).");
+		for (AlgorithmType algorithm : new AlgorithmType[] {AlgorithmType.SHA_224, AlgorithmType.SHA_256}) {
+			Digester expected = DigesterFactory.getInstance(algorithm);
+			DigesterResumable digester = DigesterFactory.getResumableInstance(algorithm);
+			for (int length = 0; length <= 200; length++) {
+				expected.update(content, 0, length);
+				digester.update(content, 0, length / 3);
+				digester.update(ByteBuffer.allocateDirect(length - length / 3).put(content, length / 3,
+						length - length / 3).flip());
+				assertArrayEquals(expected.digestBytes(), digester.digestBytes());
+			}
+		}
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterSHA256#checkpoint()} e
+	 * {@link DigesterSHA256#restore(byte[])}.
+	 */
+	@Test
+	public void testCheckpoint() {
+		LOGGER.config("Testando DigesterSHA256#checkpoint().");
+		Digester expected = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		expected.update(content);
+		DigesterResumable first = DigesterFactory.getResumableInstance(AlgorithmType.SHA_256);
+		first.update(content, 0, 4321);
+		byte[] checkpoint = first.checkpoint();
+		assertEquals(4321, first.getLength());
+
+		DigesterResumable resumed = DigesterFactory.getResumableInstance(AlgorithmType.SHA_256);
+		resumed.restore(checkpoint);
+		assertEquals(4321, resumed.getLength());
+		resumed.update(content, 4321, content.length - 4321);
+		assertArrayEquals(expected.digestBytes(), resumed.digestBytes());
+
+		first.update(content, 4321, content.length - 4321);
+		expected.update(content);
+		assertArrayEquals(expected.digestBytes(), first.digestBytes());
+
+		checkpoint[checkpoint.length - 1] = 0;
+		DigesterResumable sha224 = DigesterFactory.getResumableInstance(AlgorithmType.SHA_224);
+		assertThrows(DigesterException.class, () -> sha224.restore(checkpoint));
+		assertThrows(DigesterException.class, () -> sha224.restore(null));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getResumableInstance(AlgorithmType.MD5));
+	}
+}
@@ -0,0 +1,130 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterResumable;
+import br.com.codesolver.digester.DigesterSHA512;
+
+/**
+ * Testes unitários para {@link DigesterSHA512}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterSHA512 {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterSHA512.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** Construtor padrão. */
+	public TestDigesterSHA512() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterSHA512}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterSHA512.");
+		content = new byte[10_000];
+		new Random(content.length).nextBytes(content);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterSHA512}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterSHA512.");
+		content = null;
+	}
+
+	/**
+	 * Teste com os vetores do FIPS 180-4 para {@link DigesterSHA512}.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterSHA512#digest().");
+		DigesterResumable digester = DigesterFactory.getResumableInstance(AlgorithmType.SHA_512);
+		digester.update("abc".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("ddaf35a193617abacc417349ae20413112e6fa4e89a97ea20a9eeee64b55d39a"
+				+ "2192992a274fc1a836ba3c23a3feebbd454d4423643ce80e2a9ac94fa54ca49f", digester.digest());
+		digester.update(("abcdefghbcdefghicdefghijdefghijkefghijklfghijklmghijklmnhijklmno"
+				+ "ijklmnopjklmnopqklmnopqrlmnopqrsmnopqrstnopqrstu").getBytes(StandardCharsets.US_ASCII));
+		assertEquals("8e959b75dae313da8cf4f72814fc143f8f7779c6eb9f7fa17299aeadb6889018"
+				+ "501d289e4900f7e4331b99dec4b5433ac7d329eeb6dd26545e96e55b874be909", digester.digest());
+		digester = DigesterFactory.getResumableInstance(AlgorithmType.SHA_384);
+		digester.update("abc".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("cb00753f45a35e8bb5a03d699ac65007272c32ab0eded163"
+				+ "1a8b605a43ff5bed8086072ba1e7cc2358baeca134c825a7", digester.digest());
+	}
+
+	/**
+	 * Teste comparando {@link DigesterSHA512} com o provedor de segurança em
+	 * todos os tamanhos ao redor do bloco.
+	 */
+	@Test
+	public void testUpdate() {
+		LOGGER.config("Testando DigesterSHA512#update(byte[], int, int).");
+		for (AlgorithmType algorithm : new AlgorithmType[] {AlgorithmType.SHA_384, AlgorithmType.SHA_512}) {
+			Digester expected = DigesterFactory.getInstance(algorithm);
+			DigesterResumable digester = DigesterFactory.getResumableInstance(algorithm);
+			for (int length = 0; length <= 300; length++) {
+				expected.update(content, 0, length);
+				digester.update(content, 0, length / 3);
+				digester.update(ByteBuffer.allocateDirect(length - length / 3).put(content, length / 3,
+						length - length / 3).flip());
+				assertArrayEquals(expected.digestBytes(), digester.digestBytes());
+			}
+		}
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterSHA512#checkpoint()} e
+	 * {@link DigesterSHA512#restore(byte[])}.
+	 */
+	@Test
+	public void testCheckpoint() {
+		LOGGER.config("Testando DigesterSHA512#checkpoint().");
+		Digester expected = DigesterFactory.getInstance(AlgorithmType.SHA_512);
+		expected.update(content);
+		DigesterResumable first = DigesterFactory.getResumableInstance(AlgorithmType.SHA_512);
+		first.update(content, 0, 4321);
+		byte[] checkpoint = first.checkpoint();
+		assertEquals(4321, first.getLength());
+
+		DigesterResumable resumed = DigesterFactory.getResumableInstance(AlgorithmType.SHA_512);
+		resumed.restore(checkpoint);
+		assertEquals(4321, resumed.getLength());
+		resumed.update(content, 4321, content.length - 4321);
+		assertArrayEquals(expected.digestBytes(), resumed.digestBytes());
+
+		first.update(content, 4321, content.length - 4321);
+		expected.update(content);
+		assertArrayEquals(expected.digestBytes(), first.digestBytes());
+
+		checkpoint[checkpoint.length - 1] = 0;
+		DigesterResumable sha224 = DigesterFactory.getResumableInstance(AlgorithmType.SHA_384);
+		assertThrows(DigesterException.class, () -> sha224.restore(checkpoint));
+		assertThrows(DigesterException.class, () -> sha224.restore(null));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getResumableInstance(AlgorithmType.MD5));
+	}
+}
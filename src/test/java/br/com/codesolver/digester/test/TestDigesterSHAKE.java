@@ -0,0 +1,190 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterBLAKE3;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterSHAKE;
+import br.com.codesolver.digester.DigesterXOF;
+
+/**
+ * Testes unitários para {@link DigesterSHAKE}, com os vetores de teste do
+ * FIPS 202.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterSHAKE {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterSHAKE.class.getName());
+
+	/** Entrada dos vetores de teste. */
+	private static final byte[] ABC = "abc".getBytes(StandardCharsets.US_ASCII);
+
+	/** SHAKE128 de uma entrada vazia. */
+	private static final String SHAKE128_EMPTY = "7f9c2ba4e88f827d616045507605853ed73b8093f6efbc88eb1a6eacfa66ef26";
+
+	/** SHAKE256 de uma entrada vazia. */
+	private static final String SHAKE256_EMPTY = "46b9dd2b0ba88d13233b3feb743eeb243fcd52ea62b81b82b50c27646ed5762f"
+			+ "d75dc4ddd8c0f200cb05019d67b592f6fc821c49479ab48640292eacb3b7c4be";
+
+	/** Bytes 160 a 199 da saída do SHAKE128 para "abc", já no segundo bloco. */
+	private static final String SHAKE128_ABC_160 = "cc29082f5647584e6aa01b3f5af057805f973ff8ecb8b226ac32ada6f01c1fcd"
+			+ "4818cb006aa5b4cd";
+
+	/** Bytes 160 a 199 da saída do SHAKE256 para "abc", já no segundo bloco. */
+	private static final String SHAKE256_ABC_160 = "3a7e5d397fed1ada9442b99903f4dcfd8559ed3950faf40fe6f3b5d710ed3b67"
+			+ "7513771af6bfe119";
+
+	/** SHAKE128 de 2560 bytes com os valores de 0 a 255 repetidos. */
+	private static final String SHAKE128_LONG = "a0b6eff85ed2aa1929110788c9a320aeb42ecb196fae6fded70c3771f75131a3";
+
+	/** SHAKE256 de 2560 bytes com os valores de 0 a 255 repetidos. */
+	private static final String SHAKE256_LONG = "287cb70a6cfc4d1c2996b7cfeb14b775acd66b907d8a9cc7b0e1c4b06299f14e"
+			+ "9aea3ea1e439f0ef8756e69eb67e871da9f215fa632dc2f5e635e50e59568580";
+
+	/** Construtor padrão. */
+	public TestDigesterSHAKE() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterSHAKE}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterSHAKE.");
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterSHAKE}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterSHAKE.");
+	}
+
+	/**
+	 * Teste para o método {@link DigesterSHAKE#digest()}.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterSHAKE#digest().");
+		DigesterXOF shake128 = DigesterFactory.getXOFInstance(AlgorithmType.SHAKE128_256);
+		DigesterXOF shake256 = DigesterFactory.getXOFInstance(AlgorithmType.SHAKE256_512);
+		assertEquals(32, shake128.getDigestLength());
+		assertEquals(64, shake256.getDigestLength());
+		assertEquals(SHAKE128_EMPTY, shake128.digest());
+		assertEquals(SHAKE256_EMPTY, shake256.digest());
+		shake128.update("The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("f4202e3c5852f9182a0430fd8144f0a74b95e7417ecae17db0f8cfeed0e3e66e", shake128.digest());
+		shake128.reset();
+		shake128.update("x198".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("2770e32d83386991ba4579b157eb1ed9d056f097919464dd7b8fe4ba2f97fd", shake128.digest());
+		assertEquals(0, shake128.digestBytes()[0]);
+	}
+
+	/**
+	 * Teste para o método {@link DigesterSHAKE#squeeze(byte[], int, int)},
+	 * lendo a saída em partes que atravessam o limite dos blocos.
+	 */
+	@Test
+	public void testSqueeze() {
+		LOGGER.config("Testando DigesterSHAKE#squeeze(byte[], int, int).");
+		for (Object[] vector : new Object[][] {{AlgorithmType.SHAKE128_256, SHAKE128_ABC_160},
+				{AlgorithmType.SHAKE256_512, SHAKE256_ABC_160}}) {
+			DigesterXOF shake = DigesterFactory.getXOFInstance((AlgorithmType) vector[0]);
+			shake.update(ABC);
+			byte[] whole = shake.squeeze(200);
+			assertEquals(vector[1], HexFormat.of().formatHex(whole, 160, 200));
+			assertArrayEquals(Arrays.copyOf(whole, shake.getDigestLength()), shake.digestBytes());
+
+			shake.reset();
+			shake.update(ABC);
+			byte[] parts = new byte[200];
+			for (int offset = 0, step = 1; offset < parts.length; offset += step, step += 7) {
+				shake.squeeze(parts, offset, Math.min(step, parts.length - offset));
+			}
+			assertArrayEquals(whole, parts);
+			assertArrayEquals(Arrays.copyOf(whole, shake.getDigestLength()), shake.digestBytes());
+			assertThrows(IndexOutOfBoundsException.class, () -> shake.squeeze(parts, 190, 11));
+			assertThrows(IllegalStateException.class, () -> shake.update(ABC));
+		}
+	}
+
+	/**
+	 * Teste para as atualizações após a leitura da saída: as vazias mantêm a
+	 * posição de leitura e as demais são recusadas até o reinício.
+	 */
+	@Test
+	public void testUpdateAfterSqueeze() {
+		LOGGER.config("Testando DigesterSHAKE#update(byte[]) após DigesterSHAKE#squeeze(int).");
+		DigesterXOF shake = DigesterFactory.getXOFInstance(AlgorithmType.SHAKE128_256);
+		shake.update(ABC, 0, 1);
+		shake.update(ABC, 1, 2);
+		byte[] first = shake.squeeze(160);
+		shake.update(new byte[0]);
+		assertEquals(SHAKE128_ABC_160, HexFormat.of().formatHex(shake.squeeze(40)));
+		assertThrows(IllegalStateException.class, () -> shake.update(ABC));
+		assertArrayEquals(Arrays.copyOf(first, shake.getDigestLength()), shake.digestBytes());
+		shake.reset();
+		assertEquals(SHAKE128_EMPTY, shake.digest());
+		shake.update(ABC);
+		assertArrayEquals(first, shake.squeeze(160));
+	}
+
+	/**
+	 * Teste para o método {@link DigesterSHAKE#update(ByteBuffer)} e para
+	 * entradas de vários blocos.
+	 */
+	@Test
+	public void testUpdateByteBuffer() {
+		LOGGER.config("Testando DigesterSHAKE#update(ByteBuffer).");
+		byte[] data = new byte[2560];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) i;
+		}
+		for (Object[] vector : new Object[][] {{AlgorithmType.SHAKE128_256, SHAKE128_LONG},
+				{AlgorithmType.SHAKE256_512, SHAKE256_LONG}}) {
+			AlgorithmType algorithm = (AlgorithmType) vector[0];
+			DigesterXOF whole = DigesterFactory.getXOFInstance(algorithm);
+			whole.update(data);
+			assertEquals(vector[1], whole.digest());
+
+			DigesterXOF direct = DigesterFactory.getXOFInstance(algorithm);
+			direct.update(data, 0, 5);
+			ByteBuffer buffer = ByteBuffer.allocateDirect(data.length).put(data).flip().position(5);
+			direct.update(buffer);
+			assertEquals(buffer.limit(), buffer.position());
+			assertEquals(vector[1], direct.digest());
+			assertEquals(algorithm, ((DigesterSHAKE) direct).getAlgorithm());
+		}
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFactory#getXOFInstance(AlgorithmType)}.
+	 */
+	@Test
+	public void testFactory() {
+		LOGGER.config("Testando DigesterFactory#getXOFInstance(AlgorithmType).");
+		assertInstanceOf(DigesterSHAKE.class, DigesterFactory.getXOFInstance(AlgorithmType.SHAKE128_256));
+		assertInstanceOf(DigesterBLAKE3.class, DigesterFactory.getXOFInstance(AlgorithmType.BLAKE3));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getXOFInstance(AlgorithmType.SHA_256));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getXOFInstance(null));
+	}
+}
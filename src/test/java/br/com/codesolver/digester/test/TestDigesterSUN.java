@@ -1,9 +1,19 @@
 package br.com.codesolver.digester.test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.AfterAll;
@@ -14,8 +24,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterException;
 import br.com.codesolver.digester.DigesterFactory;
 import br.com.codesolver.digester.DigesterSUN;
+import br.com.codesolver.util.StringUtil;
 
 /**
  * Testes unitários para {@link DigesterSUN}. 
@@ -156,4 +169,237 @@ public class TestDigesterSUN {
         String hash = digester.digest();
         assertEquals(NULL_HASH_SHA_256, hash);
     }
+
+    /**
+     * Teste para o método {@link DigesterSUN#update(byte[], int, int)}.
+     */
+    @Test
+    @Order(6)
+    void testUpdateOffsetLength() {
+        LOGGER.config("Testando DigesterSUN#update(byte[], int, int).");
+        byte[] data = new byte[TEXT_BYTES.length + 4];
+        System.arraycopy(TEXT_BYTES, 0, data, 2, TEXT_BYTES.length);
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        sha.update(data, 2, TEXT_BYTES.length);
+        assertEquals(TEXT_SHA_256, sha.digest());
+    }
+
+    /**
+     * Teste para o método {@link DigesterSUN#update(ByteBuffer)} com buffers em
+     * memória e diretos.
+     */
+    @Test
+    @Order(6)
+    void testUpdateByteBuffer() {
+        LOGGER.config("Testando DigesterSUN#update(ByteBuffer).");
+        ByteBuffer[] buffers = {
+            ByteBuffer.wrap(TEXT_BYTES),
+            ByteBuffer.allocateDirect(TEXT_BYTES.length).put(TEXT_BYTES).flip(),
+        };
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        for (ByteBuffer buffer : buffers) {
+            sha.update(buffer);
+            assertFalse(buffer.hasRemaining());
+            assertEquals(TEXT_SHA_256, sha.digest());
+        }
+    }
+
+    /**
+     * Teste para o método {@link DigesterSUN#update(ByteBuffer[])}.
+     */
+    @Test
+    @Order(6)
+    void testUpdateByteBuffers() {
+        LOGGER.config("Testando DigesterSUN#update(ByteBuffer[]).");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        sha.update(new ByteBuffer[] {
+            ByteBuffer.wrap(TEXT_BYTES, 0, 3),
+            ByteBuffer.allocateDirect(TEXT_BYTES.length - 3).put(TEXT_BYTES, 3, TEXT_BYTES.length - 3).flip() });
+        assertEquals(TEXT_SHA_256, sha.digest());
+    }
+
+    /**
+     * Teste para os métodos {@link DigesterSUN#digestBytes()} e
+     * {@link DigesterSUN#getDigestLength()}.
+     */
+    @Test
+    @Order(7)
+    void testDigestBytes() {
+        LOGGER.config("Testando DigesterSUN#digestBytes().");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        assertEquals(32, sha.getDigestLength());
+        sha.update(TEXT_BYTES);
+        assertArrayEquals(StringUtil.hexToBytes(TEXT_SHA_256), sha.digestBytes());
+    }
+
+    /**
+     * Teste para o método {@link DigesterSUN#digestInto(byte[], int)}.
+     */
+    @Test
+    @Order(7)
+    void testDigestInto() {
+        LOGGER.config("Testando DigesterSUN#digestInto(byte[], int).");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        byte[] dst = new byte[40];
+        sha.update(TEXT_BYTES);
+        assertEquals(32, sha.digestInto(dst, 4));
+        assertArrayEquals(StringUtil.hexToBytes(TEXT_SHA_256), Arrays.copyOfRange(dst, 4, 36));
+        assertThrows(IndexOutOfBoundsException.class, () -> sha.digestInto(dst, 10));
+    }
+
+    /**
+     * Teste para os métodos {@link DigesterSUN#parseBytes(byte[])} e
+     * {@link DigesterSUN#parseInto(byte[], byte[], int)}.
+     */
+    @Test
+    @Order(7)
+    void testParseBytesInto() {
+        LOGGER.config("Testando DigesterSUN#parseBytes(byte[]).");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        byte[] expected = StringUtil.hexToBytes(TEXT_SHA_256);
+        assertArrayEquals(expected, sha.parseBytes(TEXT_BYTES));
+        byte[] dst = new byte[32];
+        assertEquals(32, sha.parseInto(TEXT_BYTES, dst, 0));
+        assertArrayEquals(expected, dst);
+    }
+
+    /**
+     * Teste para o método {@link DigesterSUN#verify(byte[], byte[])}.
+     */
+    @Test
+    @Order(8)
+    void testVerifyBytesBytes() {
+        LOGGER.config("Testando DigesterSUN#verify(byte[], byte[]).");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        byte[] expected = sha.decode(TEXT_SHA_256);
+        assertTrue(sha.verify(TEXT_BYTES, expected));
+        assertTrue(sha.verify(TEXT_BYTES, expected));
+        byte[] other = expected.clone();
+        other[other.length - 1] ^= 1;
+        assertFalse(sha.verify(TEXT_BYTES, other));
+        assertFalse(sha.verify(TEXT_BYTES, Arrays.copyOf(expected, 16)));
+        assertFalse(sha.verify(new byte[0], expected));
+    }
+
+    /**
+     * Teste para o método {@link DigesterSUN#decode(String)}.
+     */
+    @Test
+    @Order(8)
+    void testDecode() {
+        LOGGER.config("Testando DigesterSUN#decode(String).");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        byte[] decoded = sha.decode(TEXT_SHA_256);
+        assertEquals(32, decoded.length);
+        assertEquals(0x09, decoded[0]);
+        assertArrayEquals(sha.parseBytes(TEXT_BYTES), decoded);
+        assertNotSame(decoded, sha.decode(TEXT_SHA_256));
+        assertThrows(DigesterException.class, () -> sha.decode("zz"));
+        assertThrows(DigesterException.class, () -> sha.decode(TEXT_SHA_256 + "00"));
+    }
+
+    /**
+     * Teste para os métodos {@link DigesterSUN#parse(CharSequence, Charset)} e
+     * {@link DigesterSUN#verify(CharSequence, String, Charset)}.
+     */
+    @Test
+    @Order(8)
+    void testParseCharset() {
+        LOGGER.config("Testando DigesterSUN#parse(CharSequence, Charset).");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        String accents = "ação e coração";
+        String mixed = "x".repeat(700) + "ç€\uD83D\uDE00" + "y".repeat(1500) + "\uD800";
+        for (Charset charset : new Charset[] {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1,
+                StandardCharsets.US_ASCII, StandardCharsets.UTF_16LE, Charset.forName("windows-1252")}) {
+            for (String value : new String[] {"", TEXT, accents, mixed}) {
+                String expected = sha.parse(value.getBytes(charset));
+                assertEquals(expected, sha.parse(value, charset), charset.name());
+                assertEquals(expected, sha.parse(new StringBuilder(value), charset), charset.name());
+                assertTrue(sha.verify(value, expected, charset));
+            }
+        }
+        assertEquals(TEXT_SHA_256, sha.parse(TEXT, StandardCharsets.UTF_8));
+        assertFalse(sha.verify(accents, sha.parse(accents, StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8));
+        sha.update("luc", StandardCharsets.UTF_8);
+        sha.update("iano", StandardCharsets.UTF_8);
+        assertEquals(TEXT_SHA_256, sha.digest());
+        assertThrows(NullPointerException.class, () -> sha.parse(TEXT, null));
+    }
+
+    /**
+     * Teste para o método {@link DigesterSUN#update(MemorySegment)}.
+     */
+    @Test
+    @Order(8)
+    void testUpdateMemorySegment() {
+        LOGGER.config("Testando DigesterSUN#update(MemorySegment).");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(TEXT_BYTES.length + 2);
+            MemorySegment.copy(TEXT_BYTES, 0, segment, ValueLayout.JAVA_BYTE, 1, TEXT_BYTES.length);
+            sha.update(segment.asSlice(1, TEXT_BYTES.length));
+        }
+        assertEquals(TEXT_SHA_256, sha.digest());
+        sha.update(MemorySegment.ofArray(TEXT_BYTES));
+        assertEquals(TEXT_SHA_256, sha.digest());
+        sha.update(MemorySegment.ofArray(new byte[0]));
+        assertEquals(NULL_HASH_SHA_256, sha.digest());
+        assertThrows(UnsupportedOperationException.class, () -> sha.update(MemorySegment.ofArray(new long[1])));
+    }
+
+    /**
+     * Teste para as implementações padrão de
+     * {@link Digester#update(byte[], int, int)} e
+     * {@link Digester#update(ByteBuffer)}, usadas por implementações externas
+     * que só sobrescrevem {@link Digester#update(byte[])}.
+     */
+    @Test
+    @Order(8)
+    void testUpdateDefault() {
+        LOGGER.config("Testando Digester#update(byte[], int, int) e Digester#update(ByteBuffer) padrão.");
+        DigesterSUN sha = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+        Digester digester = new Digester() {
+            @Override
+            public void reset() {
+                sha.reset();
+            }
+
+            @Override
+            public void update(byte[] buffer) {
+                sha.update(buffer);
+            }
+
+            @Override
+            public String digest() {
+                return sha.digest();
+            }
+
+            @Override
+            public int getDigestLength() {
+                return sha.getDigestLength();
+            }
+
+            @Override
+            public int digestInto(byte[] dst, int offset) {
+                return sha.digestInto(dst, offset);
+            }
+        };
+        byte[] padded = new byte[TEXT_BYTES.length + 4];
+        System.arraycopy(TEXT_BYTES, 0, padded, 2, TEXT_BYTES.length);
+        digester.update(padded, 2, TEXT_BYTES.length);
+        assertEquals(TEXT_SHA_256, digester.digest());
+        assertThrows(IndexOutOfBoundsException.class, () -> digester.update(padded, 2, padded.length));
+        ByteBuffer heap = ByteBuffer.wrap(padded, 2, TEXT_BYTES.length);
+        digester.update(heap);
+        assertFalse(heap.hasRemaining());
+        assertEquals(TEXT_SHA_256, digester.digest());
+        byte[] large = new byte[20_000];
+        Arrays.fill(large, (byte) 7);
+        sha.update(large);
+        byte[] expected = sha.digestBytes();
+        ByteBuffer direct = ByteBuffer.allocateDirect(large.length).put(large).flip();
+        digester.update(direct);
+        assertFalse(direct.hasRemaining());
+        assertArrayEquals(expected, digester.digestBytes());
+    }
 }
@@ -0,0 +1,224 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterService;
+
+/**
+ * Testes unitários para {@link DigesterService}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterService {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterService.class.getName());
+
+	/** Quantidade de arquivos usados nos testes. */
+	private static final int FILE_COUNT = 8;
+
+	/** Diretório temporário para os arquivos de teste. */
+	@TempDir
+	private static Path folder;
+
+	/** Arquivos usados nos testes. */
+	private static List<Path> files;
+
+	/** Conteúdo de cada arquivo usado nos testes. */
+	private static byte[][] contents;
+
+	/** Construtor padrão. */
+	public TestDigesterService() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterService}.
+	 *
+	 * @throws IOException Erro ao criar os arquivos de teste.
+	 */
+	@BeforeAll
+	public static void beforeClass() throws IOException {
+		LOGGER.info("Inicializando os testes para DigesterService.");
+		Random random = new Random(FILE_COUNT);
+		contents = new byte[FILE_COUNT][];
+		Path[] paths = new Path[FILE_COUNT];
+		for (int i = 0; i < FILE_COUNT; i++) {
+			contents[i] = new byte[random.nextInt(100_000)];
+			random.nextBytes(contents[i]);
+			paths[i] = Files.write(folder.resolve("file" + i + ".bin"), contents[i]);
+		}
+		files = List.of(paths);
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterService}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterService.");
+		files = null;
+		contents = null;
+	}
+
+	/**
+	 * Calcula o HASH esperado de um conteúdo.
+	 *
+	 * @param data Conteúdo.
+	 * @return HASH em bytes.
+	 */
+	private static byte[] expected(byte[] data) {
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_256);
+		digester.update(data);
+		return digester.digestBytes();
+	}
+
+	/**
+	 * Teste para os métodos de envio de tarefas de {@link DigesterService}.
+	 *
+	 * @throws ExecutionException Erro na tarefa.
+	 * @throws InterruptedException Teste interrompido.
+	 */
+	@Test
+	public void testSubmit() throws InterruptedException, ExecutionException {
+		LOGGER.config("Testando DigesterService#submit(AlgorithmType, ...).");
+		try (DigesterService service = new DigesterService(2, 1, 4096)) {
+			assertArrayEquals(expected(contents[0]), service.submit(AlgorithmType.SHA_256, contents[0]).get());
+			assertArrayEquals(expected(contents[1]), service.submit(AlgorithmType.SHA_256, files.get(1)).get());
+			assertArrayEquals(expected(contents[2]),
+					service.submit(AlgorithmType.SHA_256, new ByteArrayInputStream(contents[2])).get());
+		}
+	}
+
+	/**
+	 * Teste para o método {@link DigesterService#submitAll(AlgorithmType, java.util.Collection)}.
+	 */
+	@Test
+	public void testSubmitAll() {
+		LOGGER.config("Testando DigesterService#submitAll(AlgorithmType, Collection).");
+		try (DigesterService service = new DigesterService()) {
+			List<CompletableFuture<byte[]>> results = service.submitAll(AlgorithmType.SHA_256, files);
+			assertEquals(FILE_COUNT, results.size());
+			for (int i = 0; i < FILE_COUNT; i++) {
+				assertArrayEquals(expected(contents[i]), results.get(i).join());
+			}
+		}
+	}
+
+	/**
+	 * Teste para o limite de leituras simultâneas de {@link DigesterService}.
+	 */
+	@Test
+	public void testIOLimit() {
+		LOGGER.config("Testando DigesterService#getIOLimit().");
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+		try (DigesterService service = new DigesterService(2, 4, 1024)) {
+			assertEquals(2, service.getIOLimit());
+			assertEquals(4, service.getCPULimit());
+			CompletableFuture<?>[] results = new CompletableFuture<?>[FILE_COUNT];
+			for (int i = 0; i < FILE_COUNT; i++) {
+				InputStream in = new ByteArrayInputStream(contents[i]) {
+
+					/** Indica se a leitura foi contada como ativa. */
+					private boolean counted;
+
+					@Override
+					public synchronized int read(byte[] b, int off, int len) {
+						if (!counted) {
+							counted = true;
+							peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+						}
+						return super.read(b, off, len);
+					}
+
+					@Override
+					public void close() throws IOException {
+						if (counted) {
+							active.decrementAndGet();
+						}
+						super.close();
+					}
+				};
+				results[i] = service.submit(AlgorithmType.SHA_256, in);
+			}
+			CompletableFuture.allOf(results).join();
+		}
+		assertTrue(peak.get() <= 2);
+	}
+
+	/**
+	 * Teste para o cancelamento de uma tarefa bloqueada na leitura.
+	 *
+	 * @throws IOException Erro ao criar a origem de teste.
+	 * @throws InterruptedException Teste interrompido.
+	 */
+	@Test
+	@Timeout(10)
+	public void testCancel() throws IOException, InterruptedException {
+		LOGGER.config("Testando o cancelamento de DigesterService#submit(AlgorithmType, InputStream).");
+		CountDownLatch closed = new CountDownLatch(1);
+		try (PipedOutputStream out = new PipedOutputStream();
+				DigesterService service = new DigesterService()) {
+			InputStream in = new PipedInputStream(out) {
+
+				@Override
+				public void close() throws IOException {
+					closed.countDown();
+					super.close();
+				}
+			};
+			out.write(contents[0], 0, 10);
+			CompletableFuture<byte[]> result = service.submit(AlgorithmType.SHA_256, in);
+			assertTrue(result.cancel(true));
+			assertTrue(closed.await(5, TimeUnit.SECONDS));
+		}
+	}
+
+	/**
+	 * Teste para os erros de {@link DigesterService}.
+	 */
+	@Test
+	public void testErrors() {
+		LOGGER.config("Testando os erros de DigesterService.");
+		assertThrows(IllegalArgumentException.class, () -> new DigesterService(0, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new DigesterService(1, 1, 0));
+		DigesterService service = new DigesterService();
+		assertThrows(DigesterException.class, () -> service.submit(null, contents[0]));
+		CompletableFuture<byte[]> missing = service.submit(AlgorithmType.MD5, folder.resolve("missing.bin"));
+		ExecutionException error = assertThrows(ExecutionException.class, missing::get);
+		assertInstanceOf(DigesterException.class, error.getCause());
+		service.close();
+		assertThrows(DigesterException.class, () -> service.submit(AlgorithmType.MD5, contents[0]));
+	}
+}
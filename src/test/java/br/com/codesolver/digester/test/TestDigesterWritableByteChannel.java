@@ -0,0 +1,133 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.Digester;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterWritableByteChannel;
+
+/**
+ * Testes unitários para {@link DigesterWritableByteChannel}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterWritableByteChannel {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterWritableByteChannel.class.getName());
+
+	/** Conteúdo usado nos testes. */
+	private static byte[] content;
+
+	/** HASH SHA-1 esperado para o conteúdo. */
+	private static String expected;
+
+	/** Construtor padrão. */
+	public TestDigesterWritableByteChannel() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterWritableByteChannel}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterWritableByteChannel.");
+		content = new byte[50_000];
+		new Random(content.length).nextBytes(content);
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_1);
+		digester.update(content);
+		expected = digester.digest();
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterWritableByteChannel}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterWritableByteChannel.");
+		content = null;
+		expected = null;
+	}
+
+	/**
+	 * Teste para o método {@link DigesterWritableByteChannel#write(ByteBuffer)}
+	 * com escritas parciais.
+	 *
+	 * @throws IOException Erro de escrita.
+	 */
+	@Test
+	public void testWritePartial() throws IOException {
+		LOGGER.config("Testando DigesterWritableByteChannel#write(ByteBuffer) com escritas parciais.");
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		WritableByteChannel slow = new WritableByteChannel() {
+
+			/** Canal real de destino. */
+			private final WritableByteChannel delegate = Channels.newChannel(target);
+
+			@Override
+			public int write(ByteBuffer src) throws IOException {
+				ByteBuffer part = src.slice(src.position(), Math.min(src.remaining(), 777));
+				int count = delegate.write(part);
+				src.position(src.position() + count);
+				return count;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return delegate.isOpen();
+			}
+
+			@Override
+			public void close() throws IOException {
+				delegate.close();
+			}
+		};
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_1);
+		try (DigesterWritableByteChannel channel = new DigesterWritableByteChannel(slow, digester)) {
+			ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content).flip();
+			while (direct.hasRemaining()) {
+				channel.write(direct);
+			}
+			assertFalse(direct.hasRemaining());
+		}
+		assertArrayEquals(content, target.toByteArray());
+		assertEquals(expected, digester.digest());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterWritableByteChannel#write(ByteBuffer)}
+	 * com buffers em memória.
+	 *
+	 * @throws IOException Erro de escrita.
+	 */
+	@Test
+	public void testWriteHeap() throws IOException {
+		LOGGER.config("Testando DigesterWritableByteChannel#write(ByteBuffer) com buffers em memória.");
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		Digester digester = DigesterFactory.getInstance(AlgorithmType.SHA_1);
+		try (DigesterWritableByteChannel channel = new DigesterWritableByteChannel(Channels.newChannel(target),
+				digester)) {
+			ByteBuffer heap = ByteBuffer.wrap(content, 0, 10);
+			channel.write(heap);
+			channel.write(ByteBuffer.wrap(content, 10, content.length - 10).slice());
+		}
+		assertArrayEquals(content, target.toByteArray());
+		assertEquals(expected, digester.digest());
+	}
+}
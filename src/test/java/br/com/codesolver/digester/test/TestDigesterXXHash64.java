@@ -0,0 +1,156 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterChecksum;
+import br.com.codesolver.digester.DigesterException;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterXXHash64;
+
+/**
+ * Testes unitários para {@link DigesterXXHash64}, com os vetores da
+ * implementação de referência.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterXXHash64 {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterXXHash64.class.getName());
+
+	/** Tamanhos das entradas dos vetores de teste. */
+	private static final int[] LENGTHS = {0, 1, 3, 4, 8, 14, 31, 32, 33, 100, 1000};
+
+	/** HASH de referência sem semente para cada tamanho de {@link #LENGTHS}. */
+	private static final long[] HASHES = {
+		0xEF46DB3751D8E999L, 0xE934A84ADB052768L, 0xE5C7BB4533BC65DDL, 0xFFCED8604453CC1EL,
+		0x884A173614B81B8DL, 0x5CDA8B69BBFC1D45L, 0xC346D2B59B4D8EE1L, 0xCBF59C5116FF32B4L,
+		0x0C535D1ACAFB8EADL, 0x6AC1E58032166597L, 0xF306F04AA88B54D3L};
+
+	/** Semente usada nos vetores de teste. */
+	private static final long SEED = 2025;
+
+	/** HASH de referência com {@link #SEED} para cada tamanho de {@link #LENGTHS}. */
+	private static final long[] SEEDED_HASHES = {
+		0x2CD6A94ECF9A406FL, 0x56F9BFEC9147274CL, 0x8F3F8A13CE8B3EEAL, 0xDD22D25992683C4EL,
+		0x235EC43B5F5E6E01L, 0xCDB7E60232DC56B2L, 0x0EE1E6B0B64280EEL, 0x017DA4845FE15D53L,
+		0x050DE22CB99BB1E4L, 0x50981BCD7B96E0FDL, 0xDF2C0BEB1251ABBAL};
+
+	/** Construtor padrão. */
+	public TestDigesterXXHash64() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterXXHash64}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterXXHash64.");
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterXXHash64}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterXXHash64.");
+	}
+
+	/**
+	 * Gera a entrada dos vetores de teste: {@code i % 251} para cada posição.
+	 *
+	 * @param length Tamanho da entrada.
+	 * @return Entrada do vetor.
+	 */
+	static byte[] input(int length) {
+		byte[] result = new byte[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = (byte) (i % 251);
+		}
+		return result;
+	}
+
+	/**
+	 * Teste para o método {@link DigesterXXHash64#getValue()} com os vetores de
+	 * referência.
+	 */
+	@Test
+	public void testGetValue() {
+		LOGGER.config("Testando DigesterXXHash64#getValue().");
+		DigesterChecksum xxhash = DigesterFactory.getInstance(AlgorithmType.XXHASH64);
+		DigesterChecksum seeded = DigesterFactory.getInstance(AlgorithmType.XXHASH64, SEED);
+		for (int i = 0; i < LENGTHS.length; i++) {
+			byte[] data = input(LENGTHS[i]);
+			xxhash.reset();
+			xxhash.update(data);
+			assertEquals(HASHES[i], xxhash.getValue());
+			seeded.reset();
+			seeded.update(data);
+			assertEquals(SEEDED_HASHES[i], seeded.getValue());
+		}
+	}
+
+	/**
+	 * Teste para o cálculo incremental de {@link DigesterXXHash64}, em partes
+	 * irregulares e com {@link ByteBuffer} diretos.
+	 */
+	@Test
+	public void testUpdateIncremental() {
+		LOGGER.config("Testando DigesterXXHash64 com atualizações incrementais.");
+		byte[] data = input(1000);
+		DigesterChecksum xxhash = DigesterFactory.getInstance(AlgorithmType.XXHASH64);
+		int offset = 0;
+		for (int step = 1; offset < data.length; step = step % 37 + 1) {
+			int length = Math.min(step, data.length - offset);
+			xxhash.update(data, offset, length);
+			offset += length;
+		}
+		assertEquals(HASHES[LENGTHS.length - 1], xxhash.getValue());
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data).flip();
+		for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			xxhash.reset();
+			xxhash.update(direct.duplicate().order(order).limit(5));
+			xxhash.update(direct.duplicate().order(order).position(5));
+			assertEquals(HASHES[LENGTHS.length - 1], xxhash.getValue());
+		}
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterXXHash64#digest()} e
+	 * {@link DigesterXXHash64#digestBytes()}.
+	 */
+	@Test
+	public void testDigest() {
+		LOGGER.config("Testando DigesterXXHash64#digest().");
+		DigesterChecksum xxhash = DigesterFactory.getInstance(AlgorithmType.XXHASH64);
+		xxhash.update("abc".getBytes(StandardCharsets.US_ASCII));
+		assertEquals("44bc2cf5ad770999", xxhash.digest());
+		assertArrayEquals(new byte[] {0x44, (byte) 0xBC, 0x2C, (byte) 0xF5, (byte) 0xAD, 0x77, 0x09, (byte) 0x99},
+				xxhash.digestBytes());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterFactory#getInstance(AlgorithmType, long)}
+	 * com um algorítimo nulo ou que não aceita semente.
+	 */
+	@Test
+	public void testSeedInvalid() {
+		LOGGER.config("Testando DigesterFactory#getInstance(AlgorithmType, long) com algorítimo inválido.");
+		assertThrows(DigesterException.class, () -> DigesterFactory.getInstance(AlgorithmType.SHA_256, SEED));
+		assertThrows(DigesterException.class, () -> DigesterFactory.getInstance(null, SEED));
+	}
+}
@@ -0,0 +1,109 @@
+package br.com.codesolver.digester.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.codesolver.digester.AlgorithmType;
+import br.com.codesolver.digester.DigesterChecksum;
+import br.com.codesolver.digester.DigesterFactory;
+import br.com.codesolver.digester.DigesterZip;
+
+/**
+ * Testes unitários para {@link DigesterZip}.
+ *
+ * @author <a href="mailto:luciano@codesolver.com.br">Luciano Vieira Rodrigues</a>
+ * @since 2026-10-18
+ */
+public class TestDigesterZip {
+
+	/** Log da classe. */
+	private static final Logger LOGGER = Logger.getLogger(TestDigesterZip.class.getName());
+
+	/** Texto de verificação padrão para algorítimos de CRC. */
+	private static final byte[] CHECK = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+	/** Construtor padrão. */
+	public TestDigesterZip() {
+	}
+
+	/**
+	 * Preparando a classe para teste de {@link DigesterZip}.
+	 */
+	@BeforeAll
+	public static void beforeClass() {
+		LOGGER.info("Inicializando os testes para DigesterZip.");
+	}
+
+	/**
+	 * Finalizando os testes da classe {@link DigesterZip}.
+	 */
+	@AfterAll
+	public static void afterClass() {
+		LOGGER.info("Finalizando os testes para DigesterZip.");
+	}
+
+	/**
+	 * Teste para o método {@link DigesterZip#getValue()} com CRC-32.
+	 */
+	@Test
+	public void testCRC32() {
+		LOGGER.config("Testando DigesterZip#getValue() com CRC-32.");
+		DigesterChecksum crc = DigesterFactory.getInstance(AlgorithmType.CRC32);
+		crc.update(CHECK);
+		assertEquals(0xCBF43926L, crc.getValue());
+		assertEquals("cbf43926", crc.digest());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterZip#getValue()} com CRC-32C.
+	 */
+	@Test
+	public void testCRC32C() {
+		LOGGER.config("Testando DigesterZip#getValue() com CRC-32C.");
+		DigesterChecksum crc = DigesterFactory.getInstance(AlgorithmType.CRC32C);
+		crc.update(CHECK, 0, 4);
+		crc.update(ByteBuffer.allocateDirect(5).put(CHECK, 4, 5).flip());
+		assertEquals(0xE3069283L, crc.getValue());
+	}
+
+	/**
+	 * Teste para o método {@link DigesterZip#getValue()} com Adler-32.
+	 */
+	@Test
+	public void testAdler32() {
+		LOGGER.config("Testando DigesterZip#getValue() com Adler-32.");
+		DigesterChecksum adler = DigesterFactory.getInstance(AlgorithmType.ADLER32);
+		ByteBuffer buffer = ByteBuffer.wrap(CHECK);
+		adler.update(buffer);
+		assertFalse(buffer.hasRemaining());
+		assertEquals(0x091E01DEL, adler.getValue());
+		adler.reset();
+		assertEquals(1L, adler.getValue());
+	}
+
+	/**
+	 * Teste para os métodos {@link DigesterZip#digestInto(byte[], int)} e
+	 * {@link DigesterZip#digestBytes()}.
+	 */
+	@Test
+	public void testDigestInto() {
+		LOGGER.config("Testando DigesterZip#digestInto(byte[], int).");
+		DigesterChecksum crc = DigesterFactory.getInstance(AlgorithmType.CRC32);
+		crc.update(CHECK);
+		byte[] expected = {(byte) 0xCB, (byte) 0xF4, 0x39, 0x26};
+		byte[] dst = new byte[5];
+		assertEquals(4, crc.getDigestLength());
+		assertEquals(4, crc.digestInto(dst, 1));
+		assertArrayEquals(expected, crc.digestBytes());
+		assertEquals(expected[3], dst[4]);
+	}
+}